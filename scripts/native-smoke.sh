@@ -0,0 +1,160 @@
+#!/usr/bin/env bash
+# 네이티브 이미지 스모크 테스트 + JVM 빌드와의 기동 시간/메모리 비교
+#
+# Keycloak 스텁(user-test-keycloak-stub)을 띄운 뒤 각 대상(native, jvm)에 대해
+#   1) 첫 요청 성공까지의 기동 시간
+#   2) 사용자 생성 → 로그인 → 역할 조회 스모크
+#   3) 스모크 이후 RSS
+# 를 측정합니다.
+#
+# 사전 준비: ./gradlew :user-test-keycloak-stub:installDist :user-test-boot:bootJar :user-test-boot:nativeCompile
+# 사용법:   scripts/native-smoke.sh [대상...]   (기본: native jvm)
+#
+# 환경 변수:
+#   PORT        애플리케이션 포트 (기본 18080)
+#   STUB_PORT   Keycloak 스텁 포트 (기본 18201)
+#   TIMEOUT_S   기동 대기 최대 시간 (기본 60)
+#   DB_TIMEOUT  DB 연결 타임아웃(ms). MariaDB 없이 실행하면 로컬 저장만 실패하고 스모크는 계속됩니다. (기본 2000)
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+NATIVE_BIN="$ROOT_DIR/user-test-boot/build/native/nativeCompile/user-test-boot"
+BOOT_JAR="$ROOT_DIR/user-test-boot/build/libs/user-test-boot-1.0.0-SNAPSHOT.jar"
+STUB_BIN="$ROOT_DIR/user-test-keycloak-stub/build/install/user-test-keycloak-stub/bin/user-test-keycloak-stub"
+
+PORT="${PORT:-18080}"
+STUB_PORT="${STUB_PORT:-18201}"
+TIMEOUT_S="${TIMEOUT_S:-60}"
+DB_TIMEOUT="${DB_TIMEOUT:-2000}"
+BASE_URL="http://localhost:${PORT}"
+
+TARGETS=("$@")
+if [[ ${#TARGETS[@]} -eq 0 ]]; then
+  TARGETS=(native jvm)
+fi
+
+APP_ARGS=(
+  "--server.port=${PORT}"
+  "--spring.profiles.active=prod"
+  "--keycloak.server-url=http://localhost:${STUB_PORT}"
+  "--spring.datasource.hikari.connection-timeout=${DB_TIMEOUT}"
+  "--spring.datasource.hikari.initialization-fail-timeout=-1"
+)
+
+STUB_PID=""
+APP_PID=""
+cleanup() {
+  [[ -n "$APP_PID" ]] && kill "$APP_PID" 2>/dev/null || true
+  [[ -n "$STUB_PID" ]] && kill "$STUB_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+now_ms() {
+  date +%s%3N
+}
+
+fail() {
+  echo "  FAIL: $*" >&2
+  return 1
+}
+
+# 스모크 요청: 사용자 생성 → 로그인 → 역할 조회
+run_smoke() {
+  local username="smoke_$(date +%s%N | tail -c 8)"
+  local status body
+
+  status="$(curl -s -o /tmp/smoke-create.json -w '%{http_code}' -X POST "$BASE_URL/api/v1/users/create" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${username}\",\"email\":\"${username}@example.com\",\"password\":\"smoke-pass\"}")"
+  [[ "$status" == "201" ]] || fail "user create returned $status: $(cat /tmp/smoke-create.json)" || return 1
+  echo "  create  201 ${username}"
+
+  status="$(curl -s -o /tmp/smoke-login.json -w '%{http_code}' -X POST "$BASE_URL/api/v1/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${username}\",\"password\":\"smoke-pass\"}")"
+  [[ "$status" == "200" ]] || fail "login returned $status: $(cat /tmp/smoke-login.json)" || return 1
+  grep -q 'access_token\|accessToken' /tmp/smoke-login.json || fail "login response has no token" || return 1
+  echo "  login   200"
+
+  status="$(curl -s -o /tmp/smoke-roles.json -w '%{http_code}' "$BASE_URL/api/v1/roles/user/${username}")"
+  [[ "$status" == "200" ]] || fail "role lookup returned $status: $(cat /tmp/smoke-roles.json)" || return 1
+  grep -q 'manage-account' /tmp/smoke-roles.json || fail "role lookup missing manage-account: $(cat /tmp/smoke-roles.json)" || return 1
+  echo "  roles   200 $(tr -d '\n' < /tmp/smoke-roles.json | head -c 120)"
+}
+
+rss_kb() {
+  ps -o rss= -p "$1" | tr -d ' '
+}
+
+# ===== Keycloak 스텁 기동 =====
+if [[ ! -x "$STUB_BIN" ]]; then
+  echo "Keycloak stub not built. Run: ./gradlew :user-test-keycloak-stub:installDist" >&2
+  exit 1
+fi
+"$STUB_BIN" "$STUB_PORT" >/tmp/keycloak-stub.log 2>&1 &
+STUB_PID=$!
+for _ in $(seq 1 100); do
+  curl -s -o /dev/null "http://localhost:${STUB_PORT}/admin/realms/any/users/count" && break
+  sleep 0.1
+done
+
+declare -A STARTUP RSS RESULT
+for target in "${TARGETS[@]}"; do
+  echo "== ${target}"
+  case "$target" in
+    native)
+      [[ -x "$NATIVE_BIN" ]] || { echo "  native binary not found: $NATIVE_BIN" >&2; RESULT[$target]="missing"; continue; }
+      started="$(now_ms)"
+      "$NATIVE_BIN" "${APP_ARGS[@]}" >/tmp/user-test-native.log 2>&1 &
+      ;;
+    jvm)
+      [[ -f "$BOOT_JAR" ]] || { echo "  bootJar not found: $BOOT_JAR" >&2; RESULT[$target]="missing"; continue; }
+      started="$(now_ms)"
+      java -jar "$BOOT_JAR" "${APP_ARGS[@]}" >/tmp/user-test-jvm.log 2>&1 &
+      ;;
+    *)
+      echo "Unknown target: $target" >&2
+      exit 1
+      ;;
+  esac
+  APP_PID=$!
+
+  ready=""
+  deadline=$((started + TIMEOUT_S * 1000))
+  while [[ "$(now_ms)" -lt "$deadline" ]] && kill -0 "$APP_PID" 2>/dev/null; do
+    if [[ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL/api/v1/auth/health" || true)" == "200" ]]; then
+      ready="$(( $(now_ms) - started ))"
+      break
+    fi
+    sleep 0.01
+  done
+
+  if [[ -z "$ready" ]]; then
+    echo "  application did not become ready (see /tmp/user-test-${target}.log)" >&2
+    RESULT[$target]="not-ready"
+  else
+    STARTUP[$target]="$ready"
+    if run_smoke; then
+      RESULT[$target]="ok"
+    else
+      RESULT[$target]="failed"
+    fi
+    RSS[$target]="$(rss_kb "$APP_PID")"
+  fi
+
+  kill "$APP_PID" 2>/dev/null || true
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+done
+
+echo
+printf '%-8s %-10s %12s %12s\n' "target" "smoke" "startup" "rss"
+exit_code=0
+for target in "${TARGETS[@]}"; do
+  startup="${STARTUP[$target]:-}"
+  rss="${RSS[$target]:-}"
+  printf '%-8s %-10s %12s %12s\n' "$target" "${RESULT[$target]:-}" \
+    "${startup:+${startup}ms}" "${rss:+$((rss / 1024))MB}"
+  [[ "${RESULT[$target]:-}" == "ok" ]] || exit_code=1
+done
+exit "$exit_code"
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# 운영 프로필 빠른 기동 실행 (AOT + AppCDS)
+#
+# 사전 준비: ./gradlew :user-test-boot:cdsArchive
+# 사용법:   JAVA_OPTS="-Xmx512m" scripts/run-prod.sh [애플리케이션 인자...]
+#           (JVM 옵션은 JAVA_OPTS, 인자는 메인 클래스 뒤에 전달 예: --server.port=8081)
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+APP_DIR="$ROOT_DIR/user-test-boot/build/cds/app"
+
+if [[ ! -f "$APP_DIR/classpath.args" ]]; then
+  echo "CDS layout not found. Run: ./gradlew :user-test-boot:cdsArchive" >&2
+  exit 1
+fi
+
+JVM_OPTS=(-Dspring.aot.enabled=true -Dspring.profiles.active=prod)
+if [[ -f "$APP_DIR/application.jsa" ]]; then
+  JVM_OPTS+=("-XX:SharedArchiveFile=application.jsa")
+fi
+if [[ -n "${JAVA_OPTS:-}" ]]; then
+  read -r -a EXTRA_OPTS <<< "$JAVA_OPTS"
+  JVM_OPTS+=("${EXTRA_OPTS[@]}")
+fi
+
+# 아카이브 생성 시와 같은 상대 클래스패스를 쓰기 위해 앱 디렉터리에서 실행
+cd "$APP_DIR"
+# JVM_OPTS 는 항상 비어 있지 않으므로 set -u 에서도 안전 (빈 배열 확장은 bash 4.4 미만에서 unbound 오류)
+exec java "${JVM_OPTS[@]}" \
+  @classpath.args \
+  com.example.usertest.UserTestApplication \
+  "$@"
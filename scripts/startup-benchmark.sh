@@ -0,0 +1,134 @@
+#!/usr/bin/env bash
+# 기동 시간 벤치마크: 프로세스 시작 → 첫 요청 성공(HTTP 200)까지의 시간(ms)
+#
+# 모드:
+#   jar      - 기본 bootJar (기본 프로필)
+#   prod     - bootJar + prod 프로필 (JPA 제외, springdoc 지연 초기화)
+#   aot      - prod + AOT (-Dspring.aot.enabled=true)
+#   aot-cds  - prod + AOT + AppCDS 아카이브
+#
+# 사전 준비: ./gradlew :user-test-boot:cdsArchive  (bootJar, AOT, CDS 아카이브 모두 생성)
+# 사용법:   scripts/startup-benchmark.sh [반복 횟수=5] [모드...]
+#   예)     scripts/startup-benchmark.sh 10 jar aot-cds
+#
+# 환경 변수:
+#   PORT        측정용 서버 포트 (기본 18080)
+#   PROBE_PATH  첫 요청 경로 (기본 /api/v1/auth/health)
+#   TIMEOUT_S   모드별 1회 최대 대기 시간 (기본 60)
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+BOOT_JAR="$ROOT_DIR/user-test-boot/build/libs/user-test-boot-1.0.0-SNAPSHOT.jar"
+CDS_DIR="$ROOT_DIR/user-test-boot/build/cds/app"
+MAIN_CLASS="com.example.usertest.UserTestApplication"
+
+RUNS="${1:-5}"
+shift || true
+MODES=("$@")
+if [[ ${#MODES[@]} -eq 0 ]]; then
+  MODES=(jar prod aot aot-cds)
+fi
+
+PORT="${PORT:-18080}"
+PROBE_PATH="${PROBE_PATH:-/api/v1/auth/health}"
+TIMEOUT_S="${TIMEOUT_S:-60}"
+PROBE_URL="http://localhost:${PORT}${PROBE_PATH}"
+
+if [[ ! -f "$BOOT_JAR" ]]; then
+  echo "bootJar not found: $BOOT_JAR (run ./gradlew :user-test-boot:cdsArchive)" >&2
+  exit 1
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+start_app() {
+  local mode="$1"
+  local common=(-Dserver.port="$PORT" -Dspring.main.banner-mode=off)
+  case "$mode" in
+    jar)
+      java "${common[@]}" -jar "$BOOT_JAR" >/dev/null 2>&1 &
+      ;;
+    prod)
+      java "${common[@]}" -Dspring.profiles.active=prod -jar "$BOOT_JAR" >/dev/null 2>&1 &
+      ;;
+    aot)
+      java "${common[@]}" -Dspring.profiles.active=prod -Dspring.aot.enabled=true \
+        -jar "$BOOT_JAR" >/dev/null 2>&1 &
+      ;;
+    aot-cds)
+      if [[ ! -f "$CDS_DIR/application.jsa" ]]; then
+        echo "CDS archive not found: $CDS_DIR/application.jsa" >&2
+        return 1
+      fi
+      (cd "$CDS_DIR" && exec java "${common[@]}" -XX:SharedArchiveFile=application.jsa \
+        -Dspring.profiles.active=prod -Dspring.aot.enabled=true \
+        @classpath.args "$MAIN_CLASS") >/dev/null 2>&1 &
+      ;;
+    *)
+      echo "Unknown mode: $mode" >&2
+      return 1
+      ;;
+  esac
+  echo $!
+}
+
+measure_once() {
+  local mode="$1"
+  local started pid elapsed deadline
+  started="$(now_ms)"
+  pid="$(start_app "$mode")"
+  deadline=$((started + TIMEOUT_S * 1000))
+
+  elapsed=""
+  while [[ "$(now_ms)" -lt "$deadline" ]]; do
+    if [[ "$(curl -s -o /dev/null -w '%{http_code}' "$PROBE_URL" 2>/dev/null || true)" == "200" ]]; then
+      elapsed=$(( $(now_ms) - started ))
+      break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+      break
+    fi
+    sleep 0.02
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  # 포트가 해제될 때까지 대기
+  while curl -s -o /dev/null "$PROBE_URL" 2>/dev/null; do sleep 0.1; done
+
+  if [[ -z "$elapsed" ]]; then
+    echo "FAILED"
+  else
+    echo "$elapsed"
+  fi
+}
+
+echo "Startup benchmark: runs=${RUNS}, probe=${PROBE_URL}"
+printf '%-8s %8s %8s %8s %8s\n' "mode" "min" "median" "max" "failed"
+
+for mode in "${MODES[@]}"; do
+  # 첫 실행은 OS 파일 캐시 워밍업용으로 제외
+  measure_once "$mode" >/dev/null
+
+  samples=()
+  failed=0
+  for ((i = 0; i < RUNS; i++)); do
+    result="$(measure_once "$mode")"
+    if [[ "$result" == "FAILED" ]]; then
+      failed=$((failed + 1))
+    else
+      samples+=("$result")
+    fi
+  done
+
+  if [[ ${#samples[@]} -eq 0 ]]; then
+    printf '%-8s %8s %8s %8s %8d\n' "$mode" "-" "-" "-" "$failed"
+    continue
+  fi
+
+  sorted=($(printf '%s\n' "${samples[@]}" | sort -n))
+  count=${#sorted[@]}
+  printf '%-8s %6dms %6dms %6dms %8d\n' "$mode" "${sorted[0]}" "${sorted[$((count / 2))]}" "${sorted[$((count - 1))]}" "$failed"
+done
@@ -0,0 +1,41 @@
+package com.example.usertest.api.config;
+
+import com.example.usertest.api.config.properties.StoreProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+
+/**
+ * 리액티브 체인에서 호출되는 블로킹 저장소(JDBC/MyBatis) 전용 스케줄러 설정
+ * 
+ * 스레드 수를 커넥션 풀 크기에 맞춰, 풀보다 많은 스레드가 커넥션을 기다리며
+ * 대기하지 않도록 제한합니다.
+ */
+@Configuration
+@Slf4j
+public class BlockingStoreSchedulerConfig {
+    
+    private static final int DEFAULT_POOL_SIZE = 10;
+    
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcStoreScheduler(StoreProperties storeProperties, ObjectProvider<DataSource> dataSource) {
+        StoreProperties.Scheduler scheduler = storeProperties.getScheduler();
+        int threads = scheduler.getMaxThreads() > 0 ? scheduler.getMaxThreads() : resolvePoolSize(dataSource);
+        
+        log.info("JDBC store scheduler: threads={}, queueCapacity={}", threads, scheduler.getQueueCapacity());
+        return Schedulers.newBoundedElastic(threads, scheduler.getQueueCapacity(), "jdbc-store");
+    }
+    
+    private int resolvePoolSize(ObjectProvider<DataSource> dataSource) {
+        if (dataSource.getIfAvailable() instanceof HikariDataSource hikariDataSource) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.usertest.api.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * springdoc 지연 초기화 설정
+ * 
+ * 전역 lazy-initialization 대신 springdoc 빈만 지연 초기화하여
+ * 기동 시 OpenAPI 스캔 비용을 첫 문서 요청 시점으로 미룹니다.
+ * (startup.lazy-springdoc=true, prod 프로필 기본값)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "startup", name = "lazy-springdoc", havingValue = "true")
+public class LazySpringdocConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocBeanFactoryPostProcessor() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+                String source = sourceClassName(beanDefinition);
+                if (source != null && source.startsWith(SPRINGDOC_PACKAGE)) {
+                    beanDefinition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * 빈을 정의한 클래스 이름 (@Bean 메서드는 선언 클래스 기준)
+     */
+    private static String sourceClassName(BeanDefinition beanDefinition) {
+        if (beanDefinition instanceof AnnotatedBeanDefinition annotated
+                && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return beanDefinition.getBeanClassName();
+    }
+}
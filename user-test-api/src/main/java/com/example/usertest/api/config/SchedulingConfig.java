@@ -0,0 +1,13 @@
+package com.example.usertest.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 작업(@Scheduled) 활성화
+ * 스레드 풀 크기는 spring.task.scheduling.pool.size 로 설정합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
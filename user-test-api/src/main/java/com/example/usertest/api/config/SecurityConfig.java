@@ -31,12 +31,18 @@ public class SecurityConfig {
             .authorizeHttpRequests(authz -> authz
                 // Public endpoints
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                // 프로비저닝 span 트리에는 사용자명/그룹명/오류 메시지가 포함되므로 관리자만 조회
+                .requestMatchers("/actuator/provisioningtraces", "/actuator/provisioningtraces/**").hasRole("ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/api/v1/auth/**").permitAll() // Allow auth endpoints
                 .requestMatchers("/api/v1/public/**").permitAll() // Allow public endpoints
                 .requestMatchers("/api/v1/users/create", "/api/v1/users/create-pulsar-system").permitAll() // Allow user creation
                 .requestMatchers("/api/v1/users/admin/health").permitAll() // Allow admin health check
+                // 여러 사용자의 realm 역할을 한 번에 바꾸므로 관리자만 허용 (아래 /api/v1/roles/** 보다 먼저 매칭)
+                .requestMatchers("/api/v1/roles/assign/bulk").hasRole("ADMIN")
                 .requestMatchers("/api/v1/roles/**").permitAll() // Allow role management endpoints
+                // 비동기 관리 작업은 역할 부여/사용자 생성을 대량으로 수행하므로 관리자만 접수/조회
+                .requestMatchers("/api/v1/jobs", "/api/v1/jobs/**").hasRole("ADMIN")
                 
                 // Role-based access control
                 .requestMatchers("/api/v1/user/**").hasRole("USER")
@@ -59,11 +65,15 @@ public class SecurityConfig {
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(this::extractAuthorities);
+        converter.setJwtGrantedAuthoritiesConverter(SecurityConfig::extractAuthorities);
         return converter;
     }
 
-    private Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
+    /**
+     * realm_access.roles 클레임을 ROLE_ 권한으로 변환
+     * 모든 인증 요청에서 호출되므로 벤치마크(user-test-bench)에서 접근할 수 있도록 패키지 범위로 둡니다.
+     */
+    static Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
         // Extract roles from realm_access.roles
         Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
         if (realmAccess == null) {
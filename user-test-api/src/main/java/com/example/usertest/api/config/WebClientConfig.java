@@ -1,26 +1,39 @@
 package com.example.usertest.api.config;
 
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.keycloak.KeycloakClientMetricsFilter;
+import com.example.usertest.api.service.keycloak.KeycloakConcurrencyLimitFilter;
+import com.example.usertest.api.service.keycloak.KeycloakLaneConnector;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
 
 import java.nio.charset.StandardCharsets;
 
 @Configuration
 public class WebClientConfig {
     
+    /**
+     * 구역(auth/admin/background)별 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public KeycloakLaneConnector keycloakLaneConnector(KeycloakProperties keycloakProperties) {
+        return new KeycloakLaneConnector(keycloakProperties.getLanes(), httpClient -> httpClient
+                .headers(headers -> headers.set("Accept-Charset", StandardCharsets.UTF_8.name())));
+    }
+    
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        HttpClient httpClient = HttpClient.create()
-                .headers(headers -> headers.set("Accept-Charset", StandardCharsets.UTF_8.name()));
-        
+    public WebClient.Builder webClientBuilder(KeycloakLaneConnector keycloakLaneConnector,
+                                              KeycloakClientMetricsFilter keycloakClientMetricsFilter,
+                                              KeycloakConcurrencyLimitFilter keycloakConcurrencyLimitFilter,
+                                              KeycloakProperties keycloakProperties) {
         return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .clientConnector(keycloakLaneConnector)
+                .filter(keycloakConcurrencyLimitFilter) // 구역 결정 + 구역별 적응형 동시 실행 제한 (대기 시간은 타이머에서 제외)
+                .filter(keycloakClientMetricsFilter) // Keycloak 작업별 타이머 (keycloak.client.requests)
                 .codecs(configurer -> {
                     configurer.defaultCodecs().maxInMemorySize(1024 * 1024); // 1MB
-                    configurer.defaultCodecs().enableLoggingRequestDetails(true);
+                    configurer.defaultCodecs().enableLoggingRequestDetails(keycloakProperties.isLogRequestDetails());
                 });
     }
     
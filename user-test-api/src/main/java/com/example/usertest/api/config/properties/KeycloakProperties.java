@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "keycloak")
@@ -14,11 +16,238 @@ public class KeycloakProperties {
     private String clientId;
     private String clientSecret;
     private String tokenEndpoint;
+    /**
+     * WebClient 요청 상세(헤더/폼 데이터) DEBUG 로깅. 비밀번호가 포함될 수 있으므로 로컬 디버깅용으로만 사용
+     */
+    private boolean logRequestDetails = false;
+    /**
+     * 그룹/클라이언트/역할 목록을 조회할 때의 페이지 크기 (first/max)
+     * 한 번에 한 페이지만 디코딩하므로 Realm 크기와 무관하게 메모리 사용량이 일정합니다.
+     */
+    private int adminPageSize = 100;
+    /**
+     * 기동 완료(ApplicationReadyEvent) 시 없는 기본 역할(admin, user, manager) 생성
+     */
+    private boolean bootstrapDefaultRoles = false;
+    /**
+     * /auth/login 에서 Keycloak 토큰 응답을 디코딩하지 않고 상태/헤더/본문 버퍼 그대로 전달
+     * 오류 응답도 Keycloak 형식(error, error_description)과 상태 코드를 그대로 받습니다.
+     */
+    private boolean tokenPassthrough = false;
     private Admin admin = new Admin();
+    private RoleRegistry roleRegistry = new RoleRegistry();
+    private RoleCache roleCache = new RoleCache();
+    private Bulk bulk = new Bulk();
+    private Lanes lanes = new Lanes();
+    private Sync sync = new Sync();
+    private Reconcile reconcile = new Reconcile();
+    private Jobs jobs = new Jobs();
     
     @Data
     public static class Admin {
         private String username;
         private String password;
     }
-}
\ No newline at end of file
+    
+    @Data
+    public static class RoleRegistry {
+        /**
+         * Realm 역할 스냅샷 유효 시간 (Keycloak 콘솔에서 직접 만든 역할이 반영되기까지의 최대 지연)
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+        /**
+         * 스냅샷에 없는 역할이 요청됐을 때 다시 읽는 최소 간격
+         */
+        private Duration missRefreshInterval = Duration.ofSeconds(10);
+    }
+    
+    @Data
+    public static class RoleCache {
+        private boolean enabled = true;
+        /**
+         * 사용자 역할 정보를 다시 조회하지 않고 그대로 쓰는 시간
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+        /**
+         * ttl 이후 백그라운드 갱신을 걸어 두고 이전 값을 계속 반환하는 최대 시간 (Keycloak 장애 시 버티는 시간)
+         */
+        private Duration maxStale = Duration.ofMinutes(10);
+        private int maxEntries = 10000;
+    }
+    
+    @Data
+    public static class Bulk {
+        /**
+         * 한 번의 일괄 요청(역할 일괄 변경/조회)에 포함할 수 있는 최대 사용자 수
+         */
+        private int maxUsers = 1000;
+        /**
+         * 사용자별 ID 확인/역할 매핑 변경·조회를 동시에 진행할 최대 사용자 수
+         */
+        private int concurrency = 8;
+        /**
+         * 로컬 users 테이블에서 keycloak_user_id 를 한 번에 조회할 사용자 수
+         */
+        private int lookupBatchSize = 500;
+    }
+    
+    @Data
+    public static class Lanes {
+        /**
+         * 사용자 로그인 토큰 발급
+         */
+        private Lane auth = Lane.of(100, Limiter.of(50, 4, 500, 1000, Duration.ofSeconds(1)));
+        /**
+         * 요청 처리 중 관리자 API 호출 (관리자 토큰 발급 포함)
+         */
+        private Lane admin = Lane.of(50, Limiter.of(20, 4, 200, 500, Duration.ofSeconds(2)));
+        /**
+         * 일괄 작업, 동기화/대사, 캐시 갱신 등 백그라운드 관리자 API 호출
+         */
+        private Lane background = Lane.of(20, Limiter.of(8, 1, 50, 5000, Duration.ofSeconds(30)));
+        /**
+         * auth/admin 구역이 바쁜 동안 background 구역에 허용하는 동시 호출 수
+         */
+        private int backgroundYieldLimit = 1;
+    }
+    
+    @Data
+    public static class Lane {
+        /**
+         * 구역 전용 커넥션 풀 크기와 커넥션 획득 대기 (넘으면 PoolAcquirePendingLimitException/Timeout)
+         */
+        private int maxConnections;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Limiter limiter;
+        
+        static Lane of(int maxConnections, Limiter limiter) {
+            Lane lane = new Lane();
+            lane.setMaxConnections(maxConnections);
+            lane.setLimiter(limiter);
+            return lane;
+        }
+    }
+    
+    @Data
+    public static class Limiter {
+        /**
+         * 구역의 적응형 동시 실행 제한 사용 여부
+         */
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        /**
+         * 이보다 오래 걸린 응답은 과부하 신호로 보고 limit 을 줄임 (감소 최소 간격으로도 사용)
+         */
+        private Duration slowCallThreshold = Duration.ofMillis(500);
+        /**
+         * 과부하 신호 시 limit 에 곱하는 비율
+         */
+        private double backoffRatio = 0.9;
+        /**
+         * limit 을 넘은 호출이 기다릴 수 있는 최대 개수와 시간 (넘으면 거절)
+         */
+        private int maxQueue = 500;
+        private Duration maxQueueWait = Duration.ofSeconds(2);
+        
+        static Limiter of(int initialLimit, int minLimit, int maxLimit, int maxQueue, Duration maxQueueWait) {
+            Limiter limiter = new Limiter();
+            limiter.setInitialLimit(initialLimit);
+            limiter.setMinLimit(minLimit);
+            limiter.setMaxLimit(maxLimit);
+            limiter.setMaxQueue(maxQueue);
+            limiter.setMaxQueueWait(maxQueueWait);
+            return limiter;
+        }
+    }
+    
+    @Data
+    public static class Sync {
+        /**
+         * inline: 요청 처리 중 Keycloak 생성 후 로컬 저장
+         * outbox: 로컬 저장 + 아웃박스 기록 후 디스패처가 비동기로 Keycloak 생성
+         */
+        private Mode mode = Mode.INLINE;
+        private int batchSize = 50;
+        private int concurrency = 8;
+        private int maxAttempts = 10;
+        private Duration initialBackoff = Duration.ofSeconds(5);
+        private Duration maxBackoff = Duration.ofMinutes(10);
+        private Duration lease = Duration.ofMinutes(2);
+        /**
+         * 대기 중인 본문의 비밀번호 암호화 키 (Base64, AES 16/24/32바이트)
+         * 비어 있으면 기동마다 임시 키를 사용하므로, 재기동 전에 기록된 대기 건은 복호화되지 않고 실패 처리됩니다.
+         */
+        private String credentialKey;
+        
+        public enum Mode {
+            INLINE,
+            OUTBOX
+        }
+    }
+    
+    @Data
+    public static class Reconcile {
+        /**
+         * Keycloak ↔ users 대사 작업 활성화 (실행 주기: keycloak.reconcile.interval-ms)
+         */
+        private boolean enabled = false;
+        private int pageSize = 500;
+        private int concurrency = 4;
+        private int writeBatchSize = 500;
+        /**
+         * 전체 대사 주기, 그 사이에는 관리자 이벤트 기반 증분 대사만 수행
+         */
+        private Duration fullInterval = Duration.ofHours(24);
+        /**
+         * 증분 구간 시작점을 앞당기는 여유 시간 (시계 오차/지연 기록 보정)
+         */
+        private Duration windowOverlap = Duration.ofMinutes(2);
+        /**
+         * Keycloak에서 삭제된 사용자의 keycloak_user_id 연결 해제 여부 (false면 보고만)
+         */
+        private boolean unlinkOrphans = false;
+        private Duration lease = Duration.ofMinutes(30);
+    }
+    
+    @Data
+    public static class Jobs {
+        /**
+         * 이 인스턴스에서 작업 워커 실행 여부 (false면 접수/조회만 처리)
+         */
+        private boolean workerEnabled = true;
+        /**
+         * 동시에 실행할 최대 작업 수 (워커 스레드 수, 폴링마다 빈 자리만큼 선점)
+         */
+        private int workers = 2;
+        /**
+         * 작업 선점 주기 (워커 전용 스레드에서 실행하므로 @Scheduled 풀의 다른 작업에 막히지 않음)
+         */
+        private long pollIntervalMs = 1000;
+        /**
+         * 한 번에 처리하고 결과를 기록하는 항목 수
+         */
+        private int chunkSize = 100;
+        /**
+         * 사용자 일괄 생성 시 묶음 내 동시 처리 수 (역할 일괄 변경은 keycloak.bulk.concurrency)
+         */
+        private int concurrency = 8;
+        private int maxItems = 100000;
+        /**
+         * 선점 유지 시간, 묶음마다 연장하며 인스턴스가 죽으면 이 시간 뒤 다른 인스턴스가 이어서 처리
+         */
+        private Duration lease = Duration.ofMinutes(5);
+        /**
+         * 오류로 중단된 작업을 다시 선점하기까지의 대기 시간
+         */
+        private Duration retryDelay = Duration.ofSeconds(30);
+        private int maxAttempts = 10;
+        /**
+         * 진행률 스트림(SSE)의 상태 확인 간격과 한 연결의 최대 유지 시간 (이후 클라이언트가 재연결)
+         */
+        private Duration progressInterval = Duration.ofSeconds(1);
+        private Duration streamDuration = Duration.ofSeconds(25);
+    }
+}
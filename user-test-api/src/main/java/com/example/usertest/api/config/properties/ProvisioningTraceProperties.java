@@ -0,0 +1,24 @@
+package com.example.usertest.api.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 프로비저닝 span 트리 수집 설정 (actuator provisioningtraces 엔드포인트)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "observability.provisioning-trace")
+public class ProvisioningTraceProperties {
+
+    /**
+     * false이면 span 트리를 수집하지 않음 (keycloak.provisioning 타이머는 계속 기록)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 보관할 최근 트리 수 (링 버퍼 크기)
+     */
+    private int capacity = 100;
+}
@@ -0,0 +1,27 @@
+package com.example.usertest.api.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "store")
+public class StoreProperties {
+    
+    private String type = "mybatis";
+    private Scheduler scheduler = new Scheduler();
+    
+    @Data
+    public static class Scheduler {
+        /**
+         * 블로킹 저장소 호출 전용 스레드 수 (0이면 Hikari maximum-pool-size 사용)
+         */
+        private int maxThreads = 0;
+        private int queueCapacity = 1000;
+        /**
+         * true이면 이벤트 루프(논블로킹) 스레드에서 블로킹 저장소 호출 시 예외 발생 (테스트/검증용)
+         */
+        private boolean failOnEventLoop = false;
+    }
+}
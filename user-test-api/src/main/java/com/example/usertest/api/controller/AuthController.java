@@ -10,15 +10,25 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("${api.prefix:/api/v1}/auth")
@@ -27,6 +37,12 @@ import java.util.Map;
 @Tag(name = "Authentication", description = "APIs for user authentication and token management")
 public class AuthController {
     
+    /**
+     * 토큰 응답 전달 시 옮기는 헤더 (연결/인코딩 관련 헤더는 서블릿 컨테이너가 다시 정함)
+     */
+    private static final List<String> PASSTHROUGH_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CACHE_CONTROL, HttpHeaders.PRAGMA);
+    
     private final KeycloakTokenService keycloakTokenService;
     private final KeycloakProperties keycloakProperties;
     
@@ -57,9 +73,13 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = String.class))
         )
     })
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletResponse response) throws IOException {
         log.info("Login attempt for user: {}", loginRequest.getUsername());
         
+        if (keycloakProperties.isTokenPassthrough()) {
+            return passThroughToken(loginRequest, response);
+        }
+        
         try {
             TokenResponse tokenResponse = keycloakTokenService.getToken(loginRequest);
             
@@ -67,22 +87,9 @@ public class AuthController {
             return ResponseEntity.ok(tokenResponse);
             
         } catch (RuntimeException e) {
-            log.warn("Authentication failed for user {}: {}", loginRequest.getUsername(), e.getMessage());
-            
-            if (e.getMessage().contains("Authentication failed")) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body("Invalid username or password");
-            } else if (e.getMessage().contains("service unavailable")) {
-                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                        .body("Authentication service is currently unavailable");
-            } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body("Login request failed: " + e.getMessage());
-            }
+            return loginFailed(loginRequest, e);
         } catch (Exception e) {
-            log.error("Unexpected error during login for user {}", loginRequest.getUsername(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("An unexpected error occurred");
+            return unexpectedLoginError(loginRequest, e);
         }
     }
     
@@ -222,6 +229,86 @@ public class AuthController {
         }
     }
     
+    /**
+     * 토큰 전달 모드의 로그인 처리
+     * 응답이 커밋되기 전 실패는 응답을 비우고 일반 오류 응답으로 바꾸며,
+     * 이미 커밋된 뒤의 실패는 다른 응답을 덧쓸 수 없으므로 예외를 다시 던져 연결을 끊게 합니다.
+     */
+    private ResponseEntity<?> passThroughToken(LoginRequest loginRequest, HttpServletResponse response) throws IOException {
+        ResponseEntity<Flux<DataBuffer>> upstream;
+        try {
+            upstream = keycloakTokenService.exchangeToken(loginRequest);
+        } catch (RuntimeException e) {
+            return loginFailed(loginRequest, e);
+        }
+        
+        try {
+            writeTokenResponse(upstream, response);
+        } catch (IOException | RuntimeException e) {
+            if (response.isCommitted()) {
+                log.warn("Token response for user {} aborted after commit: {}", loginRequest.getUsername(), e.toString());
+                throw e;
+            }
+            response.reset();
+            return e instanceof RuntimeException runtimeException
+                    ? loginFailed(loginRequest, runtimeException)
+                    : unexpectedLoginError(loginRequest, e);
+        }
+        
+        log.info("Token response for user {} passed through (status {})",
+                loginRequest.getUsername(), upstream.getStatusCode().value());
+        // 응답을 직접 썼으므로 MVC 가 더 쓰지 않도록 null 반환
+        return null;
+    }
+    
+    private ResponseEntity<String> loginFailed(LoginRequest loginRequest, RuntimeException e) {
+        log.warn("Authentication failed for user {}: {}", loginRequest.getUsername(), e.getMessage());
+        
+        String message = Objects.requireNonNullElse(e.getMessage(), "");
+        if (message.contains("Authentication failed")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("Invalid username or password");
+        } else if (message.contains("service unavailable")) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("Authentication service is currently unavailable");
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Login request failed: " + message);
+        }
+    }
+    
+    private ResponseEntity<String> unexpectedLoginError(LoginRequest loginRequest, Exception e) {
+        log.error("Unexpected error during login for user {}", loginRequest.getUsername(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An unexpected error occurred");
+    }
+    
+    /**
+     * Keycloak 토큰 응답을 디코딩 없이 그대로 전달합니다. (keycloak.token-passthrough)
+     * 상태 코드와 본문 관련 헤더만 옮기고, 본문은 받은 버퍼 순서대로 요청 스레드에서 바로 씁니다.
+     */
+    private void writeTokenResponse(ResponseEntity<Flux<DataBuffer>> upstream, HttpServletResponse response) throws IOException {
+        response.setStatus(upstream.getStatusCode().value());
+        PASSTHROUGH_HEADERS.forEach(name -> {
+            String value = upstream.getHeaders().getFirst(name);
+            if (value != null) {
+                response.setHeader(name, value);
+            }
+        });
+        
+        Flux<DataBuffer> body = upstream.getBody() != null ? upstream.getBody() : Flux.empty();
+        OutputStream out = response.getOutputStream();
+        // 쓰기 도중 실패하면 Stream 을 닫아 남은 본문 구독을 취소 (커넥션 반환)
+        try (Stream<DataBuffer> buffers = body.toStream()) {
+            for (DataBuffer buffer : (Iterable<DataBuffer>) buffers::iterator) {
+                try (InputStream in = buffer.asInputStream(true)) {
+                    in.transferTo(out);
+                }
+            }
+        }
+        out.flush();
+    }
+    
     /**
      * Authorization 헤더에서 Bearer 토큰을 추출합니다.
      */
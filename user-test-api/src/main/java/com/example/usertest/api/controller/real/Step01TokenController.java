@@ -1,5 +1,6 @@
 package com.example.usertest.api.controller.real;
 
+import com.example.usertest.api.logging.LogMarkers;
 import com.example.usertest.api.service.UserService;
 import com.example.usertest.api.service.auth.KeycloakTokenService;
 import com.example.usertest.domain.User;
@@ -92,7 +93,7 @@ public class Step01TokenController {
         )
     })
     public ResponseEntity<?> step01Login(@Valid @RequestBody LoginRequest loginRequest) {
-        log.info("🔑 Step01 로그인 시도 - 사용자: {}", loginRequest.getUsername());
+        log.atDebug().addKeyValue("username", loginRequest.getUsername()).log("Step01 로그인 시도");
         
         try {
             // 1단계: DB 우선 접근법 - 우리 데이터베이스에서 사용자 존재 확인
@@ -123,14 +124,16 @@ public class Step01TokenController {
                         ));
             }
             
-            log.info("✅ 사용자 {} DB 검증 완료 및 활성화 확인. Keycloak 토큰 발급 진행", 
-                    loginRequest.getUsername());
+            log.atDebug().addKeyValue("username", loginRequest.getUsername())
+                    .log("DB 검증 완료 및 활성화 확인, Keycloak 토큰 발급 진행");
             
             // 3단계: 사용자가 존재하고 활성화되어 있으므로 Keycloak 토큰 발급 진행
             TokenResponse tokenResponse = keycloakTokenService.getToken(loginRequest);
             
-            log.info("🎉 Step01 로그인 성공 - 사용자: {} (DB user_seq: {})", 
-                    loginRequest.getUsername(), user.getId());
+            log.atInfo().addMarker(LogMarkers.SAMPLED)
+                    .addKeyValue("username", loginRequest.getUsername())
+                    .addKeyValue("userSeq", user.getId())
+                    .log("Step01 로그인 성공");
             
             // 성공 응답: 토큰 정보와 데이터베이스 사용자 정보를 함께 반환
             return ResponseEntity.ok(Map.of(
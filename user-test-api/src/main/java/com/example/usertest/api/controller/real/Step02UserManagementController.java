@@ -1,6 +1,8 @@
 package com.example.usertest.api.controller.real;
 
-import com.example.usertest.api.service.UserService;
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.logging.LogMarkers;
+import com.example.usertest.api.service.ReactiveUserService;
 import com.example.usertest.api.service.keycloak.KeycloakAdminService;
 import com.example.usertest.domain.User;
 import com.example.usertest.domain.dto.UserDto;
@@ -37,7 +39,8 @@ import reactor.core.publisher.Mono;
 public class Step02UserManagementController {
 
     private final KeycloakAdminService keycloakAdminService;
-    private final UserService userService;
+    private final ReactiveUserService reactiveUserService;
+    private final KeycloakProperties keycloakProperties;
 
     /**
      * 💫 일반 사용자 생성 API
@@ -58,6 +61,11 @@ public class Step02UserManagementController {
             description = "사용자 생성 성공",
             content = @Content(schema = @Schema(implementation = KeycloakUserCreateResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "202", 
+            description = "사용자 생성 접수 (keycloak.sync.mode=outbox)",
+            content = @Content(schema = @Schema(implementation = KeycloakUserCreateResponse.class))
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "잘못된 요청 데이터",
@@ -77,7 +85,7 @@ public class Step02UserManagementController {
     public Mono<ResponseEntity<KeycloakUserCreateResponse>> createUser(
             @RequestBody @Parameter(description = "사용자 생성 요청 정보") KeycloakUserCreateRequest createRequest) {
         
-        log.info("👤 일반 사용자 생성 요청: {}", createRequest.getUsername());
+        log.atDebug().addKeyValue("username", createRequest.getUsername()).log("일반 사용자 생성 요청");
 
         // 입력 데이터 검증
         if (createRequest.getUsername() == null || createRequest.getUsername().trim().isEmpty()) {
@@ -114,14 +122,20 @@ public class Step02UserManagementController {
             finalCreateRequest = createRequest;
         }
 
+        if (isOutboxMode()) {
+            return acceptWithOutbox(finalCreateRequest, "USER");
+        }
+
         return keycloakAdminService.createUser(finalCreateRequest)
                 .flatMap(keycloakResponse -> {
                     if (keycloakResponse.isSuccess()) {
                         // Keycloak 생성 성공 시 로컬 DB에도 저장
                         return saveToLocalDatabase(finalCreateRequest, keycloakResponse.getKeycloakUserId())
                                 .map(localUser -> {
-                                    log.info("✅ 로컬 DB 동기화 완료: {} → {}", 
-                                            keycloakResponse.getUsername(), localUser.getId());
+                                    log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                            .addKeyValue("username", keycloakResponse.getUsername())
+                                            .addKeyValue("userSeq", localUser.getId())
+                                            .log("로컬 DB 동기화 완료");
                                     return ResponseEntity.status(HttpStatus.CREATED).body(keycloakResponse);
                                 })
                                 .onErrorResume(ex -> {
@@ -158,6 +172,11 @@ public class Step02UserManagementController {
             description = "Pulsar 시스템 사용자 생성 성공",
             content = @Content(schema = @Schema(implementation = KeycloakUserCreateResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "202", 
+            description = "사용자 생성 접수 (keycloak.sync.mode=outbox)",
+            content = @Content(schema = @Schema(implementation = KeycloakUserCreateResponse.class))
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "잘못된 요청 데이터",
@@ -197,6 +216,10 @@ public class Step02UserManagementController {
                     .body(KeycloakUserCreateResponse.failure("비밀번호는 필수입니다.")));
         }
 
+        if (isOutboxMode()) {
+            return acceptWithOutbox(KeycloakUserCreateRequest.forPulsarSystem(username, email, password), "ADMIN");
+        }
+
         return keycloakAdminService.createPulsarSystemUser(username, email, password)
                 .flatMap(keycloakResponse -> {
                     if (keycloakResponse.isSuccess()) {
@@ -272,22 +295,52 @@ public class Step02UserManagementController {
      * @return 저장된 사용자 정보
      */
     private Mono<User> saveToLocalDatabase(KeycloakUserCreateRequest createRequest, String keycloakUserId, String role) {
-        return Mono.fromCallable(() -> {
-            UserDto userDto = UserDto.builder()
-                    .username(createRequest.getUsername())
-                    .email(createRequest.getEmail())
-                    .role(role)
-                    .enabled(createRequest.getEnabled())
-                    .build();
-            
-            User savedUser = userService.createUser(userDto);
-            
-            // Keycloak 사용자 ID를 별도로 업데이트 (UserDto에 keycloakUserId 필드가 없으므로)
-            // 실제로는 UserDto에 keycloakUserId 필드를 추가하거나, 별도 업데이트 로직 필요
-            savedUser.setKeycloakUserId(keycloakUserId);
-            
-            return savedUser;
-        });
+        UserDto userDto = UserDto.builder()
+                .username(createRequest.getUsername())
+                .email(createRequest.getEmail())
+                .role(role)
+                .enabled(createRequest.getEnabled())
+                .build();
+        
+        // store.type 설정에 따라 R2DBC(논블로킹) 또는 MyBatis(JDBC) 경로로 저장
+        return reactiveUserService.createUser(userDto, keycloakUserId);
+    }
+
+    private boolean isOutboxMode() {
+        return keycloakProperties.getSync().getMode() == KeycloakProperties.Sync.Mode.OUTBOX;
+    }
+
+    /**
+     * 로컬 사용자와 아웃박스 이벤트를 함께 저장하고 202 Accepted 반환
+     * Keycloak 생성은 KeycloakSyncDispatcher가 재시도와 함께 수행합니다.
+     * 
+     * @param createRequest Keycloak 사용자 생성 요청
+     * @param role 로컬 사용자 역할
+     * @return 접수 결과
+     */
+    private Mono<ResponseEntity<KeycloakUserCreateResponse>> acceptWithOutbox(
+            KeycloakUserCreateRequest createRequest, String role) {
+        UserDto userDto = UserDto.builder()
+                .username(createRequest.getUsername())
+                .email(createRequest.getEmail())
+                .role(role)
+                .enabled(createRequest.getEnabled())
+                .build();
+
+        return reactiveUserService.createUserWithOutbox(userDto, createRequest)
+                .map(localUser -> {
+                    log.atInfo().addMarker(LogMarkers.SAMPLED)
+                            .addKeyValue("username", createRequest.getUsername())
+                            .addKeyValue("userSeq", localUser.getId())
+                            .log("Keycloak 동기화 이벤트 접수");
+                    return ResponseEntity.status(HttpStatus.ACCEPTED)
+                            .body(KeycloakUserCreateResponse.accepted(createRequest.getUsername(), createRequest.getEmail()));
+                })
+                .onErrorResume(ex -> {
+                    log.warn("⚠️ 사용자 생성 접수 실패: {}", ex.getMessage());
+                    return Mono.just(ResponseEntity.status(determineErrorStatus(ex.getMessage()))
+                            .body(KeycloakUserCreateResponse.failure(ex.getMessage())));
+                });
     }
 
     /**
@@ -1,9 +1,17 @@
 package com.example.usertest.api.controller.real;
 
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.logging.LogMarkers;
+import com.example.usertest.api.service.keycloak.BulkRoleAssignValidation;
+import com.example.usertest.api.service.keycloak.BulkRoleAssignmentService;
 import com.example.usertest.api.service.keycloak.KeycloakAdminService;
+import com.example.usertest.api.service.keycloak.UserRoleBatchService;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignRequest;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignResult;
 import com.example.usertest.domain.dto.keycloak.RoleAssignRequest;
 import com.example.usertest.domain.dto.keycloak.RoleCreateRequest;
 import com.example.usertest.domain.dto.keycloak.RoleResponse;
+import com.example.usertest.domain.dto.keycloak.UserRoleBatchRequest;
 import com.example.usertest.domain.dto.keycloak.UserRoleResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,10 +23,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 3단계: 역할 관리 API 컨트롤러
  * Keycloak 역할 생성, 할당, 조회 기능 제공
@@ -26,7 +39,8 @@ import reactor.core.publisher.Mono;
  * 주요 기능:
  * - Keycloak 역할 생성 (admin, user, manager)
  * - 사용자에게 역할 할당/제거
- * - 사용자 역할 조회
+ * - 여러 사용자 역할 일괄 변경
+ * - 사용자 역할 조회 (단건/일괄)
  * - 기본 역할 일괄 생성
  */
 @RestController
@@ -37,6 +51,9 @@ import reactor.core.publisher.Mono;
 public class Step03RoleManagementController {
 
     private final KeycloakAdminService keycloakAdminService;
+    private final BulkRoleAssignmentService bulkRoleAssignmentService;
+    private final UserRoleBatchService userRoleBatchService;
+    private final KeycloakProperties keycloakProperties;
 
     /**
      * 🎯 개별 역할 생성 API
@@ -75,7 +92,7 @@ public class Step03RoleManagementController {
     public Mono<ResponseEntity<RoleResponse>> createRole(
             @RequestBody @Parameter(description = "역할 생성 요청 정보") RoleCreateRequest roleRequest) {
         
-        log.info("🎯 역할 생성 요청: {}", roleRequest.getRoleName());
+        log.atDebug().addKeyValue("role", roleRequest.getRoleName()).log("역할 생성 요청");
 
         // 입력 데이터 검증
         if (roleRequest.getRoleName() == null || roleRequest.getRoleName().trim().isEmpty()) {
@@ -86,7 +103,9 @@ public class Step03RoleManagementController {
         return keycloakAdminService.createRole(roleRequest)
                 .map(roleResponse -> {
                     if (roleResponse.isSuccess()) {
-                        log.info("✅ 역할 생성 완료: {}", roleResponse.getRoleName());
+                        log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                .addKeyValue("role", roleResponse.getRoleName())
+                                .log("역할 생성 완료");
                         return ResponseEntity.status(HttpStatus.CREATED).body(roleResponse);
                     } else {
                         log.warn("❌ 역할 생성 실패: {}", roleResponse.getErrorMessage());
@@ -127,12 +146,17 @@ public class Step03RoleManagementController {
     })
     public Mono<ResponseEntity<String>> createDefaultRoles() {
         
-        log.info("🏗️ 기본 역할 일괄 생성 요청 (admin, user, manager)");
+        log.atDebug().log("기본 역할 일괄 생성 요청");
 
         return keycloakAdminService.createDefaultRoles()
-                .map(result -> {
-                    log.info("✅ 기본 역할 생성 완료");
-                    return ResponseEntity.ok("✅ 기본 역할(admin, user, manager) 생성이 완료되었습니다.");
+                .map(created -> {
+                    if (created.isEmpty()) {
+                        return ResponseEntity.ok("✅ 기본 역할(admin, user, manager)이 이미 모두 존재합니다.");
+                    }
+                    log.atInfo().addMarker(LogMarkers.SAMPLED)
+                            .addKeyValue("roles", created)
+                            .log("기본 역할 생성 완료");
+                    return ResponseEntity.ok("✅ 기본 역할 생성이 완료되었습니다: " + created);
                 })
                 .onErrorResume(ex -> {
                     log.error("❌ 기본 역할 생성 중 오류: {}", ex.getMessage(), ex);
@@ -179,7 +203,10 @@ public class Step03RoleManagementController {
     public Mono<ResponseEntity<RoleResponse>> assignRolesToUser(
             @RequestBody @Parameter(description = "역할 할당 요청 정보") RoleAssignRequest assignRequest) {
         
-        log.info("👤 사용자 역할 할당 요청: {} → {}", assignRequest.getUsername(), assignRequest.getRoles());
+        log.atDebug()
+                .addKeyValue("username", assignRequest.getUsername())
+                .addKeyValue("roles", assignRequest.getRoles())
+                .log("사용자 역할 할당 요청");
 
         // 입력 데이터 검증
         if (assignRequest.getUsername() == null || assignRequest.getUsername().trim().isEmpty()) {
@@ -195,7 +222,10 @@ public class Step03RoleManagementController {
         return keycloakAdminService.assignRolesToUser(assignRequest)
                 .map(roleResponse -> {
                     if (roleResponse.isSuccess()) {
-                        log.info("✅ 역할 할당 완료: {} → {}", assignRequest.getUsername(), assignRequest.getRoles());
+                        log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                .addKeyValue("username", assignRequest.getUsername())
+                                .addKeyValue("roles", assignRequest.getRoles())
+                                .log("역할 할당 완료");
                         return ResponseEntity.ok(roleResponse);
                     } else {
                         log.warn("❌ 역할 할당 실패: {}", roleResponse.getErrorMessage());
@@ -210,6 +240,56 @@ public class Step03RoleManagementController {
                 });
     }
 
+    /**
+     * 👥 사용자 역할 일괄 변경 API
+     * 여러 사용자에게 같은 역할 추가/제거를 한 번에 적용하고, 사용자별 결과를 NDJSON 으로 스트리밍
+     * 
+     * @param bulkRequest 역할 일괄 변경 요청 정보
+     * @return 사용자별 결과 스트림 (완료 순서)
+     */
+    @PostMapping(value = "/assign/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "사용자 역할 일괄 변경",
+        description = "여러 사용자에게 역할 추가/제거를 한 번에 적용합니다. " +
+                     "역할 조회와 관리자 토큰 발급은 요청당 한 번만 수행하며, 사용자별 결과를 한 줄씩(NDJSON) 반환합니다. " +
+                     "ADMIN 역할이 필요합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200", 
+            description = "사용자별 결과 스트림 (개별 실패는 success=false 로 표시)",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BulkRoleAssignResult.class))
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "잘못된 요청 데이터",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BulkRoleAssignResult.class))
+        )
+    })
+    public ResponseEntity<Flux<BulkRoleAssignResult>> assignRolesInBulk(
+            @RequestBody @Parameter(description = "역할 일괄 변경 요청 정보") BulkRoleAssignRequest bulkRequest) {
+
+        log.atDebug()
+                .addKeyValue("users", bulkRequest.getUsernames() != null ? bulkRequest.getUsernames().size() : 0)
+                .addKeyValue("addRoles", bulkRequest.getAddRoles())
+                .addKeyValue("removeRoles", bulkRequest.getRemoveRoles())
+                .log("사용자 역할 일괄 변경 요청");
+
+        // 입력 데이터 검증
+        String error = BulkRoleAssignValidation.validate(bulkRequest, keycloakProperties.getBulk().getMaxUsers());
+        if (error != null) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(Flux.just(BulkRoleAssignResult.failure(null, null, error)));
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(bulkRoleAssignmentService.assign(bulkRequest));
+    }
+
     /**
      * 🔍 사용자 역할 조회 API
      * 특정 사용자의 현재 역할 정보를 조회
@@ -242,7 +322,7 @@ public class Step03RoleManagementController {
     public Mono<ResponseEntity<UserRoleResponse>> getUserRoles(
             @PathVariable @Parameter(description = "조회할 사용자명", example = "test_user") String username) {
         
-        log.info("🔍 사용자 역할 조회 요청: {}", username);
+        log.atDebug().addKeyValue("username", username).log("사용자 역할 조회 요청");
 
         // 사용자명 검증
         if (username == null || username.trim().isEmpty()) {
@@ -253,7 +333,10 @@ public class Step03RoleManagementController {
         return keycloakAdminService.getUserRoles(username)
                 .map(userRoleResponse -> {
                     if (userRoleResponse.isSuccess()) {
-                        log.info("✅ 사용자 역할 조회 완료: {} → {}", username, userRoleResponse.getAllRoles());
+                        log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                .addKeyValue("username", username)
+                                .addKeyValue("roles", userRoleResponse.getAllRoles())
+                                .log("사용자 역할 조회 완료");
                         return ResponseEntity.ok(userRoleResponse);
                     } else {
                         log.warn("❌ 사용자 역할 조회 실패: {}", userRoleResponse.getErrorMessage());
@@ -268,6 +351,45 @@ public class Step03RoleManagementController {
                 });
     }
 
+    /**
+     * 🔍 사용자 역할 일괄 조회 API
+     * 여러 사용자의 역할 정보를 한 번에 조회 (관리자 토큰 공유, 사용자 ID 묶음 조회)
+     * 
+     * @param batchRequest 일괄 조회 요청 정보
+     * @return 사용자명 → 역할 정보 (개별 실패는 success=false)
+     */
+    @PostMapping("/users/batch")
+    @Operation(
+        summary = "사용자 역할 일괄 조회",
+        description = "여러 사용자의 역할 정보(realm 역할, client 역할, 그룹)를 한 번에 조회합니다. " +
+                     "사용자명을 키로 하는 맵을 반환하며, 찾을 수 없는 사용자는 success=false 로 표시됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "사용자 역할 일괄 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public Mono<ResponseEntity<Map<String, UserRoleResponse>>> getUserRolesInBatch(
+            @RequestBody @Parameter(description = "일괄 조회 요청 정보") UserRoleBatchRequest batchRequest) {
+
+        List<String> usernames = batchRequest.getUsernames();
+        log.atDebug().addKeyValue("users", usernames != null ? usernames.size() : 0).log("사용자 역할 일괄 조회 요청");
+
+        // 입력 데이터 검증
+        String error = BulkRoleAssignValidation.validateUsernames(usernames, keycloakProperties.getBulk().getMaxUsers());
+        if (error != null) {
+            log.warn("❌ 사용자 역할 일괄 조회 요청 오류: {}", error);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return userRoleBatchService.getUserRoles(usernames)
+                .map(ResponseEntity::ok)
+                .onErrorResume(ex -> {
+                    log.error("❌ 사용자 역할 일괄 조회 중 예외 발생: {}", ex.getMessage(), ex);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
+    }
+
     /**
      * 📋 역할 관리 서비스 상태 확인 API
      * Keycloak Admin 역할 관리 기능 상태 확인
@@ -284,11 +406,11 @@ public class Step03RoleManagementController {
         @ApiResponse(responseCode = "503", description = "Keycloak Admin API 연결 실패")
     })
     public Mono<ResponseEntity<String>> checkRoleManagementHealth() {
-        log.info("📋 역할 관리 서비스 상태 확인");
+        log.atDebug().log("역할 관리 서비스 상태 확인");
 
         return keycloakAdminService.getAdminToken()
                 .map(token -> {
-                    log.info("✅ 역할 관리 서비스 연결 정상");
+                    log.atInfo().addMarker(LogMarkers.SAMPLED).log("역할 관리 서비스 연결 정상");
                     return ResponseEntity.ok("✅ 역할 관리 서비스 정상 작동 중");
                 })
                 .onErrorResume(ex -> {
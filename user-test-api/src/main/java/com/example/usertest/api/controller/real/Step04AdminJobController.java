@@ -0,0 +1,263 @@
+package com.example.usertest.api.controller.real;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.logging.LogMarkers;
+import com.example.usertest.api.service.job.AdminJobService;
+import com.example.usertest.api.service.keycloak.BulkRoleAssignValidation;
+import com.example.usertest.api.service.store.BlockingStoreExecutor;
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.dto.job.AdminJobItemResponse;
+import com.example.usertest.domain.dto.job.AdminJobResponse;
+import com.example.usertest.domain.dto.job.UserProvisionJobRequest;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignRequest;
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 4단계: 비동기 관리 작업 API 컨트롤러
+ * 오래 걸리는 일괄 작업을 접수만 하고 바로 작업 ID를 돌려준 뒤, 진행 상황은 조회/SSE 로 확인
+ * 
+ * 주요 기능:
+ * - 역할 일괄 변경 / 사용자 일괄 생성 작업 접수 (202 Accepted)
+ * - 작업 상태 조회 (폴링) 및 진행 상황 스트림 (SSE)
+ * - 항목별 결과 페이지 조회
+ * 
+ * 작업은 DB에 저장되어 AdminJobWorker 가 처리하므로, 처리 중 인스턴스가 재시작되어도 남은 항목부터 이어서 처리됩니다.
+ * 모든 API는 ADMIN 역할이 필요하며(SecurityConfig), 작업 조회는 접수한 사용자 본인으로 제한합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "비동기 관리 작업 API", description = "대량 역할 변경/사용자 생성 작업 접수 및 진행 상황 조회 API")
+public class Step04AdminJobController {
+
+    private static final int MAX_ITEMS_PAGE = 1000;
+
+    private final AdminJobService adminJobService;
+    private final BlockingStoreExecutor blockingStoreExecutor;
+    private final KeycloakProperties keycloakProperties;
+
+    /**
+     * 📦 역할 일괄 변경 작업 접수 API
+     * 
+     * @param request 역할 일괄 변경 요청 정보
+     * @return 접수된 작업 (202)
+     */
+    @PostMapping("/role-assignments")
+    @Operation(
+        summary = "역할 일괄 변경 작업 접수",
+        description = "여러 사용자에게 역할 추가/제거를 비동기 작업으로 접수합니다. " +
+                     "응답의 jobId로 진행 상황(GET /api/v1/jobs/{jobId}, /events)과 항목별 결과(/items)를 확인합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202", 
+            description = "작업 접수 완료",
+            content = @Content(schema = @Schema(implementation = AdminJobResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    public Mono<ResponseEntity<AdminJobResponse>> submitRoleAssignment(
+            @RequestBody @Parameter(description = "역할 일괄 변경 요청 정보") BulkRoleAssignRequest request,
+            @Parameter(hidden = true) Principal principal) {
+
+        log.atDebug()
+                .addKeyValue("users", request.getUsernames() != null ? request.getUsernames().size() : 0)
+                .addKeyValue("addRoles", request.getAddRoles())
+                .addKeyValue("removeRoles", request.getRemoveRoles())
+                .log("역할 일괄 변경 작업 접수 요청");
+
+        validateRoleAssignment(request);
+        return blockingStoreExecutor.call(() -> adminJobService.submitRoleAssignment(request, principal.getName()))
+                .map(this::accepted);
+    }
+
+    /**
+     * 📦 사용자 일괄 생성 작업 접수 API
+     * 
+     * @param request 사용자 일괄 생성 요청 정보
+     * @return 접수된 작업 (202)
+     */
+    @PostMapping("/user-provisioning")
+    @Operation(
+        summary = "사용자 일괄 생성 작업 접수",
+        description = "여러 사용자의 Keycloak 생성과 로컬 DB 저장을 비동기 작업으로 접수합니다. " +
+                     "역할을 지정하지 않은 사용자는 일반 사용자 기본 권한을 받으며, 이미 있는 사용자는 기존 사용자와 연결합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202", 
+            description = "작업 접수 완료",
+            content = @Content(schema = @Schema(implementation = AdminJobResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    public Mono<ResponseEntity<AdminJobResponse>> submitUserProvisioning(
+            @RequestBody @Parameter(description = "사용자 일괄 생성 요청 정보") UserProvisionJobRequest request,
+            @Parameter(hidden = true) Principal principal) {
+
+        log.atDebug()
+                .addKeyValue("users", request.getUsers() != null ? request.getUsers().size() : 0)
+                .log("사용자 일괄 생성 작업 접수 요청");
+
+        validateUserProvisioning(request);
+        return blockingStoreExecutor.call(() -> adminJobService.submitUserProvisioning(request.getUsers(), principal.getName()))
+                .map(this::accepted);
+    }
+
+    /**
+     * 🔍 작업 상태 조회 API
+     * 
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "작업 상태 조회", description = "작업의 상태와 처리/실패 건수를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200", 
+            description = "작업 조회 성공",
+            content = @Content(schema = @Schema(implementation = AdminJobResponse.class))
+        ),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    public Mono<ResponseEntity<AdminJobResponse>> getJob(
+            @PathVariable @Parameter(description = "작업 ID") String jobId,
+            @Parameter(hidden = true) Principal principal) {
+
+        return blockingStoreExecutor.call(() -> adminJobService.findJob(jobId, principal.getName()))
+                .map(job -> job
+                        .map(found -> ResponseEntity.ok(AdminJobResponse.from(found)))
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * 📡 작업 진행 상황 스트림 API (SSE)
+     * progress-interval 마다 상태를 확인해 바뀌었을 때만 "progress" 이벤트를 보내고, 끝나면 "completed" 이벤트 후 종료합니다.
+     * 요청 스레드/연결을 오래 잡지 않도록 stream-duration 이 지나면 스트림을 닫으며, EventSource 는 자동으로 다시 연결합니다.
+     * 
+     * @param jobId 작업 ID
+     * @return 작업 상태 이벤트 스트림
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "작업 진행 상황 스트림 (SSE)",
+        description = "작업 상태가 바뀔 때마다 progress 이벤트, 완료/실패 시 completed 이벤트를 보냅니다. " +
+                     "작업이 없으면 not-found 이벤트 후 종료합니다."
+    )
+    public Flux<ServerSentEvent<AdminJobResponse>> streamJob(
+            @PathVariable @Parameter(description = "작업 ID") String jobId,
+            @Parameter(hidden = true) Principal principal) {
+
+        String submittedBy = principal.getName();
+        KeycloakProperties.Jobs config = keycloakProperties.getJobs();
+        return Flux.interval(Duration.ZERO, config.getProgressInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> blockingStoreExecutor.call(() -> adminJobService.findJob(jobId, submittedBy)))
+                .takeUntil(job -> job.isEmpty() || job.get().isFinished())
+                .distinctUntilChanged(job -> job.map(found -> List.<Object>of(
+                                found.getStatus(), found.getProcessedItems(), found.getFailedItems()))
+                        .orElse(List.of()))
+                .map(job -> job
+                        .map(found -> ServerSentEvent.builder(AdminJobResponse.from(found))
+                                .id(found.getProcessedItems() + ":" + found.getFailedItems())
+                                .event(found.isFinished() ? "completed" : "progress")
+                                .build())
+                        .orElseGet(() -> ServerSentEvent.<AdminJobResponse>builder().event("not-found").build()))
+                .take(config.getStreamDuration());
+    }
+
+    /**
+     * 📋 작업 항목별 결과 조회 API
+     * 
+     * @param jobId 작업 ID
+     * @param afterSeq 이 순번 이후부터 조회 (다음 페이지는 마지막 항목의 seq)
+     * @param limit 최대 건수
+     * @return 항목별 결과
+     */
+    @GetMapping("/{jobId}/items")
+    @Operation(
+        summary = "작업 항목별 결과 조회",
+        description = "항목별 처리 상태와 결과(Keycloak 사용자 ID)/오류를 순번 순으로 조회합니다. afterSeq 로 다음 페이지를 조회합니다."
+    )
+    public Mono<ResponseEntity<List<AdminJobItemResponse>>> getItems(
+            @PathVariable @Parameter(description = "작업 ID") String jobId,
+            @RequestParam(defaultValue = "0") @Parameter(description = "이 순번 이후부터 조회") int afterSeq,
+            @RequestParam(defaultValue = "100") @Parameter(description = "최대 건수 (최대 1000)") int limit,
+            @Parameter(hidden = true) Principal principal) {
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_ITEMS_PAGE));
+        return blockingStoreExecutor.call(() -> adminJobService.findJob(jobId, principal.getName())
+                        .map(job -> adminJobService.findItems(jobId, afterSeq, pageSize)))
+                .map(items -> items
+                        .map(found -> ResponseEntity.ok(found.stream().map(AdminJobItemResponse::from).toList()))
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    private ResponseEntity<AdminJobResponse> accepted(AdminJob job) {
+        log.atInfo().addMarker(LogMarkers.SAMPLED)
+                .addKeyValue("jobType", job.getJobType())
+                .addKeyValue("jobId", job.getId())
+                .addKeyValue("items", job.getTotalItems())
+                .log("작업 접수 완료");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(AdminJobResponse.from(job));
+    }
+
+    /**
+     * 역할 일괄 변경 작업 요청 검증 (실패 시 IllegalArgumentException → 400)
+     */
+    private void validateRoleAssignment(BulkRoleAssignRequest request) {
+        String error = BulkRoleAssignValidation.validate(request, keycloakProperties.getJobs().getMaxItems());
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+    }
+
+    /**
+     * 사용자 일괄 생성 작업 요청 검증 (실패 시 IllegalArgumentException → 400)
+     */
+    private void validateUserProvisioning(UserProvisionJobRequest request) {
+        validateSize(request.getUsers());
+        for (KeycloakUserCreateRequest user : request.getUsers()) {
+            if (user == null || isBlank(user.getUsername()) || isBlank(user.getEmail()) || isBlank(user.getPassword())) {
+                throw new IllegalArgumentException("사용자명, 이메일, 비밀번호는 필수입니다: "
+                        + (user != null ? Objects.toString(user.getUsername(), "") : ""));
+            }
+        }
+    }
+
+    private void validateSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("작업 항목이 최소 하나는 있어야 합니다.");
+        }
+        int maxItems = keycloakProperties.getJobs().getMaxItems();
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("한 작업에 넣을 수 있는 항목은 최대 " + maxItems + "건입니다.");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
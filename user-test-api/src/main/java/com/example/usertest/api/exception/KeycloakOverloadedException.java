@@ -0,0 +1,10 @@
+package com.example.usertest.api.exception;
+
+/**
+ * Keycloak 동시 호출 제한에 걸려 호출을 보내지 못함 (대기열 초과/대기 시간 초과)
+ */
+public class KeycloakOverloadedException extends RuntimeException {
+    public KeycloakOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.usertest.api.exception;
+
+/**
+ * 같은 사용자명/이메일의 Keycloak 사용자가 이미 있으나 이 프로비저닝 요청이 만든 사용자가 아님 (재시도하지 않음)
+ */
+public class KeycloakUserConflictException extends RuntimeException {
+    public KeycloakUserConflictException(String message) {
+        super(message);
+    }
+}
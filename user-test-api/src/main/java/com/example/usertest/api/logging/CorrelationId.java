@@ -0,0 +1,53 @@
+package com.example.usertest.api.logging;
+
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ThreadLocalAccessor;
+import org.slf4j.MDC;
+
+/**
+ * 요청 상관관계 ID (MDC correlationId)
+ *
+ * ThreadLocalAccessor로 등록되어 spring.reactor.context-propagation=auto 설정 시
+ * WebClient/Reactor 스레드에서 실행되는 로그에도 같은 ID가 남습니다.
+ */
+public final class CorrelationId {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(new Accessor());
+    }
+
+    private CorrelationId() {
+    }
+
+    /**
+     * ThreadLocalAccessor 등록 보장 (클래스 초기화)
+     */
+    static void register() {
+    }
+
+    private static final class Accessor implements ThreadLocalAccessor<String> {
+
+        @Override
+        public Object key() {
+            return MDC_KEY;
+        }
+
+        @Override
+        public String getValue() {
+            return MDC.get(MDC_KEY);
+        }
+
+        @Override
+        public void setValue(String value) {
+            MDC.put(MDC_KEY, value);
+        }
+
+        @Override
+        public void setValue() {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.usertest.api.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 로그 마커
+ */
+public final class LogMarkers {
+
+    /**
+     * 요청마다 반복되는 성공 로그 (SamplingFilter가 로거별로 N건 중 1건만 남김)
+     */
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.usertest.api.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 로그 이벤트 수 집계
+ *
+ * Logback 구성 요소(appender, filter)는 Spring 컨텍스트보다 먼저 생성되므로
+ * 정적 저장소에 누적하고 LoggingMetrics가 Micrometer 카운터로 노출합니다.
+ */
+public final class LoggingDropCounters {
+
+    /** 비동기 큐가 discardingThreshold 아래로 내려가 버린 INFO 이하 이벤트 */
+    public static final String REASON_DISCARDED = "discarded";
+    /** 비동기 큐가 가득 차 버린 이벤트 (neverBlock) */
+    public static final String REASON_QUEUE_FULL = "queue_full";
+
+    private static final Map<Key, LongAdder> DROPPED = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> SAMPLED_OUT = new ConcurrentHashMap<>();
+
+    private LoggingDropCounters() {
+    }
+
+    static void dropped(String appender, String reason) {
+        DROPPED.computeIfAbsent(new Key(appender, reason), key -> new LongAdder()).increment();
+    }
+
+    static void sampledOut(String loggerPrefix) {
+        SAMPLED_OUT.computeIfAbsent(loggerPrefix, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 집계 키가 처음 생길 때 카운터를 미리 등록할 수 있도록 0으로 초기화
+     */
+    static void register(String appender) {
+        DROPPED.computeIfAbsent(new Key(appender, REASON_DISCARDED), key -> new LongAdder());
+        DROPPED.computeIfAbsent(new Key(appender, REASON_QUEUE_FULL), key -> new LongAdder());
+    }
+
+    static void registerSampler(String loggerPrefix) {
+        SAMPLED_OUT.computeIfAbsent(loggerPrefix, key -> new LongAdder());
+    }
+
+    static Map<Key, LongAdder> dropped() {
+        return DROPPED;
+    }
+
+    static Map<String, LongAdder> sampledOut() {
+        return SAMPLED_OUT;
+    }
+
+    record Key(String appender, String reason) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.usertest.api.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 폐기/샘플링 메트릭
+ *
+ * - logging.events.dropped{appender, reason}: 비동기 appender에서 버려진 이벤트 수
+ * - logging.events.sampled.out{logger}: 샘플링으로 생략된 성공 로그 수
+ * - logging.async.queue.remaining{appender}: 비동기 큐 잔여 용량
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        LoggingDropCounters.dropped().forEach((key, counter) ->
+                FunctionCounter.builder("logging.events.dropped", counter, LongAdder::sum)
+                        .description("비동기 appender에서 버려진 로그 이벤트 수")
+                        .tag("appender", key.appender())
+                        .tag("reason", key.reason())
+                        .register(registry));
+
+        LoggingDropCounters.sampledOut().forEach((prefix, counter) ->
+                FunctionCounter.builder("logging.events.sampled.out", counter, LongAdder::sum)
+                        .description("샘플링으로 생략된 성공 로그 수")
+                        .tag("logger", prefix)
+                        .register(registry));
+
+        MeteredAsyncAppender.appenders().forEach((name, appender) ->
+                Gauge.builder("logging.async.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                        .description("비동기 로그 큐 잔여 용량")
+                        .tag("appender", name)
+                        .register(registry));
+    }
+}
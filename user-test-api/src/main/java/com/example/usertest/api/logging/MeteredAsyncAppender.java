@@ -0,0 +1,55 @@
+package com.example.usertest.api.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버려진 이벤트 수를 집계하는 비동기 appender
+ *
+ * 동작은 AsyncAppender와 같습니다. (bounded 큐, discardingThreshold 이하에서 INFO 이하 폐기, neverBlock)
+ * 폐기 시점마다 LoggingDropCounters에 사유별로 기록합니다.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private static final Map<String, MeteredAsyncAppender> APPENDERS = new ConcurrentHashMap<>();
+
+    @Override
+    public void start() {
+        super.start();
+        LoggingDropCounters.register(getName());
+        APPENDERS.put(getName(), this);
+    }
+
+    @Override
+    public void stop() {
+        APPENDERS.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // neverBlock이면 AsyncAppender는 큐가 가득 찬 경우 조용히 버리므로, 먼저 확인하고 집계
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            LoggingDropCounters.dropped(getName(), LoggingDropCounters.REASON_QUEUE_FULL);
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // 큐 잔여 용량이 discardingThreshold 아래일 때만 호출됨
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            LoggingDropCounters.dropped(getName(), LoggingDropCounters.REASON_DISCARDED);
+        }
+        return discardable;
+    }
+
+    static Map<String, MeteredAsyncAppender> appenders() {
+        return APPENDERS;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.usertest.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SAMPLED 마커가 붙은 INFO 이하 로그를 로거별로 N건 중 1건만 통과시키는 appender 필터
+ *
+ * loggers 형식: "접두사[=N],접두사[=N]" (N 생략 시 sampleEvery)
+ * 예) com.example.usertest.api.service.keycloak=100,com.example.usertest.api.controller=10
+ * WARN/ERROR와 마커가 없는 로그에는 적용하지 않습니다.
+ * 비동기 큐에 넣기 전에 실행되므로 걸러진 이벤트는 큐/포맷/콘솔 출력 비용이 들지 않습니다.
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+    private final Map<String, Integer> rates = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private String loggers = "";
+    private int sampleEvery = 100;
+
+    public void setLoggers(String loggers) {
+        this.loggers = loggers;
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+
+    @Override
+    public void start() {
+        rates.clear();
+        for (String entry : loggers.split(",")) {
+            String spec = entry.trim();
+            if (spec.isEmpty()) {
+                continue;
+            }
+            int eq = spec.indexOf('=');
+            String prefix = eq > 0 ? spec.substring(0, eq).trim() : spec;
+            int rate = eq > 0 ? Integer.parseInt(spec.substring(eq + 1).trim()) : sampleEvery;
+            rates.put(prefix, Math.max(1, rate));
+            LoggingDropCounters.registerSampler(prefix);
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (event.getLevel().isGreaterOrEqual(Level.WARN) || !isSampled(event.getMarkerList())) {
+            return FilterReply.NEUTRAL;
+        }
+        String prefix = matchingPrefix(event.getLoggerName());
+        if (prefix == null) {
+            return FilterReply.NEUTRAL;
+        }
+        long count = counters.computeIfAbsent(event.getLoggerName(), name -> new AtomicLong()).getAndIncrement();
+        if (count % rates.get(prefix) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        LoggingDropCounters.sampledOut(prefix);
+        return FilterReply.DENY;
+    }
+
+    private static boolean isSampled(List<Marker> markers) {
+        if (markers == null) {
+            return false;
+        }
+        for (Marker marker : markers) {
+            if (marker.contains(LogMarkers.SAMPLED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 가장 긴 일치 접두사 (없으면 null)
+     */
+    private String matchingPrefix(String loggerName) {
+        String match = null;
+        for (String prefix : rates.keySet()) {
+            if (loggerName.startsWith(prefix) && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        return match;
+    }
+}
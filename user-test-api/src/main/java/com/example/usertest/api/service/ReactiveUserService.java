@@ -0,0 +1,80 @@
+package com.example.usertest.api.service;
+
+import com.example.usertest.api.service.store.BlockingStoreExecutor;
+import com.example.usertest.api.service.sync.KeycloakSyncOutboxService;
+import com.example.usertest.domain.User;
+import com.example.usertest.domain.dto.UserDto;
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import com.example.usertest.store.r2dbc.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 체인에서 사용하는 로컬 사용자 저장 서비스
+ * 
+ * store.type 설정에 따라 저장 경로가 결정됩니다:
+ * - r2dbc: {@link ReactiveUserRepository}를 통한 논블로킹 저장
+ * - mybatis (기본값): {@link UserService}(JDBC)를 jdbc-store 스케줄러에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserService {
+    
+    private final ObjectProvider<ReactiveUserRepository> reactiveUserRepository;
+    private final UserService userService;
+    private final BlockingStoreExecutor blockingStoreExecutor;
+    private final KeycloakSyncOutboxService keycloakSyncOutboxService;
+    
+    /**
+     * 로컬 데이터베이스에 사용자 생성
+     * 
+     * @param userDto 사용자 정보
+     * @param keycloakUserId Keycloak 사용자 ID
+     * @return 저장된 사용자
+     */
+    public Mono<User> createUser(UserDto userDto, String keycloakUserId) {
+        ReactiveUserRepository repository = reactiveUserRepository.getIfAvailable();
+        if (repository == null) {
+            return blockingStoreExecutor.call(() -> userService.createUser(userDto, keycloakUserId));
+        }
+        
+        log.info("Creating new user (r2dbc): {}", userDto.getUsername());
+        
+        Mono<User> create = repository.existsByUsername(userDto.getUsername())
+                .flatMap(usernameExists -> {
+                    if (usernameExists) {
+                        return Mono.error(new IllegalArgumentException("Username already exists: " + userDto.getUsername()));
+                    }
+                    return repository.existsByEmail(userDto.getEmail());
+                })
+                .flatMap(emailExists -> {
+                    if (emailExists) {
+                        return Mono.error(new IllegalArgumentException("Email already exists: " + userDto.getEmail()));
+                    }
+                    // BCrypt 인코딩은 CPU 집약적이므로 이벤트 루프 밖에서 수행
+                    return Mono.fromCallable(() -> userService.newUser(userDto, keycloakUserId))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .flatMap(repository::save);
+        
+        return repository.transactional(create)
+                .doOnSuccess(user -> log.info("User created successfully (r2dbc): {}", user.getUsername()));
+    }
+    
+    /**
+     * 로컬 사용자와 Keycloak 동기화 아웃박스 이벤트를 하나의 JDBC 트랜잭션으로 저장
+     * 아웃박스는 JDBC 트랜잭션에 묶여 있으므로 store.type과 무관하게 jdbc-store 스케줄러에서 실행됩니다.
+     * 
+     * @param userDto 사용자 정보
+     * @param createRequest Keycloak 사용자 생성 요청 (디스패처가 전달)
+     * @return 저장된 사용자
+     */
+    public Mono<User> createUserWithOutbox(UserDto userDto, KeycloakUserCreateRequest createRequest) {
+        return blockingStoreExecutor.call(() -> keycloakSyncOutboxService.createUserWithOutbox(userDto, createRequest));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.usertest.api.service;
 
+import com.example.usertest.api.service.store.BlockingCallGuard;
 import com.example.usertest.domain.User;
 import com.example.usertest.domain.dto.UserDto;
 import com.example.usertest.store.repository.UserRepository;
@@ -20,25 +21,35 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BlockingCallGuard blockingCallGuard;
     
     public List<User> getAllUsers() {
         log.debug("Retrieving all users");
+        blockingCallGuard.assertBlockingAllowed("getAllUsers");
         return userRepository.findAll();
     }
     
     public User getUserById(Long id) {
         log.debug("Retrieving user by id: {}", id);
+        blockingCallGuard.assertBlockingAllowed("getUserById");
         return userRepository.getById(id);
     }
     
     public User getUserByUsername(String username) {
         log.debug("Retrieving user by username: {}", username);
+        blockingCallGuard.assertBlockingAllowed("getUserByUsername");
         return userRepository.getByUsername(username);
     }
     
     @Transactional
     public User createUser(UserDto userDto) {
+        return createUser(userDto, null);
+    }
+    
+    @Transactional
+    public User createUser(UserDto userDto, String keycloakUserId) {
         log.info("Creating new user: {}", userDto.getUsername());
+        blockingCallGuard.assertBlockingAllowed("createUser");
         
         // Check if username or email already exists
         if (userRepository.existsByUsername(userDto.getUsername())) {
@@ -49,15 +60,7 @@ public class UserService {
             throw new IllegalArgumentException("Email already exists: " + userDto.getEmail());
         }
         
-        User user = User.builder()
-                .username(userDto.getUsername())
-                .email(userDto.getEmail())
-                .password(passwordEncoder.encode("defaultPassword")) // In real app, get from DTO
-                .role(userDto.getRole() != null ? userDto.getRole() : "USER")
-                .enabled(true)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        User user = newUser(userDto, keycloakUserId);
         
         userRepository.save(user);
         log.info("User created successfully: {}", user.getUsername());
@@ -67,6 +70,7 @@ public class UserService {
     @Transactional
     public User updateUser(Long id, UserDto userDto) {
         log.info("Updating user with id: {}", id);
+        blockingCallGuard.assertBlockingAllowed("updateUser");
         
         User existingUser = userRepository.getById(id);
         
@@ -95,6 +99,7 @@ public class UserService {
     @Transactional
     public void deleteUser(Long id) {
         log.info("Deleting user with id: {}", id);
+        blockingCallGuard.assertBlockingAllowed("deleteUser");
         
         // Verify user exists before deletion
         userRepository.getById(id);
@@ -103,6 +108,23 @@ public class UserService {
         log.info("User deleted successfully with id: {}", id);
     }
     
+    /**
+     * 신규 사용자 엔티티 생성 (저장하지 않음)
+     * MyBatis/R2DBC 저장 경로가 동일한 기본값을 사용하도록 공유됩니다.
+     */
+    public User newUser(UserDto userDto, String keycloakUserId) {
+        return User.builder()
+                .username(userDto.getUsername())
+                .email(userDto.getEmail())
+                .password(passwordEncoder.encode("defaultPassword")) // In real app, get from DTO
+                .role(userDto.getRole() != null ? userDto.getRole() : "USER")
+                .enabled(true)
+                .keycloakUserId(keycloakUserId)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+    
     public UserDto convertToDto(User user) {
         return UserDto.builder()
                 .id(user.getId())
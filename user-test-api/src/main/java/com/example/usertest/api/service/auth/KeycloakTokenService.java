@@ -1,19 +1,25 @@
 package com.example.usertest.api.service.auth;
 
 import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.logging.LogMarkers;
+import com.example.usertest.api.service.keycloak.KeycloakOperation;
 import com.example.usertest.domain.dto.auth.KeycloakTokenRequest;
 import com.example.usertest.domain.dto.auth.LoginRequest;
 import com.example.usertest.domain.dto.auth.TokenResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -28,29 +34,10 @@ public class KeycloakTokenService {
      * Keycloak에서 토큰을 발급받습니다.
      */
     public TokenResponse getToken(LoginRequest loginRequest) {
-        log.info("Requesting token from Keycloak for user: {}", loginRequest.getUsername());
+        log.atDebug().addKeyValue("username", loginRequest.getUsername()).log("Requesting token from Keycloak");
         
         try {
-            // Keycloak 토큰 요청 준비
-            KeycloakTokenRequest tokenRequest = KeycloakTokenRequest.fromLogin(
-                loginRequest, 
-                keycloakProperties.getClientId(), 
-                keycloakProperties.getClientSecret()
-            );
-            
-            // Form data 준비 (Keycloak은 application/x-www-form-urlencoded 형식 요구)
-            MultiValueMap<String, String> formData = createFormData(tokenRequest);
-            
-            // WebClient를 사용하여 Keycloak 토큰 엔드포인트 호출
-            WebClient webClient = webClientBuilder
-                    .baseUrl(keycloakProperties.getServerUrl())
-                    .build();
-            
-            TokenResponse tokenResponse = webClient
-                    .post()
-                    .uri(getTokenEndpointPath())
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
+            TokenResponse tokenResponse = tokenRequest(loginRequest)
                     .retrieve()
                     .onStatus(status -> status.is4xxClientError(), response -> {
                         log.error("Client error from Keycloak: {}", response.statusCode());
@@ -67,7 +54,9 @@ public class KeycloakTokenService {
                     .bodyToMono(TokenResponse.class)
                     .block(); // 동기 방식으로 결과 반환
             
-            log.info("Token successfully obtained for user: {}", loginRequest.getUsername());
+            log.atInfo().addMarker(LogMarkers.SAMPLED)
+                    .addKeyValue("username", loginRequest.getUsername())
+                    .log("Token successfully obtained");
             return tokenResponse;
             
         } catch (WebClientResponseException e) {
@@ -79,6 +68,55 @@ public class KeycloakTokenService {
         }
     }
     
+    /**
+     * Keycloak 토큰 응답을 디코딩하지 않고 그대로 받습니다. (keycloak.token-passthrough)
+     * 4xx/5xx 도 오류로 바꾸지 않고 Keycloak 의 상태/헤더/본문을 그대로 돌려주며,
+     * 본문 버퍼는 호출 측에서 끝까지 소비(또는 취소)해야 커넥션이 풀로 반환됩니다.
+     * 
+     * @return Keycloak 응답 (본문은 아직 읽지 않은 DataBuffer 스트림)
+     */
+    public ResponseEntity<Flux<DataBuffer>> exchangeToken(LoginRequest loginRequest) {
+        log.atDebug().addKeyValue("username", loginRequest.getUsername()).log("Requesting raw token response from Keycloak");
+        
+        try {
+            return tokenRequest(loginRequest)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+                    .toEntityFlux(DataBuffer.class)
+                    .block();
+        } catch (Exception e) {
+            log.error("Unexpected error while getting token from Keycloak", e);
+            throw new RuntimeException("Authentication service unavailable", e);
+        }
+    }
+    
+    /**
+     * 로그인 요청으로 Keycloak 토큰 요청 구성
+     */
+    private WebClient.RequestHeadersSpec<?> tokenRequest(LoginRequest loginRequest) {
+        // Keycloak 토큰 요청 준비
+        KeycloakTokenRequest tokenRequest = KeycloakTokenRequest.fromLogin(
+            loginRequest, 
+            keycloakProperties.getClientId(), 
+            keycloakProperties.getClientSecret()
+        );
+        
+        // Form data 준비 (Keycloak은 application/x-www-form-urlencoded 형식 요구)
+        MultiValueMap<String, String> formData = createFormData(tokenRequest);
+        
+        // WebClient를 사용하여 Keycloak 토큰 엔드포인트 호출
+        WebClient webClient = webClientBuilder
+                .baseUrl(keycloakProperties.getServerUrl())
+                .build();
+        
+        return webClient
+                .post()
+                .uri(getTokenEndpointPath())
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USER_TOKEN)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData));
+    }
+    
     /**
      * Keycloak 토큰 엔드포인트 경로를 생성합니다.
      */
@@ -0,0 +1,26 @@
+package com.example.usertest.api.service.job;
+
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+
+import java.util.List;
+
+/**
+ * 작업 종류별 항목 처리기
+ * 
+ * 워커 스레드에서 묶음 단위로 호출되며(블로킹 가능), 같은 항목이 다시 처리될 수 있으므로
+ * (결과 기록 전에 인스턴스가 종료된 경우) 처리는 멱등이어야 합니다.
+ */
+public interface AdminJobHandler {
+    
+    AdminJob.JobType jobType();
+    
+    /**
+     * 항목 묶음 처리
+     * 
+     * @param job 작업 (공통 파라미터)
+     * @param items 처리할 항목 (PENDING)
+     * @return status/result/error 를 채운 항목 (개별 실패는 FAILED, 작업을 계속할 수 없으면 예외)
+     */
+    List<AdminJobItem> process(AdminJob job, List<AdminJobItem> items);
+}
@@ -0,0 +1,217 @@
+package com.example.usertest.api.service.job;
+
+import com.example.usertest.api.service.sync.CredentialCipher;
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignRequest;
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import com.example.usertest.store.repository.AdminJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비동기 관리 작업 접수/조회/결과 기록 (블로킹, JDBC 트랜잭션)
+ * 
+ * 작업과 항목은 하나의 트랜잭션으로 저장되고, 실제 Keycloak 처리는 {@link AdminJobWorker}가 수행합니다.
+ * 사용자 생성 항목의 비밀번호는 암호화해 저장하며, 항목 처리/작업 실패 시 본문을 지웁니다.
+ * 리액티브 체인에서는 BlockingStoreExecutor 를 통해 호출해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminJobService {
+    
+    private final AdminJobRepository adminJobRepository;
+    private final ObjectMapper objectMapper;
+    private final CredentialCipher credentialCipher;
+    
+    /**
+     * 역할 일괄 변경 작업 접수 (사용자명 중복 제거, 역할은 작업 공통 파라미터로 저장)
+     * 
+     * @param request 역할 일괄 변경 요청 (검증은 호출 측에서 완료)
+     * @param submittedBy 접수한 사용자
+     * @return 접수된 작업
+     */
+    @Transactional
+    public AdminJob submitRoleAssignment(BulkRoleAssignRequest request, String submittedBy) {
+        List<String> usernames = List.copyOf(new LinkedHashSet<>(request.getUsernames()));
+        
+        BulkRoleAssignRequest parameters = new BulkRoleAssignRequest();
+        parameters.setAddRoles(request.getAddRoles());
+        parameters.setRemoveRoles(request.getRemoveRoles());
+        
+        AdminJob job = newJob(AdminJob.JobType.ROLE_ASSIGN, submittedBy, writeJson(parameters), usernames.size());
+        List<AdminJobItem> items = new ArrayList<>(usernames.size());
+        for (int i = 0; i < usernames.size(); i++) {
+            items.add(newItem(job, i + 1, usernames.get(i), null));
+        }
+        return save(job, items);
+    }
+    
+    /**
+     * 사용자 일괄 생성 작업 접수 (같은 사용자명은 마지막 요청만 사용)
+     * 역할을 지정하지 않은 사용자는 단건 생성 API와 같이 일반 사용자 기본 권한을 받습니다.
+     * 
+     * @param users 생성할 사용자 목록 (검증은 호출 측에서 완료)
+     * @param submittedBy 접수한 사용자
+     * @return 접수된 작업
+     */
+    @Transactional
+    public AdminJob submitUserProvisioning(List<KeycloakUserCreateRequest> users, String submittedBy) {
+        Map<String, KeycloakUserCreateRequest> byUsername = new LinkedHashMap<>();
+        users.forEach(user -> byUsername.put(user.getUsername().toLowerCase(Locale.ROOT), withDefaultRoles(user)));
+        
+        AdminJob job = newJob(AdminJob.JobType.USER_PROVISION, submittedBy, null, byUsername.size());
+        List<AdminJobItem> items = new ArrayList<>(byUsername.size());
+        int seq = 0;
+        for (KeycloakUserCreateRequest user : byUsername.values()) {
+            items.add(newItem(job, ++seq, user.getUsername(), writeUserPayload(user)));
+        }
+        return save(job, items);
+    }
+    
+    /**
+     * 접수자 본인의 작업 조회 (다른 사용자가 접수한 작업은 없는 것으로 처리)
+     */
+    public Optional<AdminJob> findJob(String jobId, String submittedBy) {
+        return adminJobRepository.findById(jobId)
+                .filter(job -> Objects.equals(job.getSubmittedBy(), submittedBy));
+    }
+    
+    public List<AdminJobItem> findItems(String jobId, int afterSeq, int limit) {
+        return adminJobRepository.findItems(jobId, afterSeq, limit);
+    }
+    
+    /**
+     * 묶음 처리 결과 기록: 진행 건수 누적(선점 확인 + 기한 연장)과 항목 결과를 하나의 트랜잭션으로 반영
+     * 선점을 잃었으면(다른 워커가 이어받음) 아무것도 기록하지 않습니다.
+     * 
+     * @param job 선점한 작업
+     * @param results 상태/결과가 채워진 항목
+     * @param leaseSeconds 연장할 선점 시간(초)
+     * @return 기록 여부 (false면 선점을 잃음)
+     */
+    @Transactional
+    public boolean completeChunk(AdminJob job, List<AdminJobItem> results, long leaseSeconds) {
+        int failed = (int) results.stream()
+                .filter(item -> item.getStatus() == AdminJobItem.ItemStatus.FAILED)
+                .count();
+        // 작업 행을 먼저 갱신해 잠가 두므로, 그 사이 다른 워커가 재선점해 같은 항목을 기록하지 못함
+        if (!adminJobRepository.addProgress(job.getId(), job.getClaimToken(), results.size(), failed, leaseSeconds)) {
+            return false;
+        }
+        adminJobRepository.updateItems(results);
+        return true;
+    }
+    
+    /**
+     * 작업 실패 처리: 작업 상태와 남은 PENDING 항목을 하나의 트랜잭션으로 실패 처리
+     * 남은 항목의 요청 본문(비밀번호 포함)도 함께 지우며, 선점을 잃었으면 아무것도 바꾸지 않습니다.
+     * 
+     * @param job 선점한 작업
+     * @param error 실패 사유
+     * @return 실패 처리 여부 (false면 선점을 잃음)
+     */
+    @Transactional
+    public boolean failJob(AdminJob job, String error) {
+        // completeChunk 와 같이 작업 행을 먼저 갱신해 잠금
+        if (!adminJobRepository.markFailed(job.getId(), job.getClaimToken(), error)) {
+            return false;
+        }
+        adminJobRepository.failPendingItems(job.getId(), AdminJobWorker.truncate("작업 실패로 처리되지 않음: " + error));
+        return true;
+    }
+    
+    /**
+     * 사용자 생성 항목 본문 복원 (비밀번호 복호화 포함)
+     * 
+     * @throws IllegalArgumentException 본문이 잘못되었거나 비밀번호를 복호화할 수 없는 경우
+     */
+    public KeycloakUserCreateRequest readUserPayload(String payload) {
+        KeycloakUserCreateRequest user = readPayload(payload, KeycloakUserCreateRequest.class);
+        user.setPassword(credentialCipher.decrypt(user.getPassword()));
+        return user;
+    }
+    
+    public <T> T readPayload(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid job payload: " + e.getOriginalMessage(), e);
+        }
+    }
+    
+    private AdminJob save(AdminJob job, List<AdminJobItem> items) {
+        adminJobRepository.save(job);
+        adminJobRepository.saveItems(items);
+        log.info("Admin job queued: {} {} ({} items)", job.getJobType(), job.getId(), items.size());
+        return adminJobRepository.findById(job.getId()).orElse(job);
+    }
+    
+    private static AdminJob newJob(AdminJob.JobType jobType, String submittedBy, String payload, int totalItems) {
+        return AdminJob.builder()
+                .id(UUID.randomUUID().toString())
+                .jobType(jobType)
+                .submittedBy(submittedBy)
+                .payload(payload)
+                .status(AdminJob.JobStatus.PENDING)
+                .totalItems(totalItems)
+                .build();
+    }
+    
+    private static AdminJobItem newItem(AdminJob job, int seq, String itemKey, String payload) {
+        return AdminJobItem.builder()
+                .jobId(job.getId())
+                .seq(seq)
+                .itemKey(itemKey)
+                .payload(payload)
+                .status(AdminJobItem.ItemStatus.PENDING)
+                .build();
+    }
+    
+    private static KeycloakUserCreateRequest withDefaultRoles(KeycloakUserCreateRequest user) {
+        if (user.getRoles() != null && !user.getRoles().isEmpty()) {
+            return user;
+        }
+        KeycloakUserCreateRequest regular = KeycloakUserCreateRequest.forRegularUser(
+                user.getUsername(), user.getEmail(), user.getPassword());
+        regular.setFirstName(user.getFirstName());
+        regular.setLastName(user.getLastName());
+        regular.setEnabled(user.getEnabled());
+        regular.setEmailVerified(user.getEmailVerified());
+        regular.setGroups(user.getGroups());
+        return regular;
+    }
+    
+    /**
+     * 사용자 생성 항목 본문 (비밀번호는 암호화해 저장)
+     */
+    private String writeUserPayload(KeycloakUserCreateRequest user) {
+        ObjectNode payload = objectMapper.valueToTree(user);
+        payload.put("password", credentialCipher.encrypt(user.getPassword()));
+        return writeJson(payload);
+    }
+    
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid job request: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.usertest.api.service.job;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import com.example.usertest.store.repository.AdminJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 관리 작업 워커
+ * 
+ * 작업 테이블에서 빈 슬롯 수만큼 작업을 선점(claim_token + 선점 기한)해 고정 크기 풀(keycloak.jobs.workers)에서 처리합니다.
+ * 선점은 전용 스레드(admin-job-poller)에서 poll-interval-ms 주기로 실행하므로, 오래 막히는 다른 @Scheduled 작업
+ * (아웃박스 디스패처, 대사)이 공용 스케줄러 스레드를 모두 쓰고 있어도 멈추지 않습니다.
+ * - 작업은 chunk-size 단위로 처리하고, 묶음마다 결과 기록과 함께 선점 기한을 연장
+ * - 처리 중 인스턴스가 종료되면 선점 기한이 지난 뒤 다른 인스턴스가 남은 PENDING 항목부터 이어서 처리
+ * - 일시적 오류는 retry-delay 후 재선점, max-attempts 를 넘으면 FAILED
+ * - Keycloak 호출은 BACKGROUND 구역(KeycloakLane)에서 진행되므로 로그인/단건 관리 호출보다 뒤로 밀림
+ */
+@Component
+@Slf4j
+public class AdminJobWorker {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final AdminJobService adminJobService;
+    private final AdminJobRepository adminJobRepository;
+    private final KeycloakProperties.Jobs config;
+    private final MeterRegistry meterRegistry;
+    private final Map<AdminJob.JobType, AdminJobHandler> handlers = new EnumMap<>(AdminJob.JobType.class);
+    private final ExecutorService executor;
+    private final ScheduledExecutorService poller;
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile boolean stopping;
+    
+    public AdminJobWorker(AdminJobService adminJobService,
+                          AdminJobRepository adminJobRepository,
+                          List<AdminJobHandler> handlers,
+                          KeycloakProperties keycloakProperties,
+                          MeterRegistry meterRegistry) {
+        this.adminJobService = adminJobService;
+        this.adminJobRepository = adminJobRepository;
+        this.config = keycloakProperties.getJobs();
+        this.meterRegistry = meterRegistry;
+        handlers.forEach(handler -> this.handlers.put(handler.jobType(), handler));
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, config.getWorkers()), runnable -> {
+            Thread thread = new Thread(runnable, "admin-job-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admin-job-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("admin.jobs.running", running, AtomicInteger::get)
+                .description("Admin jobs currently being processed by this instance")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 기동 완료 후 선점 주기 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = Math.max(1, config.getPollIntervalMs());
+        poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    void poll() {
+        if (!config.isWorkerEnabled() || stopping) {
+            return;
+        }
+        int free = Math.max(1, config.getWorkers()) - running.get();
+        if (free <= 0) {
+            return;
+        }
+        
+        try {
+            List<AdminJob> claimed = adminJobRepository.claimBatch(
+                    UUID.randomUUID().toString(), free, config.getLease().toSeconds());
+            for (AdminJob job : claimed) {
+                running.incrementAndGet();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            run(job);
+                        } finally {
+                            running.decrementAndGet();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    running.decrementAndGet();
+                    release(job, null, 0);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Admin job poll failed: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        poller.shutdownNow();
+        executor.shutdownNow();
+    }
+    
+    private void run(AdminJob job) {
+        AdminJobHandler handler = handlers.get(job.getJobType());
+        if (handler == null) {
+            fail(job, "지원하지 않는 작업 종류: " + job.getJobType());
+            return;
+        }
+        if (job.getAttempts() > config.getMaxAttempts()) {
+            fail(job, "재시도 횟수 초과 (attempts=" + job.getAttempts() + "): " + job.getLastError());
+            return;
+        }
+        
+        log.atInfo()
+                .addKeyValue("jobId", job.getId())
+                .addKeyValue("type", job.getJobType())
+                .addKeyValue("attempts", job.getAttempts())
+                .log("관리 작업 처리 시작");
+        try {
+            List<AdminJobItem> items;
+            while (!(items = adminJobRepository.findPendingItems(job.getId(), config.getChunkSize())).isEmpty()) {
+                if (stopping) {
+                    release(job, null, 0);
+                    return;
+                }
+                List<AdminJobItem> results = handler.process(job, items);
+                if (!adminJobService.completeChunk(job, results, config.getLease().toSeconds())) {
+                    log.warn("Admin job lease lost, another worker took over: {}", job.getId());
+                    return;
+                }
+                record(job, results);
+            }
+            adminJobRepository.markCompleted(job.getId(), job.getClaimToken());
+            log.atInfo().addKeyValue("jobId", job.getId()).log("관리 작업 완료");
+        } catch (IllegalArgumentException e) {
+            fail(job, e.getMessage());
+        } catch (Exception e) {
+            if (stopping || Thread.currentThread().isInterrupted()) {
+                // 종료 중: 선점만 풀어 다른 인스턴스가 바로 이어받도록 함
+                release(job, null, 0);
+            } else {
+                log.warn("Admin job {} attempt {} failed, retrying in {}: {}",
+                        job.getId(), job.getAttempts(), config.getRetryDelay(), e.getMessage());
+                release(job, truncate(e.getMessage()), config.getRetryDelay().toSeconds());
+            }
+        }
+    }
+    
+    private void fail(AdminJob job, String error) {
+        log.warn("Admin job failed: {} {}: {}", job.getJobType(), job.getId(), error);
+        try {
+            if (!adminJobService.failJob(job, truncate(error))) {
+                log.warn("Admin job lease lost before it could be marked failed: {}", job.getId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record admin job failure {}: {}", job.getId(), e.getMessage());
+        }
+    }
+    
+    private void release(AdminJob job, String error, long delaySeconds) {
+        try {
+            adminJobRepository.release(job.getId(), job.getClaimToken(), error, delaySeconds);
+        } catch (Exception e) {
+            // 선점 기한이 지나면 다시 선점되므로 여기서는 기록만 남김
+            log.warn("Failed to release admin job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+    
+    private void record(AdminJob job, List<AdminJobItem> results) {
+        for (AdminJobItem item : results) {
+            meterRegistry.counter("admin.jobs.items",
+                    "type", job.getJobType().name(),
+                    "result", item.getStatus().name().toLowerCase()).increment();
+        }
+    }
+    
+    static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.usertest.api.service.job;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.keycloak.BulkRoleAssignmentService;
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignRequest;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 역할 일괄 변경 작업 처리기
+ * 
+ * 묶음마다 {@link BulkRoleAssignmentService}로 처리하므로 관리자 토큰/역할 조회는 묶음당 한 번이고,
+ * Keycloak 호출은 BACKGROUND 구역에서 keycloak.bulk.concurrency 만큼 동시에 진행됩니다.
+ * 역할 매핑 추가/제거는 같은 요청을 반복해도 결과가 같으므로 재처리해도 안전합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleAssignJobHandler implements AdminJobHandler {
+    
+    private final BulkRoleAssignmentService bulkRoleAssignmentService;
+    private final AdminJobService adminJobService;
+    private final KeycloakProperties keycloakProperties;
+    
+    @Override
+    public AdminJob.JobType jobType() {
+        return AdminJob.JobType.ROLE_ASSIGN;
+    }
+    
+    @Override
+    public List<AdminJobItem> process(AdminJob job, List<AdminJobItem> items) {
+        BulkRoleAssignRequest request = adminJobService.readPayload(job.getPayload(), BulkRoleAssignRequest.class);
+        request.setUsernames(items.stream().map(AdminJobItem::getItemKey).toList());
+        
+        List<BulkRoleAssignResult> results = bulkRoleAssignmentService.assign(request)
+                .collectList()
+                .block(keycloakProperties.getJobs().getLease().dividedBy(2));
+        Map<String, BulkRoleAssignResult> byUsername = Objects.requireNonNull(results).stream()
+                .collect(Collectors.toMap(BulkRoleAssignResult::getUsername, Function.identity(),
+                        (existing, duplicate) -> existing));
+        
+        return items.stream()
+                .map(item -> {
+                    BulkRoleAssignResult result = byUsername.get(item.getItemKey());
+                    if (result == null) {
+                        item.setStatus(AdminJobItem.ItemStatus.FAILED);
+                        item.setError("처리 결과가 없습니다");
+                    } else if (result.isSuccess()) {
+                        item.setStatus(AdminJobItem.ItemStatus.SUCCEEDED);
+                        item.setResult(result.getKeycloakUserId());
+                    } else {
+                        item.setStatus(AdminJobItem.ItemStatus.FAILED);
+                        item.setResult(result.getKeycloakUserId());
+                        item.setError(AdminJobWorker.truncate(result.getErrorMessage()));
+                    }
+                    return item;
+                })
+                .toList();
+    }
+}
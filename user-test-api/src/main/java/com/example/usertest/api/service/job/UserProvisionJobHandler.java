@@ -0,0 +1,111 @@
+package com.example.usertest.api.service.job;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.UserService;
+import com.example.usertest.api.service.keycloak.KeycloakAdminService;
+import com.example.usertest.api.service.keycloak.KeycloakLane;
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import com.example.usertest.domain.dto.UserDto;
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import com.example.usertest.store.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자 일괄 생성 작업 처리기
+ * 
+ * 항목마다 {@link KeycloakAdminService#provisionUser}로 Keycloak 사용자를 생성(같은 항목이 이전에 만든 사용자면 채택)하고
+ * 역할/그룹을 적용한 뒤 로컬 users 테이블에 저장/연결하므로, 같은 항목을 다시 처리해도 중복 생성되지 않습니다.
+ * 역할/그룹 할당까지 끝나야 성공이며, 할당 오류는 항목 실패로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProvisionJobHandler implements AdminJobHandler {
+    
+    private final KeycloakAdminService keycloakAdminService;
+    private final AdminJobService adminJobService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final KeycloakProperties keycloakProperties;
+    
+    @Override
+    public AdminJob.JobType jobType() {
+        return AdminJob.JobType.USER_PROVISION;
+    }
+    
+    @Override
+    public List<AdminJobItem> process(AdminJob job, List<AdminJobItem> items) {
+        KeycloakProperties.Jobs config = keycloakProperties.getJobs();
+        List<Provisioned> provisioned = Flux.fromIterable(items)
+                .flatMap(this::provision, config.getConcurrency())
+                .contextWrite(KeycloakLane.background())
+                .collectList()
+                .block(config.getLease().dividedBy(2));
+        
+        // 로컬 저장은 워커 스레드에서 블로킹으로 처리
+        for (Provisioned result : Objects.requireNonNull(provisioned)) {
+            if (result.item().getStatus() == AdminJobItem.ItemStatus.SUCCEEDED) {
+                saveLocalUser(result);
+            }
+        }
+        return items;
+    }
+    
+    private Mono<Provisioned> provision(AdminJobItem item) {
+        KeycloakUserCreateRequest request;
+        try {
+            request = adminJobService.readUserPayload(item.getPayload());
+        } catch (IllegalArgumentException e) {
+            return Mono.just(failed(item, null, e.getMessage()));
+        }
+        
+        return keycloakAdminService.provisionUser(request, "admin-job-item:" + item.getId())
+                .map(keycloakUserId -> succeeded(item, request, keycloakUserId))
+                .onErrorResume(ex -> Mono.just(failed(item, request, ex.getMessage())));
+    }
+    
+    /**
+     * 로컬 사용자 연결 (없으면 생성), 실패해도 Keycloak 사용자는 생성된 것이므로 항목은 성공으로 두고 오류만 기록
+     */
+    private void saveLocalUser(Provisioned result) {
+        KeycloakUserCreateRequest request = result.request();
+        String keycloakUserId = result.item().getResult();
+        try {
+            if (userRepository.updateKeycloakUserId(request.getUsername(), keycloakUserId) > 0) {
+                return;
+            }
+            userService.createUser(UserDto.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .role("USER")
+                    .enabled(!Boolean.FALSE.equals(request.getEnabled()))
+                    .build(), keycloakUserId);
+        } catch (Exception e) {
+            log.warn("Local user sync failed for provisioned user {}: {}", request.getUsername(), e.getMessage());
+            result.item().setError(AdminJobWorker.truncate("로컬 DB 동기화 실패: " + e.getMessage()));
+        }
+    }
+    
+    private static Provisioned succeeded(AdminJobItem item, KeycloakUserCreateRequest request, String keycloakUserId) {
+        item.setStatus(AdminJobItem.ItemStatus.SUCCEEDED);
+        item.setResult(keycloakUserId);
+        return new Provisioned(item, request);
+    }
+    
+    private static Provisioned failed(AdminJobItem item, KeycloakUserCreateRequest request, String error) {
+        item.setStatus(AdminJobItem.ItemStatus.FAILED);
+        item.setError(AdminJobWorker.truncate(error));
+        return new Provisioned(item, request);
+    }
+    
+    private record Provisioned(AdminJobItem item, KeycloakUserCreateRequest request) {
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.exception.KeycloakOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측 지연 기반 적응형 동시 호출 제한 (AIMD)
+ *
+ * - 느린 응답(slow-call-threshold 초과), 5xx/429, IO 오류: limit * backoff-ratio (slow-call-threshold 간격에 최대 1회)
+ * - 그 외 성공 응답: 제한의 절반 이상을 쓰고 있을 때만 limit + 1/limit (한 limit 분량의 응답마다 약 +1)
+ * - limit 은 min-limit ~ max-limit 범위로 유지
+ *
+ * 제한을 넘은 호출은 최대 max-queue 개까지 FIFO 로 기다리고, max-queue-wait 안에 차례가 오지 않거나
+ * 대기열이 가득 차면 {@link KeycloakOverloadedException}으로 거절합니다.
+ * 현재 limit/진행 중/대기열 길이는 keycloak.limiter.{limit,inflight,queue}{limiter}, 거절 수는 keycloak.limiter.rejected 로 노출합니다.
+ *
+ * {@link #yieldTo}로 우선 구역의 limiter 를 지정하면, 그중 하나라도 바쁜({@link #isBusy}) 동안에는
+ * limit 대신 yield-limit 까지만 허가해 우선 구역에 Keycloak 처리 용량을 양보합니다 (0 으로 멈추지는 않음).
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final KeycloakProperties.Limiter config;
+    private final Object lock = new Object();
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private final List<AdaptiveConcurrencyLimiter> yieldsTo = new CopyOnWriteArrayList<>();
+    private final List<Runnable> releaseListeners = new CopyOnWriteArrayList<>();
+    private int yieldLimit;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    private final Counter queueFull;
+    private final Counter queueTimeout;
+
+    public AdaptiveConcurrencyLimiter(String name, KeycloakProperties.Limiter config, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = config;
+        this.limit = clamp(config.getInitialLimit());
+        this.lastDecreaseNanos = System.nanoTime() - config.getSlowCallThreshold().toNanos();
+
+        Gauge.builder("keycloak.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for Keycloak calls")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("keycloak.limiter.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Keycloak calls currently holding a limiter permit")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("keycloak.limiter.queue", this, AdaptiveConcurrencyLimiter::getQueueLength)
+                .description("Keycloak calls waiting for a limiter permit")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        this.queueFull = rejected(meterRegistry, name, "queue_full");
+        this.queueTimeout = rejected(meterRegistry, name, "timeout");
+    }
+
+    /**
+     * 호출 허가 획득 (여유가 없으면 대기열에서 기다림)
+     * 받은 Permit 은 호출이 끝나면 반드시 {@link Permit#release} 또는 {@link Permit#abandon}으로 반납해야 합니다.
+     *
+     * @return 허가 (대기열 초과/대기 시간 초과 시 KeycloakOverloadedException)
+     */
+    public Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter = null;
+                    boolean granted = false;
+                    synchronized (lock) {
+                        if (queue.isEmpty() && inFlight < currentLimit()) {
+                            inFlight++;
+                            granted = true;
+                        } else if (queue.size() < config.getMaxQueue()) {
+                            waiter = new Waiter(sink);
+                            queue.addLast(waiter);
+                        }
+                    }
+
+                    if (granted) {
+                        sink.success(new Permit());
+                    } else if (waiter == null) {
+                        queueFull.increment();
+                        sink.error(new KeycloakOverloadedException(
+                                "Keycloak 호출 대기열이 가득 찼습니다 (limiter=" + name + ")"));
+                    } else {
+                        schedule(waiter);
+                    }
+                })
+                // 차례가 온 직후 구독이 취소되어 전달되지 못한 허가 회수
+                .doOnDiscard(Permit.class, Permit::abandon);
+    }
+
+    /**
+     * 우선 구역이 바쁜 동안 허가 수를 yieldLimit 으로 낮춤
+     * 우선 구역의 허가가 반납될 때마다 이 limiter 의 대기열을 다시 확인하므로, 우선 구역이 한가해지면 바로 limit 까지 허가합니다.
+     *
+     * @param priority 우선 구역 limiter
+     * @param yieldLimit 양보 중 허가 수 (최소 1)
+     */
+    public void yieldTo(List<AdaptiveConcurrencyLimiter> priority, int yieldLimit) {
+        this.yieldLimit = Math.max(1, yieldLimit);
+        yieldsTo.addAll(priority);
+        priority.forEach(limiter -> limiter.releaseListeners.add(this::drain));
+    }
+
+    /**
+     * 대기 중인 호출이 있거나 limit 의 절반 이상을 쓰고 있으면 바쁨
+     */
+    public boolean isBusy() {
+        synchronized (lock) {
+            return !queue.isEmpty() || inFlight * 2 >= limit;
+        }
+    }
+
+    public double getLimit() {
+        synchronized (lock) {
+            return limit;
+        }
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int getQueueLength() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private void schedule(Waiter waiter) {
+        Disposable timeout = Schedulers.parallel().schedule(() -> {
+            if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.EXPIRED)) {
+                synchronized (lock) {
+                    queue.remove(waiter);
+                }
+                queueTimeout.increment();
+                waiter.sink.error(new KeycloakOverloadedException(
+                        "Keycloak 호출 대기 시간 초과 (limiter=" + name + ", wait=" + config.getMaxQueueWait() + ")"));
+            }
+        }, config.getMaxQueueWait().toMillis(), TimeUnit.MILLISECONDS);
+
+        waiter.sink.onDispose(timeout);
+        waiter.sink.onCancel(() -> {
+            if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.EXPIRED)) {
+                synchronized (lock) {
+                    queue.remove(waiter);
+                }
+            }
+        });
+    }
+
+    /**
+     * 허가 반납 후 limit 조정, 여유가 생긴 만큼 대기 중인 호출에 허가 전달
+     *
+     * @param latencyNanos 호출 시간 (sample=false 면 무시)
+     * @param overloaded Keycloak 과부하 신호(5xx/429/IO 오류) 여부
+     * @param sample limit 조정에 반영할지 여부 (취소된 호출은 반영하지 않음)
+     */
+    private void onRelease(long latencyNanos, boolean overloaded, boolean sample) {
+        List<Waiter> granted;
+        synchronized (lock) {
+            inFlight--;
+            if (sample) {
+                adjust(latencyNanos, overloaded);
+            }
+            granted = grantWaiters();
+        }
+        granted.forEach(waiter -> waiter.sink.success(new Permit()));
+        releaseListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 여유가 생긴 만큼 대기 중인 호출에 허가 전달 (우선 구역이 한가해졌을 때 호출됨)
+     */
+    private void drain() {
+        List<Waiter> granted;
+        synchronized (lock) {
+            if (queue.isEmpty()) {
+                return;
+            }
+            granted = grantWaiters();
+        }
+        granted.forEach(waiter -> waiter.sink.success(new Permit()));
+    }
+
+    /**
+     * 대기열 앞에서부터 허가 (lock 안에서 호출, 전달은 lock 밖에서)
+     */
+    private List<Waiter> grantWaiters() {
+        List<Waiter> granted = new ArrayList<>();
+        int currentLimit = currentLimit();
+        while (inFlight < currentLimit && !queue.isEmpty()) {
+            Waiter waiter = queue.pollFirst();
+            if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                inFlight++;
+                granted.add(waiter);
+            }
+        }
+        return granted;
+    }
+
+    private void adjust(long latencyNanos, boolean overloaded) {
+        long slowThreshold = config.getSlowCallThreshold().toNanos();
+        if (overloaded || latencyNanos > slowThreshold) {
+            // 동시에 끝난 느린 응답들이 연달아 limit 을 깎지 않도록 간격당 1회만 감소
+            long now = System.nanoTime();
+            if (now - lastDecreaseNanos >= slowThreshold) {
+                limit = clamp(limit * config.getBackoffRatio());
+                lastDecreaseNanos = now;
+            }
+        } else if ((inFlight + 1) * 2 >= limit) {
+            // 제한을 거의 쓰지 않는 한가한 시간에는 올리지 않음 (부하가 몰릴 때 limit 이 과하게 커져 있지 않도록)
+            limit = clamp(limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * 현재 허가 수 (우선 구역이 바쁘면 yieldLimit 이하)
+     * 우선 구역 limiter 는 자기 lock 을 잡은 채로 이 limiter 를 호출하지 않으므로 lock 순서가 뒤집히지 않습니다.
+     */
+    private int currentLimit() {
+        int current = (int) limit;
+        for (AdaptiveConcurrencyLimiter priority : yieldsTo) {
+            if (priority.isBusy()) {
+                return Math.min(current, yieldLimit);
+            }
+        }
+        return current;
+    }
+
+    private double clamp(double value) {
+        return Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), value));
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String name, String reason) {
+        return Counter.builder("keycloak.limiter.rejected")
+                .description("Keycloak calls rejected by the adaptive concurrency limiter")
+                .tag("limiter", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 (한 번만 반납되며, 이후 호출은 무시)
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * 완료된 호출 반납 (지연/결과를 limit 조정에 반영)
+         *
+         * @param latencyNanos 호출 시간
+         * @param overloaded Keycloak 과부하 신호(5xx/429/IO 오류) 여부
+         */
+        public void release(long latencyNanos, boolean overloaded) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(latencyNanos, overloaded, true);
+            }
+        }
+
+        /**
+         * 결과 없이 끝난 호출 반납 (취소 등, limit 조정 없음)
+         */
+        public void abandon() {
+            if (released.compareAndSet(false, true)) {
+                onRelease(0, false, false);
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        static final int WAITING = 0;
+        static final int GRANTED = 1;
+        static final int EXPIRED = 2;
+
+        final MonoSink<Permit> sink;
+        final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일괄 역할 변경/조회 요청 검증 (즉시 처리 API와 비동기 작업 API 공용)
+ */
+public final class BulkRoleAssignValidation {
+
+    private BulkRoleAssignValidation() {
+    }
+
+    /**
+     * 역할 일괄 변경 요청 검증
+     * 
+     * @param request 역할 일괄 변경 요청
+     * @param maxUsers 허용 사용자 수
+     * @return 오류 메시지 (정상이면 null)
+     */
+    public static String validate(BulkRoleAssignRequest request, int maxUsers) {
+        String usernamesError = validateUsernames(request.getUsernames(), maxUsers);
+        if (usernamesError != null) {
+            return usernamesError;
+        }
+
+        List<String> addRoles = request.getAddRoles() != null ? request.getAddRoles() : List.of();
+        List<String> removeRoles = request.getRemoveRoles() != null ? request.getRemoveRoles() : List.of();
+        if (addRoles.isEmpty() && removeRoles.isEmpty()) {
+            return "추가하거나 제거할 역할이 최소 하나는 있어야 합니다.";
+        }
+        Set<String> overlap = new HashSet<>(addRoles);
+        overlap.retainAll(removeRoles);
+        if (!overlap.isEmpty()) {
+            return "같은 역할을 동시에 추가/제거할 수 없습니다: " + overlap;
+        }
+        return null;
+    }
+
+    /**
+     * 일괄 API 사용자명 목록 검증
+     * 
+     * @param usernames 사용자명 목록
+     * @param maxUsers 허용 사용자 수
+     * @return 오류 메시지 (정상이면 null)
+     */
+    public static String validateUsernames(List<String> usernames, int maxUsers) {
+        if (usernames == null || usernames.isEmpty()) {
+            return "사용자명이 최소 하나는 있어야 합니다.";
+        }
+        if (usernames.stream().anyMatch(username -> username == null || username.trim().isEmpty())) {
+            return "빈 사용자명은 허용되지 않습니다.";
+        }
+        if (usernames.size() > maxUsers) {
+            return "한 번에 처리할 수 있는 사용자는 최대 " + maxUsers + "명입니다.";
+        }
+        return null;
+    }
+}
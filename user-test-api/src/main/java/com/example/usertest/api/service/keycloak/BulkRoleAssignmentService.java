@@ -0,0 +1,140 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.keycloak.LinkedUserIdLookup.LinkedUser;
+import com.example.usertest.api.service.keycloak.representation.RoleRepresentation;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignRequest;
+import com.example.usertest.domain.dto.keycloak.BulkRoleAssignResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 사용자의 Realm 역할 일괄 변경
+ *
+ * /api/v1/roles/assign 을 사용자마다 호출하면 관리자 토큰 발급, 사용자 검색, 역할 조회가 매번 반복됩니다.
+ * 여기서는 한 요청 안에서
+ * - 관리자 토큰 1회 발급
+ * - 추가/제거 역할 표현을 RealmRoleRegistry 에서 한 번에 변환
+ * - 사용자 ID를 로컬 users 테이블에서 묶음 조회 (연결되지 않은 사용자만 Keycloak exact 조회)
+ * - 사용자별 매핑 추가(POST)/제거(DELETE)는 keycloak.bulk.concurrency 만큼만 동시에 진행
+ * 하고, 사용자별 결과를 끝나는 대로 흘려보냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkRoleAssignmentService {
+
+    private final KeycloakAdminService keycloakAdminService;
+    private final KeycloakProperties keycloakProperties;
+    private final LinkedUserIdLookup linkedUserIdLookup;
+
+    /**
+     * 여러 사용자의 Realm 역할 일괄 변경
+     *
+     * @param request 일괄 변경 요청 (사용자명/역할 검증은 호출 측에서 완료)
+     * @return 사용자별 결과 (완료 순서)
+     */
+    public Flux<BulkRoleAssignResult> assign(BulkRoleAssignRequest request) {
+        List<String> usernames = List.copyOf(new LinkedHashSet<>(request.getUsernames()));
+        List<String> addRoles = request.getAddRoles() != null ? request.getAddRoles() : List.of();
+        List<String> removeRoles = request.getRemoveRoles() != null ? request.getRemoveRoles() : List.of();
+        KeycloakProperties.Bulk config = keycloakProperties.getBulk();
+
+        log.atInfo()
+                .addKeyValue("users", usernames.size())
+                .addKeyValue("addRoles", addRoles)
+                .addKeyValue("removeRoles", removeRoles)
+                .log("역할 일괄 변경 시작");
+
+        List<String> roleNames = new ArrayList<>(addRoles);
+        roleNames.addAll(removeRoles);
+
+        return keycloakAdminService.getAdminToken()
+                .flatMapMany(adminToken -> keycloakAdminService.resolveRealmRoles(roleNames, adminToken)
+                        .flatMapMany(roles -> {
+                            List<RoleRepresentation> additions = select(roles, addRoles);
+                            List<RoleRepresentation> removals = select(roles, removeRoles);
+                            if (additions.isEmpty() && removals.isEmpty()) {
+                                return Flux.fromIterable(usernames)
+                                        .map(username -> BulkRoleAssignResult.failure(username, null,
+                                                "역할을 찾을 수 없습니다: " + roleNames));
+                            }
+
+                            return linkedUserIdLookup.find(usernames)
+                                    .flatMap(target -> apply(target, additions, removals, adminToken),
+                                            config.getConcurrency());
+                        }))
+                .doOnComplete(() -> log.atInfo().addKeyValue("users", usernames.size()).log("역할 일괄 변경 완료"))
+                .contextWrite(KeycloakLane.background());
+    }
+
+    /**
+     * 사용자 한 명의 역할 매핑 변경
+     * 로컬 연결 ID가 Keycloak 에 없으면(삭제 후 재생성 등) Keycloak exact 조회로 한 번만 다시 시도합니다.
+     */
+    private Mono<BulkRoleAssignResult> apply(LinkedUser target, List<RoleRepresentation> additions,
+                                             List<RoleRepresentation> removals, String adminToken) {
+        Mono<BulkRoleAssignResult> update;
+        if (target.userId() != null) {
+            update = update(target.username(), target.userId(), additions, removals, adminToken)
+                    .onErrorResume(WebClientResponseException.NotFound.class,
+                            ex -> lookupAndUpdate(target.username(), additions, removals, adminToken));
+        } else {
+            update = lookupAndUpdate(target.username(), additions, removals, adminToken);
+        }
+
+        return update
+                .onErrorResume(ex -> {
+                    log.atWarn()
+                            .addKeyValue("username", target.username())
+                            .addKeyValue("error", ex.getMessage())
+                            .log("사용자 역할 일괄 변경 실패");
+                    return Mono.just(BulkRoleAssignResult.failure(target.username(), target.userId(),
+                            "역할 변경 중 오류 발생: " + ex.getMessage()));
+                });
+    }
+
+    private Mono<BulkRoleAssignResult> lookupAndUpdate(String username, List<RoleRepresentation> additions,
+                                                       List<RoleRepresentation> removals, String adminToken) {
+        return keycloakAdminService.getUserByUsername(username, adminToken)
+                .flatMap(userId -> update(username, userId, additions, removals, adminToken))
+                .switchIfEmpty(Mono.fromSupplier(() ->
+                        BulkRoleAssignResult.failure(username, null, "사용자를 찾을 수 없습니다")));
+    }
+
+    private Mono<BulkRoleAssignResult> update(String username, String userId, List<RoleRepresentation> additions,
+                                              List<RoleRepresentation> removals, String adminToken) {
+        return Mono.when(
+                        keycloakAdminService.updateRealmRoleMappings(userId, HttpMethod.DELETE,
+                                KeycloakOperation.USER_REALM_ROLES_REMOVE, removals, adminToken),
+                        keycloakAdminService.updateRealmRoleMappings(userId, HttpMethod.POST,
+                                KeycloakOperation.USER_REALM_ROLES_ADD, additions, adminToken))
+                .then(Mono.fromSupplier(() -> BulkRoleAssignResult.success(username, userId,
+                        names(additions), names(removals))));
+    }
+
+    private static List<RoleRepresentation> select(List<RoleRepresentation> roles, List<String> roleNames) {
+        Map<String, RoleRepresentation> byName = roles.stream()
+                .collect(Collectors.toMap(RoleRepresentation::name, Function.identity(), (existing, duplicate) -> existing));
+        return new LinkedHashSet<>(roleNames).stream()
+                .map(byName::get)
+                .filter(role -> role != null)
+                .toList();
+    }
+
+    private static List<String> names(List<RoleRepresentation> roles) {
+        return roles.stream().map(RoleRepresentation::name).toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 완료 시 기본 역할 생성 (keycloak.bootstrap-default-roles=true 일 때)
+ *
+ * Realm 역할 목록 1회 조회 후 없는 역할만 생성하므로 재기동마다 409 가 쌓이지 않고,
+ * 읽어 온 목록으로 RealmRoleRegistry 스냅샷도 미리 채워집니다.
+ * 기동을 막지 않도록 비동기로 실행하며, 실패해도 애플리케이션은 계속 동작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DefaultRoleBootstrap {
+
+    private final KeycloakAdminService keycloakAdminService;
+    private final KeycloakProperties keycloakProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!keycloakProperties.isBootstrapDefaultRoles()) {
+            return;
+        }
+        keycloakAdminService.createDefaultRoles()
+                .contextWrite(KeycloakLane.background())
+                .subscribe(
+                        created -> log.atInfo().addKeyValue("created", created).log("기본 역할 부트스트랩 완료"),
+                        error -> log.warn("기본 역할 부트스트랩 실패: {}", error.getMessage()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.usertest.api.service.keycloak;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹명 → 그룹 ID 로컬 조회
+ *
+ * 그룹 ID는 그룹이 삭제되기 전까지 바뀌지 않으므로 만료 없이 보관하고,
+ * 보관된 ID로 그룹 가입이 404 를 받으면 {@link #evict}로 지운 뒤 다시 찾습니다.
+ * 같은 이름의 조회/생성 합치기는 KeycloakAdminService 가 SingleFlight 로 처리합니다.
+ */
+@Component
+public class GroupRegistry {
+
+    private final Map<String, String> groupIds = new ConcurrentHashMap<>();
+
+    /**
+     * @param groupName 그룹명
+     * @return 그룹 ID (모르면 null)
+     */
+    public String get(String groupName) {
+        return groupIds.get(groupName);
+    }
+
+    public void put(String groupName, String groupId) {
+        groupIds.put(groupName, groupId);
+    }
+
+    /**
+     * 더 이상 유효하지 않은 ID 제거 (그 사이 다른 ID로 바뀌었으면 유지)
+     */
+    public void evict(String groupName, String groupId) {
+        groupIds.remove(groupName, groupId);
+    }
+}
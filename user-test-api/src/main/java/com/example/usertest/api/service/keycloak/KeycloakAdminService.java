@@ -1,35 +1,78 @@
 package com.example.usertest.api.service.keycloak;
 
 import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.exception.KeycloakUserConflictException;
+import com.example.usertest.api.logging.LogMarkers;
+import com.example.usertest.api.service.keycloak.representation.AccessTokenRepresentation;
+import com.example.usertest.api.service.keycloak.representation.AdminEventRepresentation;
+import com.example.usertest.api.service.keycloak.representation.ClientRepresentation;
+import com.example.usertest.api.service.keycloak.representation.GroupRepresentation;
+import com.example.usertest.api.service.keycloak.representation.RoleRepresentation;
+import com.example.usertest.api.service.keycloak.representation.UserDetailRepresentation;
+import com.example.usertest.api.service.keycloak.representation.UserRepresentation;
+import com.example.usertest.api.service.observation.ProvisioningObservation;
 import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
 import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateResponse;
 import com.example.usertest.domain.dto.keycloak.RoleCreateRequest;
 import com.example.usertest.domain.dto.keycloak.RoleResponse;
 import com.example.usertest.domain.dto.keycloak.RoleAssignRequest;
 import com.example.usertest.domain.dto.keycloak.UserRoleResponse;
+import io.micrometer.common.KeyValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
+import java.net.URI;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 /**
  * Keycloak Admin API 통신 서비스
  * 사용자 생성, 역할 할당, 그룹 관리 등의 관리 기능 제공
+ *
+ * 응답은 필요한 필드만 가진 최소 표현(representation 패키지)으로 디코딩하고,
+ * 목록은 bodyToFlux로 요소 단위 디코딩하여 전체 배열을 Map 트리로 만들지 않습니다.
  */
 @Service
+@RegisterReflectionForBinding({
+        AccessTokenRepresentation.class,
+        AdminEventRepresentation.class,
+        ClientRepresentation.class,
+        GroupRepresentation.class,
+        RoleRepresentation.class,
+        UserDetailRepresentation.class,
+        UserRepresentation.class
+})
 @RequiredArgsConstructor
 @Slf4j
 public class KeycloakAdminService {
 
+    /**
+     * 프로비저닝으로 만든 사용자에 기록하는 요청 식별자 속성 (재시도 시 기존 사용자 채택 여부 확인용)
+     */
+    static final String PROVISIONING_ATTRIBUTE = "provisioning_request";
+
     private final WebClient webClient;
     private final KeycloakProperties keycloakProperties;
+    private final KeycloakAdminUris keycloakAdminUris;
+    private final RealmRoleRegistry realmRoleRegistry;
+    private final UserRoleCache userRoleCache;
+    private final GroupRegistry groupRegistry;
+    private final SingleFlight singleFlight;
+    private final ProvisioningObservation provisioningObservation;
 
     /**
      * Keycloak Admin API 인증 토큰 획득
@@ -38,10 +81,7 @@ public class KeycloakAdminService {
      * @return 관리자 액세스 토큰
      */
     public Mono<String> getAdminToken() {
-        log.info("🔐 Keycloak Admin 토큰 요청 시작");
-
-        String tokenUrl = String.format("%s/realms/master/protocol/openid-connect/token",
-                keycloakProperties.getServerUrl());
+        log.debug("Keycloak Admin 토큰 요청 시작");
 
         Map<String, String> tokenRequest = new HashMap<>();
         tokenRequest.put("grant_type", "password");
@@ -49,15 +89,17 @@ public class KeycloakAdminService {
         tokenRequest.put("username", keycloakProperties.getAdmin().getUsername());
         tokenRequest.put("password", keycloakProperties.getAdmin().getPassword());
 
-        return webClient.post()
-                .uri(tokenUrl)
-                .header("Content-Type", "application/x-www-form-urlencoded")
-                .bodyValue(buildFormData(tokenRequest))
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> (String) response.get("access_token"))
-                .doOnSuccess(token -> log.info("✅ Admin 토큰 발급 성공"))
-                .doOnError(error -> log.error("❌ Admin 토큰 발급 실패: {}", error.getMessage()));
+        // 동시에 들어온 발급 요청은 진행 중인 발급 1건의 결과를 함께 사용
+        return singleFlight.execute(KeycloakOperation.ADMIN_TOKEN.getTagValue(), "admin-cli", () -> webClient.post()
+                        .uri(keycloakAdminUris.adminToken())
+                        .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.ADMIN_TOKEN)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .bodyValue(buildFormData(tokenRequest))
+                        .retrieve()
+                        .bodyToMono(AccessTokenRepresentation.class)
+                        .map(AccessTokenRepresentation::accessToken)
+                        .doOnSuccess(token -> log.atInfo().addMarker(LogMarkers.SAMPLED).log("Admin 토큰 발급 성공"))
+                        .doOnError(error -> log.error("❌ Admin 토큰 발급 실패: {}", error.getMessage())));
     }
 
     /**
@@ -67,41 +109,37 @@ public class KeycloakAdminService {
      * @return 사용자 생성 결과
      */
     public Mono<KeycloakUserCreateResponse> createUser(KeycloakUserCreateRequest createRequest) {
-        log.info("👤 Keycloak 사용자 생성 시작: {}", createRequest.getUsername());
+        log.atDebug().addKeyValue("username", createRequest.getUsername()).log("Keycloak 사용자 생성 시작");
 
-        return getAdminToken()
+        // 단계별 span: user.create → admin.token, users.create, users.search, roles-and-groups
+        Mono<KeycloakUserCreateResponse> provisioning = provisioningObservation.observe("admin.token", getAdminToken())
                 .flatMap(adminToken -> {
-                    String usersUrl = String.format("%s/admin/realms/%s/users",
-                            keycloakProperties.getServerUrl(),
-                            keycloakProperties.getRealm());
-
-                    Map<String, Object> userRepresentation = buildUserRepresentation(createRequest);
+                    return provisioningObservation.observe("users.create", postUser(createRequest, null, adminToken))
+                            .then(provisioningObservation.observe("users.search",
+                                    searchUserByUsername(createRequest.getUsername(), adminToken)))
+                            .flatMap(userId -> provisioningObservation.observe("roles-and-groups",
+                                            assignRolesAndGroups(userId, createRequest, adminToken))
+                                    // 단건 생성은 사용자가 만들어졌으면 성공으로 응답 (역할/그룹 오류는 기록만)
+                                    .onErrorResume(ex -> {
+                                        log.error("❌ 역할/그룹 할당 중 오류: {}", ex.getMessage());
+                                        return Mono.empty();
+                                    })
+                                    .then(Mono.just(KeycloakUserCreateResponse.success(
+                                            userId,
+                                            createRequest.getUsername(),
+                                            createRequest.getEmail()
+                                    ))))
+                            .switchIfEmpty(Mono.fromSupplier(() -> KeycloakUserCreateResponse.failure("사용자 ID 조회 실패")));
+                });
 
-                    return webClient.post()
-                            .uri(usersUrl)
-                            .header("Authorization", "Bearer " + adminToken)
-                            .header("Content-Type", "application/json")
-                            .bodyValue(userRepresentation)
-                            .retrieve()
-                            .toBodilessEntity()
-                            .then(getUserByUsername(createRequest.getUsername(), adminToken))
-                            .flatMap(userId -> {
-                                if (userId != null) {
-                                    return assignRolesAndGroups(userId, createRequest, adminToken)
-                                            .then(Mono.just(KeycloakUserCreateResponse.success(
-                                                    userId,
-                                                    createRequest.getUsername(),
-                                                    createRequest.getEmail()
-                                            )));
-                                } else {
-                                    return Mono.just(KeycloakUserCreateResponse.failure("사용자 ID 조회 실패"));
-                                }
-                            });
-                })
+        return provisioningObservation.observe("user.create",
+                        KeyValues.of("username", String.valueOf(createRequest.getUsername())), provisioning)
                 .doOnSuccess(response -> {
                     if (response.isSuccess()) {
-                        log.info("✅ 사용자 생성 성공: {} (ID: {})", 
-                                response.getUsername(), response.getKeycloakUserId());
+                        log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                .addKeyValue("username", response.getUsername())
+                                .addKeyValue("keycloakUserId", response.getKeycloakUserId())
+                                .log("사용자 생성 성공");
                     } else {
                         log.error("❌ 사용자 생성 실패: {}", response.getErrorMessage());
                     }
@@ -118,6 +156,83 @@ public class KeycloakAdminService {
                 });
     }
 
+    /**
+     * 사용자 생성 또는 기존 사용자 채택 후 역할/그룹 적용 (아웃박스/일괄 작업의 재시도 가능한 프로비저닝)
+     * 
+     * 생성 요청에 provisioning_request 속성으로 요청 식별자를 기록합니다. 생성이 409로 실패하면
+     * 같은 사용자명의 사용자가 같은 식별자를 가진 경우(이전 시도가 만든 사용자)에만 채택하고,
+     * 그 밖의 기존 사용자는 {@link KeycloakUserConflictException}으로 실패시켜 재시도하지 않습니다.
+     * 어느 경우든 역할/그룹을 다시 적용하므로 이전 시도가 할당 전에 중단되었어도 재시도에서 보완됩니다.
+     * Realm 사용자 프로필이 관리되지 않는 속성을 허용하지 않으면 속성이 저장되지 않아 채택하지 않습니다.
+     * {@link #createUser}와 달리 역할/그룹 할당 오류를 그대로 전달하므로 호출 측이 재시도해야 합니다.
+     * 
+     * @param createRequest 사용자 생성 요청 정보
+     * @param provisioningId 재시도 간에 유지되는 요청 식별자 (아웃박스 이벤트/작업 항목 기준)
+     * @return Keycloak 사용자 ID (다른 사용자와 충돌 시 KeycloakUserConflictException, 그 밖의 실패는 해당 오류)
+     */
+    public Mono<String> provisionUser(KeycloakUserCreateRequest createRequest, String provisioningId) {
+        String username = createRequest.getUsername();
+
+        Mono<String> provisioning = provisioningObservation.observe("admin.token", getAdminToken())
+                .flatMap(adminToken -> provisioningObservation.observe("users.create",
+                                postUser(createRequest, provisioningId, adminToken))
+                        .then(provisioningObservation.observe("users.search", searchUserByUsername(username, adminToken)))
+                        .onErrorResume(WebClientResponseException.Conflict.class,
+                                ex -> adoptOwnUser(username, provisioningId, adminToken))
+                        .switchIfEmpty(Mono.error(() -> new IllegalStateException("사용자 ID 조회 실패: " + username)))
+                        .flatMap(userId -> provisioningObservation.observe("roles-and-groups",
+                                        assignRolesAndGroups(userId, createRequest, adminToken))
+                                .thenReturn(userId)));
+
+        return provisioningObservation.observe("user.provision", KeyValues.of("username", String.valueOf(username)),
+                provisioning);
+    }
+
+    /**
+     * 409 응답 후 같은 요청 식별자로 만들어진 기존 사용자만 채택
+     */
+    private Mono<String> adoptOwnUser(String username, String provisioningId, String adminToken) {
+        return searchUserByUsername(username, adminToken)
+                .flatMap(userId -> webClient.get()
+                        .uri(keycloakAdminUris.user(userId))
+                        .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_GET)
+                        .header("Authorization", "Bearer " + adminToken)
+                        .retrieve()
+                        .bodyToMono(UserDetailRepresentation.class))
+                .filter(user -> user.hasAttribute(PROVISIONING_ATTRIBUTE, provisioningId))
+                .map(UserDetailRepresentation::id)
+                .doOnNext(userId -> log.atInfo()
+                        .addKeyValue("username", username)
+                        .addKeyValue("keycloakUserId", userId)
+                        .log("이전 시도에서 생성한 Keycloak 사용자 채택"))
+                .switchIfEmpty(Mono.error(() -> new KeycloakUserConflictException(
+                        "이 요청이 만들지 않은 Keycloak 사용자와 충돌 (사용자명/이메일 중복): " + username)));
+    }
+
+    /**
+     * 사용자 생성 요청 (POST /users)
+     * 
+     * @param createRequest 사용자 생성 요청 정보
+     * @param provisioningId provisioning_request 속성으로 기록할 요청 식별자 (없으면 null)
+     * @param adminToken 관리자 토큰
+     * @return 생성 완료 신호 (이미 있으면 409 오류)
+     */
+    private Mono<Void> postUser(KeycloakUserCreateRequest createRequest, String provisioningId, String adminToken) {
+        Map<String, Object> user = buildUserRepresentation(createRequest);
+        if (provisioningId != null) {
+            user.put("attributes", Map.of(PROVISIONING_ATTRIBUTE, List.of(provisioningId)));
+        }
+        return webClient.post()
+                .uri(keycloakAdminUris.users())
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_CREATE)
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json")
+                .bodyValue(user)
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
     /**
      * pulsar_system 사용자 생성 (특별 권한 포함)
      * delete-account, manage-account 권한을 자동으로 할당
@@ -147,34 +262,175 @@ public class KeycloakAdminService {
 
     /**
      * 사용자명으로 Keycloak 사용자 ID 조회
+     * 같은 사용자명의 조회가 진행 중이면 새로 요청하지 않고 그 결과를 함께 사용합니다.
      * 
      * @param username 사용자명
      * @param adminToken 관리자 토큰
-     * @return Keycloak 사용자 ID
+     * @return Keycloak 사용자 ID (없으면 빈 Mono)
      */
-    private Mono<String> getUserByUsername(String username, String adminToken) {
-        String searchUrl = String.format("%s/admin/realms/%s/users?username=%s",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                username);
+    Mono<String> getUserByUsername(String username, String adminToken) {
+        return singleFlight.execute(KeycloakOperation.USERS_SEARCH.getTagValue(), username.toLowerCase(Locale.ROOT),
+                () -> searchUserByUsername(username, adminToken));
+    }
 
+    /**
+     * 사용자명으로 Keycloak 사용자 ID 조회 (합치지 않음 - 생성 직후 확인용)
+     * 
+     * @param username 사용자명
+     * @param adminToken 관리자 토큰
+     * @return Keycloak 사용자 ID (없으면 빈 Mono)
+     */
+    private Mono<String> searchUserByUsername(String username, String adminToken) {
         return webClient.get()
-                .uri(searchUrl)
+                .uri(keycloakAdminUris.userByUsername(username))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_SEARCH)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
-                .bodyToMono(List.class)
-                .map(users -> {
-                    if (!users.isEmpty()) {
-                        Map<String, Object> user = (Map<String, Object>) users.get(0);
-                        return (String) user.get("id");
-                    }
-                    return null;
+                .bodyToFlux(UserRepresentation.class)
+                .next()
+                .map(UserRepresentation::id);
+    }
+
+    /**
+     * 사용자명과 정확히 일치하는 Keycloak 사용자 ID 조회
+     * 대사 작업에서 로컬 사용자를 Keycloak 사용자에 연결하는 용도 (없으면 빈 Mono)
+     *
+     * @param username 사용자명
+     * @return Keycloak 사용자 ID
+     */
+    public Mono<String> findUserIdByUsername(String username) {
+        return getAdminToken()
+                .flatMap(adminToken -> {
+                    return webClient.get()
+                            .uri(keycloakAdminUris.userByUsername(username))
+                            .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_SEARCH)
+                            .header("Authorization", "Bearer " + adminToken)
+                            .retrieve()
+                            .bodyToFlux(UserRepresentation.class)
+                            .filter(user -> username.equalsIgnoreCase(user.username()))
+                            .next()
+                            .map(UserRepresentation::id);
                 });
     }
 
     /**
-     * 사용자에게 역할과 그룹 할당
+     * Realm 사용자 수 조회
      * 
+     * @return 사용자 수
+     */
+    public Mono<Integer> countUsers() {
+        return getAdminToken()
+                .flatMap(adminToken -> {
+                    return webClient.get()
+                            .uri(keycloakAdminUris.usersCount())
+                            .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_COUNT)
+                            .header("Authorization", "Bearer " + adminToken)
+                            .retrieve()
+                            .bodyToMono(Integer.class);
+                });
+    }
+
+    /**
+     * 사용자 목록 페이지 조회 (briefRepresentation: id, username, email, enabled 등 기본 필드만)
+     * 
+     * @param first 시작 오프셋
+     * @param max 페이지 크기
+     * @return 사용자 표현 목록
+     */
+    public Mono<List<UserRepresentation>> getUsersPage(int first, int max) {
+        return getAdminToken()
+                .flatMap(adminToken -> {
+                    return webClient.get()
+                            .uri(keycloakAdminUris.usersPage(first, max))
+                            .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_LIST)
+                            .header("Authorization", "Bearer " + adminToken)
+                            .retrieve()
+                            .bodyToFlux(UserRepresentation.class)
+                            .collectList();
+                });
+    }
+
+    /**
+     * ID로 Keycloak 사용자 조회 (삭제된 사용자는 빈 Mono)
+     * 
+     * @param userId Keycloak 사용자 ID
+     * @return 사용자 표현
+     */
+    public Mono<UserRepresentation> findUserById(String userId) {
+        return getAdminToken()
+                .flatMap(adminToken -> {
+                    return webClient.get()
+                            .uri(keycloakAdminUris.user(userId))
+                            .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USERS_GET)
+                            .header("Authorization", "Bearer " + adminToken)
+                            .retrieve()
+                            .bodyToMono(UserRepresentation.class)
+                            .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty());
+                });
+    }
+
+    /**
+     * 사용자 관련 관리자 이벤트 조회 (최신순)
+     * Realm의 관리자 이벤트 저장(adminEventsEnabled)이 켜져 있어야 결과가 있습니다.
+     * 
+     * @param dateFrom 조회 시작 날짜 (yyyy-MM-dd)
+     * @param first 시작 오프셋
+     * @param max 페이지 크기
+     * @return 관리자 이벤트 목록
+     */
+    public Mono<List<AdminEventRepresentation>> getUserAdminEvents(java.time.LocalDate dateFrom, int first, int max) {
+        return getAdminToken()
+                .flatMap(adminToken -> {
+                    return webClient.get()
+                            .uri(keycloakAdminUris.userAdminEvents(dateFrom, first, max))
+                            .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.ADMIN_EVENTS_LIST)
+                            .header("Authorization", "Bearer " + adminToken)
+                            .retrieve()
+                            .bodyToFlux(AdminEventRepresentation.class)
+                            .collectList();
+                });
+    }
+
+    /**
+     * Realm 역할 전체 조회 (페이지 단위)
+     *
+     * @return Realm 역할 스트림
+     */
+    public Flux<RoleRepresentation> getRealmRoles() {
+        return getAdminToken()
+                .flatMapMany(adminToken -> pages(keycloakAdminUris::realmRolesPage,
+                        KeycloakOperation.ROLES_REALM_LIST, RoleRepresentation.class, adminToken));
+    }
+
+    /**
+     * first/max 페이지 단위로 목록을 순차 조회
+     * 한 번에 한 페이지만 요청하고 보관하며, 마지막(부분) 페이지를 받거나
+     * 다운스트림이 취소하면(next/take) 다음 페이지를 요청하지 않습니다.
+     *
+     * @param pageUri 페이지 URI (first, max → URI)
+     * @param operation 작업 이름 (keycloak.client.requests 태그)
+     * @param type 요소 표현 타입
+     * @param adminToken 관리자 토큰
+     * @return 전체 요소 스트림
+     */
+    private <T> Flux<T> pages(BiFunction<Integer, Integer, URI> pageUri, KeycloakOperation operation,
+                              Class<T> type, String adminToken) {
+        int pageSize = keycloakProperties.getAdminPageSize();
+        return Flux.range(0, Integer.MAX_VALUE)
+                .concatMap(page -> webClient.get()
+                        .uri(pageUri.apply(page * pageSize, pageSize))
+                        .attribute(KeycloakOperation.ATTRIBUTE, operation)
+                        .header("Authorization", "Bearer " + adminToken)
+                        .retrieve()
+                        .bodyToFlux(type)
+                        .collectList(), 0)
+                .takeUntil(items -> items.size() < pageSize)
+                .concatMapIterable(items -> items);
+    }
+
+    /**
+     * 사용자에게 역할과 그룹 할당 (오류는 그대로 전달)
+     *
      * @param userId Keycloak 사용자 ID
      * @param createRequest 생성 요청 정보
      * @param adminToken 관리자 토큰
@@ -186,11 +442,13 @@ public class KeycloakAdminService {
         Mono<Void> groupAssignment = Mono.empty();
 
         if (createRequest.getRoles() != null && !createRequest.getRoles().isEmpty()) {
-            roleAssignment = assignRolesToUser(userId, createRequest.getRoles(), adminToken);
+            roleAssignment = provisioningObservation.observe("roles.assign",
+                    assignRolesToUser(userId, createRequest.getRoles(), adminToken));
         }
 
         if (createRequest.getGroups() != null && !createRequest.getGroups().isEmpty()) {
-            groupAssignment = assignGroupsToUser(userId, createRequest.getGroups(), adminToken);
+            groupAssignment = provisioningObservation.observe("groups.assign",
+                    assignGroupsToUser(userId, createRequest.getGroups(), adminToken));
         }
 
         return Mono.when(roleAssignment, groupAssignment);
@@ -205,40 +463,17 @@ public class KeycloakAdminService {
      * @return 역할 할당 완료 신호
      */
     private Mono<Void> assignRolesToUser(String userId, List<String> roles, String adminToken) {
-        log.info("🎭 사용자 {}에게 역할 할당: {}", userId, roles);
+        log.atDebug().addKeyValue("userId", userId).addKeyValue("roles", roles).log("사용자 역할 할당");
         
         // Keycloak에서 사용 가능한 클라이언트 역할 조회 후 할당
-        String clientRolesUrl = String.format("%s/admin/realms/%s/clients",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm());
-
-        return webClient.get()
-                .uri(clientRolesUrl)
-                .header("Authorization", "Bearer " + adminToken)
-                .retrieve()
-                .bodyToMono(List.class)
-                .flatMap(clients -> {
-                    // account 클라이언트 찾기 (manage-account, delete-account 역할을 가진 클라이언트)
-                    String accountClientId = null;
-                    for (Object clientObj : clients) {
-                        Map<String, Object> client = (Map<String, Object>) clientObj;
-                        if ("account".equals(client.get("clientId"))) {
-                            accountClientId = (String) client.get("id");
-                            break;
-                        }
-                    }
-                    
-                    if (accountClientId == null) {
-                        log.warn("⚠️ account 클라이언트를 찾을 수 없습니다.");
-                        return Mono.<Void>empty();
-                    }
-                    
-                    return assignClientRolesToUser(userId, accountClientId, roles, adminToken);
-                })
-                .onErrorResume(ex -> {
-                    log.error("❌ 역할 할당 중 오류: {}", ex.getMessage());
-                    return Mono.<Void>empty();
-                });
+        return pages(keycloakAdminUris::clientsPage, KeycloakOperation.CLIENTS_LIST, ClientRepresentation.class, adminToken)
+                // account 클라이언트 찾기 (manage-account, delete-account 역할을 가진 클라이언트), 찾으면 다음 페이지는 요청하지 않음
+                .filter(client -> "account".equals(client.clientId()))
+                .next()
+                .map(ClientRepresentation::id)
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("⚠️ account 클라이언트를 찾을 수 없습니다.")))
+                .flatMap(accountClientId -> provisioningObservation.observe("client-roles.assign",
+                        assignClientRolesToUser(userId, accountClientId, roles, adminToken)));
     }
 
     /**
@@ -251,54 +486,36 @@ public class KeycloakAdminService {
      * @return 역할 할당 완료 신호
      */
     private Mono<Void> assignClientRolesToUser(String userId, String clientId, List<String> roles, String adminToken) {
-        // 클라이언트 역할 조회
-        String clientRolesUrl = String.format("%s/admin/realms/%s/clients/%s/roles",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                clientId);
-
-        return webClient.get()
-                .uri(clientRolesUrl)
-                .header("Authorization", "Bearer " + adminToken)
-                .retrieve()
-                .bodyToMono(List.class)
-                .flatMap(availableRoles -> {
-                    // 요청된 역할 중 실제 존재하는 역할만 필터링
-                    List<Map<String, Object>> rolesToAssign = roles.stream()
-                            .map(roleName -> {
-                                for (Object roleObj : availableRoles) {
-                                    Map<String, Object> role = (Map<String, Object>) roleObj;
-                                    if (roleName.equals(role.get("name"))) {
-                                        return role;
-                                    }
-                                }
-                                return null;
-                            })
-                            .filter(role -> role != null)
-                            .toList();
+        Set<String> requested = new HashSet<>(roles);
 
+        // 클라이언트 역할 조회
+        return pages((first, max) -> keycloakAdminUris.clientRolesPage(clientId, first, max),
+                        KeycloakOperation.CLIENT_ROLES_LIST, RoleRepresentation.class, adminToken)
+                // 요청된 역할 중 실제 존재하는 역할만 필터링, 모두 찾으면 다음 페이지는 요청하지 않음
+                .filter(role -> requested.contains(role.name()))
+                .take(requested.size())
+                .collectList()
+                .flatMap(rolesToAssign -> {
                     if (rolesToAssign.isEmpty()) {
                         log.warn("⚠️ 할당할 수 있는 역할이 없습니다: {}", roles);
                         return Mono.<Void>empty();
                     }
 
                     // 사용자에게 클라이언트 역할 할당
-                    String assignRoleUrl = String.format("%s/admin/realms/%s/users/%s/role-mappings/clients/%s",
-                            keycloakProperties.getServerUrl(),
-                            keycloakProperties.getRealm(),
-                            userId,
-                            clientId);
-
                     return webClient.post()
-                            .uri(assignRoleUrl)
+                            .uri(keycloakAdminUris.userClientRoleMappings(userId, clientId))
+                            .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USER_CLIENT_ROLES_ADD)
                             .header("Authorization", "Bearer " + adminToken)
                             .header("Content-Type", "application/json")
                             .bodyValue(rolesToAssign)
                             .retrieve()
                             .toBodilessEntity()
                             .then()
-                            .doOnSuccess(v -> log.info("✅ 클라이언트 역할 할당 성공: {}", rolesToAssign.stream()
-                                    .map(role -> role.get("name")).toList()));
+                            .doFinally(signal -> userRoleCache.invalidateUserId(userId))
+                            .doOnSuccess(v -> log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                    .addKeyValue("userId", userId)
+                                    .addKeyValue("roles", rolesToAssign.stream().map(RoleRepresentation::name).toList())
+                                    .log("클라이언트 역할 할당 성공"));
                 });
     }
 
@@ -311,113 +528,118 @@ public class KeycloakAdminService {
      * @return 그룹 할당 완료 신호
      */
     private Mono<Void> assignGroupsToUser(String userId, List<String> groups, String adminToken) {
-        log.info("👥 사용자 {}를 그룹에 추가: {}", userId, groups);
-        
-        // 그룹 목록 조회
-        String groupsUrl = String.format("%s/admin/realms/%s/groups",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm());
+        log.atDebug().addKeyValue("userId", userId).addKeyValue("groups", groups).log("사용자 그룹 추가");
 
-        return webClient.get()
-                .uri(groupsUrl)
-                .header("Authorization", "Bearer " + adminToken)
-                .retrieve()
-                .bodyToMono(List.class)
-                .flatMap(availableGroups -> {
-                    // 요청된 그룹들 처리
-                    return Flux.fromIterable(groups)
-                            .flatMap(groupName -> joinUserToGroup(userId, groupName, availableGroups, adminToken))
-                            .then();
-                })
-                .onErrorResume(ex -> {
-                    log.error("❌ 그룹 할당 중 오류: {}", ex instanceof Throwable ? ((Throwable) ex).getMessage() : ex.toString());
-                    return Mono.<Void>empty();
-                });
+        return Flux.fromIterable(new LinkedHashSet<>(groups))
+                .flatMap(groupName -> provisioningObservation.observe("group.join",
+                        KeyValues.of("group", groupName),
+                        joinUserToGroup(userId, groupName, adminToken)))
+                .then();
     }
 
     /**
      * 사용자를 특정 그룹에 추가
+     * 보관된 그룹 ID가 삭제된 그룹이면(404) 지우고 한 번만 다시 찾습니다.
      * 
      * @param userId Keycloak 사용자 ID
      * @param groupName 그룹명
-     * @param availableGroups 사용 가능한 그룹 목록
      * @param adminToken 관리자 토큰
      * @return 그룹 가입 완료 신호
      */
-    private Mono<Void> joinUserToGroup(String userId, String groupName, List<Object> availableGroups, String adminToken) {
-        // 그룹 찾기 또는 생성
-        String groupId = null;
-        for (Object groupObj : availableGroups) {
-            Map<String, Object> group = (Map<String, Object>) groupObj;
-            if (groupName.equals(group.get("name"))) {
-                groupId = (String) group.get("id");
-                break;
-            }
-        }
+    private Mono<Void> joinUserToGroup(String userId, String groupName, String adminToken) {
+        return resolveGroupId(groupName, adminToken)
+                .flatMap(groupId -> addUserToGroup(userId, groupId, adminToken)
+                        .onErrorResume(WebClientResponseException.NotFound.class, ex -> {
+                            groupRegistry.evict(groupName, groupId);
+                            return resolveGroupId(groupName, adminToken)
+                                    .flatMap(freshId -> addUserToGroup(userId, freshId, adminToken));
+                        }));
+    }
 
-        if (groupId == null) {
-            // 그룹이 없으면 생성
-            return createGroup(groupName, adminToken)
-                    .flatMap(newGroupId -> addUserToGroup(userId, newGroupId, adminToken));
-        } else {
-            // 기존 그룹에 사용자 추가
-            return addUserToGroup(userId, groupId, adminToken);
+    /**
+     * 그룹명 → 그룹 ID (GroupRegistry → exact 검색 → 없으면 생성)
+     * 같은 그룹을 동시에 찾거나 만드는 요청은 하나로 합치므로, 같은 그룹의 사용자를 한꺼번에 프로비저닝해도
+     * 검색/생성은 한 번만 일어나고 409 가 반복되지 않습니다.
+     * 
+     * @param groupName 그룹명
+     * @param adminToken 관리자 토큰
+     * @return 그룹 ID
+     */
+    private Mono<String> resolveGroupId(String groupName, String adminToken) {
+        String cached = groupRegistry.get(groupName);
+        if (cached != null) {
+            return Mono.just(cached);
         }
+        return singleFlight.execute("groups.resolve", groupName, () -> getGroupByName(groupName, adminToken)
+                        .switchIfEmpty(Mono.defer(() ->
+                                provisioningObservation.observe("group.create", createGroup(groupName, adminToken)))))
+                .doOnNext(groupId -> groupRegistry.put(groupName, groupId));
     }
 
     /**
      * 새 그룹 생성
+     * 생성 응답의 Location 헤더에서 ID를 읽으며, 다른 인스턴스가 먼저 만들어 409 가 나면 exact 검색 1회로 ID를 가져옵니다.
      * 
      * @param groupName 그룹명
      * @param adminToken 관리자 토큰
-     * @return 생성된 그룹 ID
+     * @return 생성된(또는 이미 있던) 그룹 ID
      */
     private Mono<String> createGroup(String groupName, String adminToken) {
         log.info("🆕 새 그룹 생성: {}", groupName);
         
-        String createGroupUrl = String.format("%s/admin/realms/%s/groups",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm());
-
         Map<String, Object> groupData = new HashMap<>();
         groupData.put("name", groupName);
 
         return webClient.post()
-                .uri(createGroupUrl)
+                .uri(keycloakAdminUris.groups())
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.GROUPS_CREATE)
                 .header("Authorization", "Bearer " + adminToken)
                 .header("Content-Type", "application/json")
                 .bodyValue(groupData)
                 .retrieve()
                 .toBodilessEntity()
-                .then(getGroupByName(groupName, adminToken))
+                .flatMap(response -> Mono.justOrEmpty(idFromLocation(response.getHeaders().getLocation())))
+                .switchIfEmpty(Mono.defer(() -> getGroupByName(groupName, adminToken)))
+                .onErrorResume(WebClientResponseException.Conflict.class, ex -> {
+                    log.atDebug().addKeyValue("group", groupName).log("그룹이 이미 존재함, ID 조회");
+                    return getGroupByName(groupName, adminToken);
+                })
                 .doOnSuccess(groupId -> log.info("✅ 그룹 생성 완료: {} (ID: {})", groupName, groupId));
     }
 
     /**
-     * 그룹명으로 그룹 ID 조회
+     * 생성 응답 Location 헤더(.../groups/{id})의 마지막 경로 조각
+     * 
+     * @param location Location 헤더
+     * @return 리소스 ID (없으면 null)
+     */
+    static String idFromLocation(URI location) {
+        if (location == null || location.getPath() == null) {
+            return null;
+        }
+        String path = location.getPath();
+        int slash = path.lastIndexOf('/');
+        return slash >= 0 && slash < path.length() - 1 ? path.substring(slash + 1) : null;
+    }
+
+    /**
+     * 그룹명으로 최상위 그룹 ID 조회
+     * exact 검색은 같은 이름의 하위 그룹을 가진 상위 그룹도 돌려주므로 이름이 일치하는 항목만 사용
      * 
      * @param groupName 그룹명
      * @param adminToken 관리자 토큰
-     * @return 그룹 ID
+     * @return 그룹 ID (없으면 빈 Mono)
      */
     private Mono<String> getGroupByName(String groupName, String adminToken) {
-        String groupsUrl = String.format("%s/admin/realms/%s/groups?search=%s",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                groupName);
-
         return webClient.get()
-                .uri(groupsUrl)
+                .uri(keycloakAdminUris.groupByName(groupName))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.GROUPS_SEARCH)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
-                .bodyToMono(List.class)
-                .map(groups -> {
-                    if (!groups.isEmpty()) {
-                        Map<String, Object> group = (Map<String, Object>) groups.get(0);
-                        return (String) group.get("id");
-                    }
-                    return null;
-                });
+                .bodyToFlux(GroupRepresentation.class)
+                .filter(group -> groupName.equals(group.name()))
+                .next()
+                .map(GroupRepresentation::id);
     }
 
     /**
@@ -429,19 +651,18 @@ public class KeycloakAdminService {
      * @return 그룹 가입 완료 신호
      */
     private Mono<Void> addUserToGroup(String userId, String groupId, String adminToken) {
-        String joinGroupUrl = String.format("%s/admin/realms/%s/users/%s/groups/%s",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                userId,
-                groupId);
-
         return webClient.put()
-                .uri(joinGroupUrl)
+                .uri(keycloakAdminUris.userGroup(userId, groupId))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USER_GROUP_JOIN)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
                 .toBodilessEntity()
                 .then()
-                .doOnSuccess(v -> log.info("✅ 사용자 그룹 가입 완료: userId={}, groupId={}", userId, groupId));
+                .doFinally(signal -> userRoleCache.invalidateUserId(userId))
+                .doOnSuccess(v -> log.atInfo().addMarker(LogMarkers.SAMPLED)
+                        .addKeyValue("userId", userId)
+                        .addKeyValue("groupId", groupId)
+                        .log("사용자 그룹 가입 완료"));
     }
 
     /**
@@ -450,7 +671,7 @@ public class KeycloakAdminService {
      * @param createRequest 사용자 생성 요청
      * @return Keycloak UserRepresentation Map
      */
-    private Map<String, Object> buildUserRepresentation(KeycloakUserCreateRequest createRequest) {
+    static Map<String, Object> buildUserRepresentation(KeycloakUserCreateRequest createRequest) {
         Map<String, Object> user = new HashMap<>();
         user.put("username", createRequest.getUsername());
         user.put("email", createRequest.getEmail());
@@ -475,7 +696,7 @@ public class KeycloakAdminService {
      * @param data Form 데이터 Map
      * @return URL-encoded Form 데이터 문자열
      */
-    private String buildFormData(Map<String, String> data) {
+    static String buildFormData(Map<String, String> data) {
         return data.entrySet().stream()
                 .map(entry -> entry.getKey() + "=" + entry.getValue())
                 .reduce("", (a, b) -> a.isEmpty() ? b : a + "&" + b);
@@ -493,23 +714,12 @@ public class KeycloakAdminService {
         log.info("🎭 Keycloak 역할 생성 시작: {}", roleRequest.getRoleName());
 
         return getAdminToken()
-                .flatMap(adminToken -> {
-                    String rolesUrl = String.format("%s/admin/realms/%s/roles",
-                            keycloakProperties.getServerUrl(),
-                            keycloakProperties.getRealm());
-
-                    Map<String, Object> roleRepresentation = buildRoleRepresentation(roleRequest);
-
-                    return webClient.post()
-                            .uri(rolesUrl)
-                            .header("Authorization", "Bearer " + adminToken)
-                            .header("Content-Type", "application/json")
-                            .bodyValue(roleRepresentation)
-                            .retrieve()
-                            .toBodilessEntity()
-                            .then(getRoleByName(roleRequest.getRoleName(), adminToken))
-                            .map(roleId -> RoleResponse.created(roleRequest.getRoleName(), roleId));
-                })
+                .flatMap(adminToken -> postRole(roleRequest, adminToken)
+                        .then(getRoleByName(roleRequest.getRoleName(), adminToken))
+                        .map(roleId -> {
+                            realmRoleRegistry.register(new RoleRepresentation(roleId, roleRequest.getRoleName()));
+                            return RoleResponse.created(roleRequest.getRoleName(), roleId);
+                        }))
                 .doOnSuccess(response -> {
                     if (response.isSuccess()) {
                         log.info("✅ 역할 생성 성공: {} (ID: {})", 
@@ -533,20 +743,62 @@ public class KeycloakAdminService {
     }
 
     /**
-     * 기본 역할들(admin, user, manager) 자동 생성
+     * 기본 역할들(admin, user, manager) 중 없는 역할만 생성
+     * Realm 역할 목록을 한 번 읽어(RealmRoleRegistry 스냅샷도 함께 갱신) 없는 역할만 POST 하므로,
+     * 이미 모두 있으면 목록 조회 외에 Keycloak 호출이 없고 409 도 발생하지 않습니다.
+     * 다른 인스턴스와 동시에 생성해 409 가 나면 이미 생성된 것으로 봅니다.
      * 
-     * @return 기본 역할 생성 완료 신호
+     * @return 새로 생성한 역할명 목록 (모두 있었으면 빈 목록)
      */
-    public Mono<Void> createDefaultRoles() {
-        log.info("🎯 기본 역할들 생성 시작 (admin, user, manager)");
-        
-        return Mono.when(
-                createRole(RoleCreateRequest.admin()).onErrorResume(ex -> Mono.empty()),
-                createRole(RoleCreateRequest.user()).onErrorResume(ex -> Mono.empty()),
-                createRole(RoleCreateRequest.manager()).onErrorResume(ex -> Mono.empty())
-        ).then()
-        .doOnSuccess(v -> log.info("✅ 기본 역할들 생성 완료"))
-        .doOnError(ex -> log.error("❌ 기본 역할 생성 중 오류: {}", ex.getMessage()));
+    public Mono<List<String>> createDefaultRoles() {
+        List<RoleCreateRequest> defaults = List.of(RoleCreateRequest.admin(), RoleCreateRequest.user(), RoleCreateRequest.manager());
+        log.atDebug().log("기본 역할 확인 시작 (admin, user, manager)");
+
+        return getAdminToken()
+                .flatMap(adminToken -> realmRoleRegistry.reload(realmRolesLoader(adminToken))
+                        .flatMap(existing -> {
+                            List<RoleCreateRequest> missing = defaults.stream()
+                                    .filter(role -> !existing.containsKey(role.getRoleName()))
+                                    .toList();
+                            if (missing.isEmpty()) {
+                                return Mono.just(List.<String>of());
+                            }
+
+                            return Flux.fromIterable(missing)
+                                    .concatMap(role -> postRole(role, adminToken)
+                                            .thenReturn(role.getRoleName())
+                                            .onErrorResume(WebClientResponseException.Conflict.class, ex -> Mono.empty()))
+                                    .collectList()
+                                    // 생성 응답에는 역할 ID가 없으므로 다음 역할 조회 때 스냅샷을 다시 읽도록 함
+                                    .doOnNext(created -> realmRoleRegistry.expire());
+                        }))
+                .doOnSuccess(created -> {
+                    if (created.isEmpty()) {
+                        log.atDebug().log("기본 역할이 이미 모두 존재합니다");
+                    } else {
+                        log.info("✅ 기본 역할 생성 완료: {}", created);
+                    }
+                })
+                .doOnError(ex -> log.error("❌ 기본 역할 생성 중 오류: {}", ex.getMessage()));
+    }
+
+    /**
+     * Realm 역할 생성 요청 (POST /roles)
+     * 
+     * @param roleRequest 역할 생성 요청
+     * @param adminToken 관리자 토큰
+     * @return 생성 완료 신호
+     */
+    private Mono<Void> postRole(RoleCreateRequest roleRequest, String adminToken) {
+        return webClient.post()
+                .uri(keycloakAdminUris.roles())
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.ROLES_CREATE)
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json")
+                .bodyValue(buildRoleRepresentation(roleRequest))
+                .retrieve()
+                .toBodilessEntity()
+                .then();
     }
 
     /**
@@ -561,19 +813,15 @@ public class KeycloakAdminService {
         return getAdminToken()
                 .flatMap(adminToken -> getUserByUsername(assignRequest.getUsername(), adminToken)
                         .flatMap(userId -> {
-                            if (userId == null) {
-                                return Mono.just(RoleResponse.failure("사용자를 찾을 수 없습니다: " + assignRequest.getUsername()));
-                            }
+                            // 기존 역할 교체(요청된 경우)는 현재 역할과의 차이만 반영
+                            Mono<Void> update = assignRequest.isRemoveExistingRoles()
+                                    ? replaceRealmRoles(userId, assignRequest.getRoles(), adminToken)
+                                    : assignRealmRolesToUser(userId, assignRequest.getRoles(), adminToken);
                             
-                            // 기존 역할 제거 (요청된 경우)
-                            Mono<Void> removeExisting = Mono.empty();
-                            if (assignRequest.isRemoveExistingRoles()) {
-                                removeExisting = removeUserRealmRoles(userId, adminToken);
-                            }
-                            
-                            return removeExisting.then(assignRealmRolesToUser(userId, assignRequest.getRoles(), adminToken))
-                                    .then(Mono.just(RoleResponse.assigned(assignRequest.getRoles().toString())));
-                        }))
+                            return update.then(Mono.just(RoleResponse.assigned(assignRequest.getRoles().toString())));
+                        })
+                        .switchIfEmpty(Mono.fromSupplier(() ->
+                                RoleResponse.failure("사용자를 찾을 수 없습니다: " + assignRequest.getUsername()))))
                 .doOnSuccess(response -> {
                     if (response.isSuccess()) {
                         log.info("✅ 역할 할당 성공: {} → {}", 
@@ -588,46 +836,22 @@ public class KeycloakAdminService {
 
     /**
      * 사용자의 현재 역할 조회
+     * UserRoleCache 를 거치며, 캐시가 만료된 뒤에도 max-stale 동안은 이전 값을 반환하고 백그라운드에서 갱신합니다.
      * 
      * @param username 사용자명
      * @return 사용자 역할 정보
      */
     public Mono<UserRoleResponse> getUserRoles(String username) {
-        log.info("🔍 사용자 역할 조회 시작: {}", username);
+        log.atDebug().addKeyValue("username", username).log("사용자 역할 조회 시작");
 
-        return getAdminToken()
-                .flatMap(adminToken -> getUserByUsername(username, adminToken)
-                        .flatMap(userId -> {
-                            if (userId == null) {
-                                return Mono.just(UserRoleResponse.failure(username, "사용자를 찾을 수 없습니다"));
-                            }
-                            
-                            return Mono.zip(
-                                    getUserRealmRoles(userId, adminToken),
-                                    getUserClientRoles(userId, adminToken),
-                                    getUserGroups(userId, adminToken)
-                            ).map(tuple -> {
-                                List<String> realmRoles = tuple.getT1();
-                                List<String> clientRoles = tuple.getT2();
-                                List<String> groups = tuple.getT3();
-                                
-                                UserRoleResponse response = UserRoleResponse.success(username, userId);
-                                response.setRealmRoles(realmRoles);
-                                response.setClientRoles(clientRoles);
-                                response.setGroups(groups);
-                                
-                                // 모든 역할 합치기
-                                List<String> allRoles = new java.util.ArrayList<>(realmRoles);
-                                allRoles.addAll(clientRoles);
-                                response.setAllRoles(allRoles);
-                                
-                                return response;
-                            });
-                        }))
+        return userRoleCache.get(username, () -> loadUserRoles(username))
                 .doOnSuccess(response -> {
                     if (response.isSuccess()) {
-                        log.info("✅ 사용자 역할 조회 성공: {} - Realm: {}, Client: {}", 
-                                username, response.getRealmRoles(), response.getClientRoles());
+                        log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                .addKeyValue("username", username)
+                                .addKeyValue("realmRoles", response.getRealmRoles())
+                                .addKeyValue("clientRoles", response.getClientRoles())
+                                .log("사용자 역할 조회 성공");
                     }
                 })
                 .onErrorResume(Exception.class, ex -> {
@@ -636,6 +860,57 @@ public class KeycloakAdminService {
                 });
     }
 
+    /**
+     * Keycloak 에서 사용자 역할 정보 조회 (캐시 로더 - 오류는 그대로 전달)
+     * 
+     * @param username 사용자명
+     * @return 사용자 역할 정보 (사용자가 없으면 실패 응답)
+     */
+    private Mono<UserRoleResponse> loadUserRoles(String username) {
+        return getAdminToken()
+                .flatMap(adminToken -> getUserByUsername(username, adminToken)
+                        .flatMap(userId -> getUserRolesById(username, userId, adminToken))
+                        .switchIfEmpty(Mono.fromSupplier(() ->
+                                UserRoleResponse.failure(username, "사용자를 찾을 수 없습니다"))));
+    }
+
+    /**
+     * Keycloak 사용자 ID로 역할 정보 조회 (사용자 검색 없이)
+     * 조회 오류(404 포함)는 삼키지 않고 전달합니다. 빈 목록으로 바꾸면 잘못된 역할 정보가 캐시되고,
+     * 로컬에 연결된 ID가 Keycloak 에서 사라진 경우를 호출 측이 구분할 수 없습니다.
+     * 
+     * @param username 사용자명
+     * @param userId Keycloak 사용자 ID
+     * @param adminToken 관리자 토큰
+     * @return 사용자 역할 정보
+     */
+    Mono<UserRoleResponse> getUserRolesById(String username, String userId, String adminToken) {
+        return Mono.zip(
+                        getUserRealmRoleMappings(userId, adminToken)
+                                .map(roles -> roles.stream().map(RoleRepresentation::name).toList()),
+                        getUserClientRoles(userId, adminToken),
+                        getUserGroups(userId, adminToken))
+                .map(tuple -> userRoleResponse(username, userId, tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
+    /**
+     * 조회한 역할/그룹으로 사용자 역할 응답 생성
+     */
+    private static UserRoleResponse userRoleResponse(String username, String userId, List<String> realmRoles,
+                                                     List<String> clientRoles, List<String> groups) {
+        UserRoleResponse response = UserRoleResponse.success(username, userId);
+        response.setRealmRoles(realmRoles);
+        response.setClientRoles(clientRoles);
+        response.setGroups(groups);
+        
+        // 모든 역할 합치기
+        List<String> allRoles = new java.util.ArrayList<>(realmRoles);
+        allRoles.addAll(clientRoles);
+        response.setAllRoles(allRoles);
+        
+        return response;
+    }
+
     /**
      * 역할명으로 역할 ID 조회
      * 
@@ -644,17 +919,13 @@ public class KeycloakAdminService {
      * @return 역할 ID
      */
     private Mono<String> getRoleByName(String roleName, String adminToken) {
-        String roleUrl = String.format("%s/admin/realms/%s/roles/%s",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                roleName);
-
         return webClient.get()
-                .uri(roleUrl)
+                .uri(keycloakAdminUris.role(roleName))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.ROLES_REALM_GET)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .map(role -> (String) role.get("id"));
+                .bodyToMono(RoleRepresentation.class)
+                .map(RoleRepresentation::id);
     }
 
     /**
@@ -666,86 +937,67 @@ public class KeycloakAdminService {
      * @return 할당 완료 신호
      */
     private Mono<Void> assignRealmRolesToUser(String userId, List<String> roleNames, String adminToken) {
-        // 먼저 역할들이 존재하는지 확인하고, 역할 객체들을 가져옴
-        return Flux.fromIterable(roleNames)
-                .flatMap(roleName -> getRealmRoleObject(roleName, adminToken))
-                .collectList()
-                .flatMap(roleObjects -> {
-            List<Map<String, Object>> roles = new java.util.ArrayList<>();
-            for (Object roleObj : roleObjects.toArray()) {
-                if (roleObj != null) {
-                    roles.add((Map<String, Object>) roleObj);
-                }
-            }
-            
+        // 역할 표현은 로컬 스냅샷에서 가져오고, 존재하는 역할만 한 번에 할당
+        return resolveRealmRoles(roleNames, adminToken)
+                .flatMap(roles -> {
             if (roles.isEmpty()) {
                 log.warn("⚠️ 할당할 수 있는 역할이 없습니다: {}", roleNames);
                 return Mono.<Void>empty();
             }
             
-            String assignUrl = String.format("%s/admin/realms/%s/users/%s/role-mappings/realm",
-                    keycloakProperties.getServerUrl(),
-                    keycloakProperties.getRealm(),
-                    userId);
-
-            return webClient.post()
-                    .uri(assignUrl)
-                    .header("Authorization", "Bearer " + adminToken)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(roles)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .then()
+            return updateRealmRoleMappings(userId, HttpMethod.POST, KeycloakOperation.USER_REALM_ROLES_ADD, roles, adminToken)
                     .doOnSuccess(v -> log.info("✅ Realm 역할 할당 성공: {}", roleNames));
         });
     }
 
     /**
-     * Realm 역할 객체 조회
+     * 역할명 목록을 Realm 역할 표현으로 변환
+     * 역할마다 GET 하지 않고 RealmRoleRegistry 스냅샷에서 꺼내며, 스냅샷이 없거나 오래됐을 때만 전체를 페이지 단위로 읽음
      * 
-     * @param roleName 역할명
+     * @param roleNames 역할명 목록
      * @param adminToken 관리자 토큰
-     * @return 역할 객체
+     * @return 존재하는 역할의 표현 목록
      */
-    private Mono<Map<String, Object>> getRealmRoleObject(String roleName, String adminToken) {
-        String roleUrl = String.format("%s/admin/realms/%s/roles/%s",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                roleName);
-
-        return webClient.get()
-                .uri(roleUrl)
-                .header("Authorization", "Bearer " + adminToken)
-                .retrieve()
-                .bodyToMono(new org.springframework.core.ParameterizedTypeReference<Map<String, Object>>() {})
-                .onErrorResume(ex -> {
-                    log.warn("⚠️ 역할을 찾을 수 없음: {}", roleName);
-                    return Mono.<Map<String, Object>>empty();
+    Mono<List<RoleRepresentation>> resolveRealmRoles(List<String> roleNames, String adminToken) {
+        return realmRoleRegistry.resolve(roleNames, realmRolesLoader(adminToken))
+                .doOnNext(roles -> {
+                    Set<String> missing = new HashSet<>(roleNames);
+                    roles.forEach(role -> missing.remove(role.name()));
+                    if (!missing.isEmpty()) {
+                        log.warn("⚠️ 역할을 찾을 수 없음: {}", missing);
+                    }
                 });
     }
 
     /**
-     * 사용자의 현재 Realm 역할 조회
+     * RealmRoleRegistry 스냅샷을 만들 때 사용할 Realm 역할 전체 조회
+     * 스냅샷 만료 직후 동시에 들어온 요청들은 전체 역할 목록 조회 1회를 함께 사용합니다.
      * 
-     * @param userId Keycloak 사용자 ID
      * @param adminToken 관리자 토큰
-     * @return 사용자의 Realm 역할 목록
+     * @return Realm 역할 스트림 (구독할 때만 조회)
      */
-    private Mono<List<String>> getUserRealmRoles(String userId, String adminToken) {
-        String rolesUrl = String.format("%s/admin/realms/%s/users/%s/role-mappings/realm",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                userId);
+    private Flux<RoleRepresentation> realmRolesLoader(String adminToken) {
+        return singleFlight.execute(KeycloakOperation.ROLES_REALM_LIST.getTagValue(), "realm",
+                        () -> pages(keycloakAdminUris::realmRolesPage,
+                                KeycloakOperation.ROLES_REALM_LIST, RoleRepresentation.class, adminToken).collectList())
+                .flatMapIterable(roles -> roles);
+    }
 
+    /**
+     * 사용자의 현재 Realm 역할 매핑 조회 (표현 그대로 - 제거 요청 본문으로 재사용)
+     * 
+     * @param userId Keycloak 사용자 ID
+     * @param adminToken 관리자 토큰
+     * @return 사용자의 Realm 역할 표현 목록
+     */
+    private Mono<List<RoleRepresentation>> getUserRealmRoleMappings(String userId, String adminToken) {
         return webClient.get()
-                .uri(rolesUrl)
+                .uri(keycloakAdminUris.userRealmRoleMappings(userId))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USER_REALM_ROLES_GET)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
-                .bodyToMono(new org.springframework.core.ParameterizedTypeReference<List<Object>>() {})
-                .map(roles -> roles.stream()
-                        .map(role -> ((Map<String, Object>) role).get("name").toString())
-                        .toList())
-                .onErrorReturn(List.<String>of());
+                .bodyToFlux(RoleRepresentation.class)
+                .collectList();
     }
 
     /**
@@ -757,28 +1009,16 @@ public class KeycloakAdminService {
      */
     private Mono<List<String>> getUserClientRoles(String userId, String adminToken) {
         // 여기서는 account 클라이언트의 역할만 조회
-        String clientRolesUrl = String.format("%s/admin/realms/%s/users/%s/role-mappings/clients",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                userId);
-
         return webClient.get()
-                .uri(clientRolesUrl)
+                .uri(keycloakAdminUris.userClientRoleMappings(userId))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USER_CLIENT_ROLES_GET)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .map(clientRoles -> {
-                    List<String> allClientRoles = new java.util.ArrayList<>();
-                    for (Object entry : clientRoles.entrySet()) {
-                        Map.Entry<String, Object> clientEntry = (Map.Entry<String, Object>) entry;
-                        List<Map<String, Object>> roles = (List<Map<String, Object>>) clientEntry.getValue();
-                        for (Map<String, Object> role : roles) {
-                            allClientRoles.add((String) role.get("name"));
-                        }
-                    }
-                    return allClientRoles;
-                })
-                .onErrorReturn(List.<String>of());
+                .bodyToMono(new ParameterizedTypeReference<Map<String, List<RoleRepresentation>>>() {})
+                .map(clientRoles -> clientRoles.values().stream()
+                        .flatMap(List::stream)
+                        .map(RoleRepresentation::name)
+                        .toList());
     }
 
     /**
@@ -789,73 +1029,87 @@ public class KeycloakAdminService {
      * @return 사용자의 그룹 목록
      */
     private Mono<List<String>> getUserGroups(String userId, String adminToken) {
-        String groupsUrl = String.format("%s/admin/realms/%s/users/%s/groups",
-                keycloakProperties.getServerUrl(),
-                keycloakProperties.getRealm(),
-                userId);
-
         return webClient.get()
-                .uri(groupsUrl)
+                .uri(keycloakAdminUris.userGroups(userId))
+                .attribute(KeycloakOperation.ATTRIBUTE, KeycloakOperation.USER_GROUPS_GET)
                 .header("Authorization", "Bearer " + adminToken)
                 .retrieve()
-                .bodyToMono(new org.springframework.core.ParameterizedTypeReference<List<Object>>() {})
-                .map(groups -> groups.stream()
-                        .map(group -> ((Map<String, Object>) group).get("name").toString())
-                        .toList())
-                .onErrorReturn(List.<String>of());
+                .bodyToFlux(GroupRepresentation.class)
+                .map(GroupRepresentation::name)
+                .collectList();
     }
 
     /**
-     * 사용자의 기존 Realm 역할 제거
+     * 사용자의 Realm 역할을 요청된 역할 집합으로 교체
+     * 현재 매핑과 비교해 빠진 역할은 DELETE 1회, 새 역할은 POST 1회로만 반영하며,
+     * 변경이 없으면 현재 매핑 조회 1회로 끝납니다.
      * 
      * @param userId Keycloak 사용자 ID
+     * @param roleNames 교체 후 역할명 목록
      * @param adminToken 관리자 토큰
-     * @return 제거 완료 신호
+     * @return 교체 완료 신호
      */
-    private Mono<Void> removeUserRealmRoles(String userId, String adminToken) {
-        return getUserRealmRoles(userId, adminToken)
-                .flatMap(roleNames -> {
-                    if (roleNames.isEmpty()) {
+    private Mono<Void> replaceRealmRoles(String userId, List<String> roleNames, String adminToken) {
+        return Mono.zip(getUserRealmRoleMappings(userId, adminToken), resolveRealmRoles(roleNames, adminToken))
+                .flatMap(tuple -> {
+                    List<RoleRepresentation> current = tuple.getT1();
+                    List<RoleRepresentation> requested = tuple.getT2();
+
+                    Set<String> currentNames = new HashSet<>();
+                    current.forEach(role -> currentNames.add(role.name()));
+                    Set<String> requestedNames = new HashSet<>();
+                    requested.forEach(role -> requestedNames.add(role.name()));
+
+                    List<RoleRepresentation> removals = current.stream()
+                            .filter(role -> !requestedNames.contains(role.name()))
+                            .toList();
+                    List<RoleRepresentation> additions = requested.stream()
+                            .filter(role -> !currentNames.contains(role.name()))
+                            .toList();
+
+                    if (removals.isEmpty() && additions.isEmpty()) {
+                        log.atDebug().addKeyValue("userId", userId).log("Realm 역할 변경 없음");
                         return Mono.<Void>empty();
                     }
-                    
-                    return Flux.fromIterable(roleNames)
-                            .flatMap(roleName -> getRealmRoleObject(roleName, adminToken))
-                            .collectList()
-                            .flatMap(roleObjects -> {
-                        List<Map<String, Object>> roles = new java.util.ArrayList<>();
-                        for (Object roleObj : roleObjects.toArray()) {
-                            if (roleObj != null) {
-                                roles.add((Map<String, Object>) roleObj);
-                            }
-                        }
-                        
-                        if (roles.isEmpty()) {
-                            return Mono.<Void>empty();
-                        }
-                        
-                        String removeUrl = String.format("%s/admin/realms/%s/users/%s/role-mappings/realm",
-                                keycloakProperties.getServerUrl(),
-                                keycloakProperties.getRealm(),
-                                userId);
-
-                        return webClient.method(org.springframework.http.HttpMethod.DELETE)
-                                .uri(removeUrl)
-                                .header("Authorization", "Bearer " + adminToken)
-                                .header("Content-Type", "application/json")
-                                .bodyValue(roles)
-                                .retrieve()
-                                .toBodilessEntity()
-                                .then();
-                    });
-                })
-                .doOnSuccess(v -> log.info("✅ 기존 Realm 역할 제거 완료"))
-                .onErrorResume(ex -> {
-                    log.warn("⚠️ 기존 역할 제거 중 오류 (무시): {}", ex.getMessage());
-                    return Mono.<Void>empty();
+
+                    return Mono.when(
+                                    updateRealmRoleMappings(userId, HttpMethod.DELETE, KeycloakOperation.USER_REALM_ROLES_REMOVE, removals, adminToken),
+                                    updateRealmRoleMappings(userId, HttpMethod.POST, KeycloakOperation.USER_REALM_ROLES_ADD, additions, adminToken))
+                            .doOnSuccess(v -> log.atInfo().addMarker(LogMarkers.SAMPLED)
+                                    .addKeyValue("userId", userId)
+                                    .addKeyValue("removed", removals.stream().map(RoleRepresentation::name).toList())
+                                    .addKeyValue("added", additions.stream().map(RoleRepresentation::name).toList())
+                                    .log("Realm 역할 교체 완료"));
                 });
     }
 
+    /**
+     * Realm 역할 매핑 추가(POST) / 제거(DELETE) 요청 (역할이 없으면 요청하지 않음)
+     * 
+     * @param userId Keycloak 사용자 ID
+     * @param method POST 또는 DELETE
+     * @param operation 작업 이름
+     * @param roles 역할 표현 목록
+     * @param adminToken 관리자 토큰
+     * @return 완료 신호
+     */
+    Mono<Void> updateRealmRoleMappings(String userId, HttpMethod method, KeycloakOperation operation,
+                                       List<RoleRepresentation> roles, String adminToken) {
+        if (roles.isEmpty()) {
+            return Mono.empty();
+        }
+        return webClient.method(method)
+                .uri(keycloakAdminUris.userRealmRoleMappings(userId))
+                .attribute(KeycloakOperation.ATTRIBUTE, operation)
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json")
+                .bodyValue(roles)
+                .retrieve()
+                .toBodilessEntity()
+                .then()
+                .doFinally(signal -> userRoleCache.invalidateUserId(userId));
+    }
+
     /**
      * Keycloak 역할 표현 객체 생성
      * 
@@ -0,0 +1,215 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+
+/**
+ * Keycloak Admin API URI 템플릿
+ *
+ * 서버 URL과 Realm은 기동 시 한 번만 파싱/인코딩해 두고, 호출마다 나머지 변수만 확장합니다.
+ * 변수 값은 strict 인코딩되므로 사용자명/그룹명/역할명에 '&', '+', '/', 공백이 있어도 URI가 깨지지 않습니다.
+ *
+ * 단건 조회 쿼리는 항상 exact=true, briefRepresentation=true, max=를 붙여
+ * 부분 일치로 여러 건(전체 표현)이 내려오거나 엉뚱한 첫 번째 결과를 쓰는 일이 없도록 합니다.
+ * 목록(*Page)은 first/max 페이지 단위로만 조회합니다.
+ */
+@Component
+public class KeycloakAdminUris {
+
+    /**
+     * 사용자명 exact 조회 상한 (사용자명은 Realm 내에서 유일)
+     */
+    static final int USER_LOOKUP_MAX = 1;
+
+    /**
+     * 그룹명 exact 조회 상한
+     * 같은 이름의 하위 그룹을 가진 상위 그룹도 결과에 포함되므로 최상위 그룹을 고를 수 있게 여유를 둡니다.
+     */
+    static final int GROUP_LOOKUP_MAX = 10;
+
+    private final URI adminToken;
+    private final URI users;
+    private final URI usersCount;
+    private final URI groups;
+    private final URI roles;
+
+    private final UriComponents userByUsername;
+    private final UriComponents usersPage;
+    private final UriComponents user;
+    private final UriComponents userAdminEvents;
+    private final UriComponents clientsPage;
+    private final UriComponents clientRolesPage;
+    private final UriComponents realmRolesPage;
+    private final UriComponents groupByName;
+    private final UriComponents role;
+    private final UriComponents userRealmRoleMappings;
+    private final UriComponents userClientRoleMappings;
+    private final UriComponents userClientRoleMappingsForClient;
+    private final UriComponents userGroups;
+    private final UriComponents userGroup;
+
+    public KeycloakAdminUris(KeycloakProperties keycloakProperties) {
+        String serverUrl = keycloakProperties.getServerUrl();
+        String realm = keycloakProperties.getRealm();
+
+        this.adminToken = UriComponentsBuilder.fromHttpUrl(serverUrl)
+                .path("/realms/master/protocol/openid-connect/token")
+                .encode()
+                .build()
+                .toUri();
+
+        UriComponentsBuilder admin = UriComponentsBuilder.fromHttpUrl(serverUrl).path("/admin/realms/{realm}");
+        this.users = template(admin, realm, "/users").toUri();
+        this.usersCount = template(admin, realm, "/users/count").toUri();
+        this.groups = template(admin, realm, "/groups").toUri();
+        this.roles = template(admin, realm, "/roles").toUri();
+
+        this.userByUsername = template(admin.cloneBuilder()
+                .path("/users")
+                .queryParam("username", "{username}")
+                .queryParam("exact", true)
+                .queryParam("briefRepresentation", true)
+                .queryParam("max", USER_LOOKUP_MAX), realm);
+        this.usersPage = template(admin.cloneBuilder()
+                .path("/users")
+                .queryParam("first", "{first}")
+                .queryParam("max", "{max}")
+                .queryParam("briefRepresentation", true), realm);
+        this.user = template(admin, realm, "/users/{userId}");
+        this.userAdminEvents = template(admin.cloneBuilder()
+                .path("/admin-events")
+                .queryParam("resourceTypes", "USER")
+                .queryParam("dateFrom", "{dateFrom}")
+                .queryParam("first", "{first}")
+                .queryParam("max", "{max}"), realm);
+        this.clientsPage = template(admin.cloneBuilder()
+                .path("/clients")
+                .queryParam("first", "{first}")
+                .queryParam("max", "{max}"), realm);
+        this.clientRolesPage = template(admin.cloneBuilder()
+                .path("/clients/{clientUuid}/roles")
+                .queryParam("first", "{first}")
+                .queryParam("max", "{max}")
+                .queryParam("briefRepresentation", true), realm);
+        this.realmRolesPage = template(admin.cloneBuilder()
+                .path("/roles")
+                .queryParam("first", "{first}")
+                .queryParam("max", "{max}")
+                .queryParam("briefRepresentation", true), realm);
+        this.groupByName = template(admin.cloneBuilder()
+                .path("/groups")
+                .queryParam("search", "{name}")
+                .queryParam("exact", true)
+                .queryParam("briefRepresentation", true)
+                .queryParam("max", GROUP_LOOKUP_MAX), realm);
+        this.role = template(admin, realm, "/roles/{roleName}");
+        this.userRealmRoleMappings = template(admin, realm, "/users/{userId}/role-mappings/realm");
+        this.userClientRoleMappings = template(admin, realm, "/users/{userId}/role-mappings/clients");
+        this.userClientRoleMappingsForClient = template(admin, realm, "/users/{userId}/role-mappings/clients/{clientUuid}");
+        this.userGroups = template(admin.cloneBuilder()
+                .path("/users/{userId}/groups")
+                .queryParam("briefRepresentation", true), realm);
+        this.userGroup = template(admin, realm, "/users/{userId}/groups/{groupId}");
+    }
+
+    // ===== 고정 URI =====
+
+    public URI adminToken() {
+        return adminToken;
+    }
+
+    public URI users() {
+        return users;
+    }
+
+    public URI usersCount() {
+        return usersCount;
+    }
+
+    public URI groups() {
+        return groups;
+    }
+
+    public URI roles() {
+        return roles;
+    }
+
+    // ===== 변수 URI =====
+
+    public URI userByUsername(String username) {
+        return userByUsername.expand(username).toUri();
+    }
+
+    public URI usersPage(int first, int max) {
+        return usersPage.expand(first, max).toUri();
+    }
+
+    public URI user(String userId) {
+        return user.expand(userId).toUri();
+    }
+
+    public URI userAdminEvents(LocalDate dateFrom, int first, int max) {
+        return userAdminEvents.expand(dateFrom, first, max).toUri();
+    }
+
+    public URI clientsPage(int first, int max) {
+        return clientsPage.expand(first, max).toUri();
+    }
+
+    public URI clientRolesPage(String clientUuid, int first, int max) {
+        return clientRolesPage.expand(clientUuid, first, max).toUri();
+    }
+
+    public URI realmRolesPage(int first, int max) {
+        return realmRolesPage.expand(first, max).toUri();
+    }
+
+    public URI groupByName(String name) {
+        return groupByName.expand(name).toUri();
+    }
+
+    public URI role(String roleName) {
+        return role.expand(roleName).toUri();
+    }
+
+    public URI userRealmRoleMappings(String userId) {
+        return userRealmRoleMappings.expand(userId).toUri();
+    }
+
+    public URI userClientRoleMappings(String userId) {
+        return userClientRoleMappings.expand(userId).toUri();
+    }
+
+    public URI userClientRoleMappings(String userId, String clientUuid) {
+        return userClientRoleMappingsForClient.expand(userId, clientUuid).toUri();
+    }
+
+    public URI userGroups(String userId) {
+        return userGroups.expand(userId).toUri();
+    }
+
+    public URI userGroup(String userId, String groupId) {
+        return userGroup.expand(userId, groupId).toUri();
+    }
+
+    // ===== 내부 =====
+
+    private static UriComponents template(UriComponentsBuilder admin, String realm, String path) {
+        return template(admin.cloneBuilder().path(path), realm);
+    }
+
+    /**
+     * 템플릿 리터럴을 인코딩하고 {realm}만 미리 확장
+     * 나머지 변수는 그대로 남아 호출 시 expand()에서 strict 인코딩됩니다.
+     */
+    private static UriComponents template(UriComponentsBuilder builder, String realm) {
+        return builder.encode()
+                .build()
+                .expand(name -> "realm".equals(name) ? realm : UriComponents.UriTemplateVariables.SKIP_VALUE);
+    }
+}
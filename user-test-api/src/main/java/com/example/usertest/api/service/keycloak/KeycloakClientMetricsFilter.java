@@ -0,0 +1,72 @@
+package com.example.usertest.api.service.keycloak;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keycloak 호출 작업별 타이머 (keycloak.client.requests)
+ *
+ * 태그: operation(KeycloakOperation), method, status(2xx/3xx/4xx/5xx, IO_ERROR, CANCELLED)
+ * 응답 헤더 수신까지의 시간을 측정하며, 백분위 히스토그램을 함께 게시합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeycloakClientMetricsFilter implements ExchangeFilterFunction {
+
+    static final String METRIC_NAME = "keycloak.client.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        KeycloakOperation operation = KeycloakOperation.from(request);
+        String method = request.method().name();
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean recorded = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnSuccess(response -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            sample.stop(timer(operation, method, statusClass(response.statusCode().value())));
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            sample.stop(timer(operation, method, "IO_ERROR"));
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            sample.stop(timer(operation, method, "CANCELLED"));
+                        }
+                    });
+        });
+    }
+
+    private Timer timer(KeycloakOperation operation, String method, String status) {
+        return Timer.builder(METRIC_NAME)
+                .description("Keycloak 호출 시간 (작업별)")
+                .tag("operation", operation.getTagValue())
+                .tag("method", method)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private static String statusClass(int status) {
+        return (status / 100) + "xx";
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keycloak 호출 구역별 동시 실행 제한
+ *
+ * 호출마다 {@link KeycloakLane}을 정하고 그 구역의 {@link AdaptiveConcurrencyLimiter}(auth/admin/background)에서 허가를 받습니다.
+ * 구역마다 limit 이 따로 조정되므로 일괄 작업이 느린 응답을 만들어도 로그인 구역의 limit 은 줄지 않고,
+ * background 구역은 auth/admin 구역이 바쁜 동안 keycloak.lanes.background-yield-limit 까지만 호출합니다.
+ * 정해진 구역은 Reactor Context 에 기록되어 KeycloakLaneConnector 가 구역 전용 커넥션 풀을 고르는 데 쓰입니다.
+ *
+ * 허가는 응답 헤더를 받은 시점에 반납하며, 그때까지의 시간을 limit 조정에 사용합니다.
+ * 대기 시간이 keycloak.client.requests 타이머에 섞이지 않도록 메트릭 필터보다 바깥에 등록합니다.
+ */
+@Component
+public class KeycloakConcurrencyLimitFilter implements ExchangeFilterFunction {
+
+    private final Map<KeycloakLane, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(KeycloakLane.class);
+    private final Map<KeycloakLane, KeycloakProperties.Limiter> configs = new EnumMap<>(KeycloakLane.class);
+
+    public KeycloakConcurrencyLimitFilter(KeycloakProperties keycloakProperties, MeterRegistry meterRegistry) {
+        KeycloakProperties.Lanes lanes = keycloakProperties.getLanes();
+        for (KeycloakLane lane : KeycloakLane.values()) {
+            KeycloakProperties.Limiter config = lane.config(lanes).getLimiter();
+            configs.put(lane, config);
+            limiters.put(lane, new AdaptiveConcurrencyLimiter(lane.getTagValue(), config, meterRegistry));
+        }
+        limiters.get(KeycloakLane.BACKGROUND).yieldTo(
+                List.of(limiters.get(KeycloakLane.AUTH), limiters.get(KeycloakLane.ADMIN)),
+                lanes.getBackgroundYieldLimit());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            KeycloakLane lane = KeycloakLane.resolve(KeycloakOperation.from(request), context);
+            Mono<ClientResponse> limited = configs.get(lane).isEnabled()
+                    ? exchange(limiters.get(lane), request, next)
+                    : next.exchange(request);
+            return limited.contextWrite(ctx -> ctx.put(KeycloakLane.CONTEXT_KEY, lane));
+        });
+    }
+
+    private Mono<ClientResponse> exchange(AdaptiveConcurrencyLimiter limiter, ClientRequest request, ExchangeFunction next) {
+        return limiter.acquire()
+                .flatMap(permit -> {
+                    long startedAt = System.nanoTime();
+                    return next.exchange(request)
+                            .doOnSuccess(response -> {
+                                if (response == null) {
+                                    permit.abandon();
+                                } else {
+                                    permit.release(System.nanoTime() - startedAt, isOverloaded(response.statusCode()));
+                                }
+                            })
+                            .doOnError(error -> permit.release(System.nanoTime() - startedAt, true))
+                            .doOnCancel(permit::abandon);
+                });
+    }
+
+    /**
+     * Keycloak 과부하 신호 (5xx, 429)
+     * 4xx 는 요청 자체의 문제(없는 사용자, 중복 등)이므로 limit 을 줄이지 않습니다.
+     */
+    private static boolean isOverloaded(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+/**
+ * Keycloak 호출 우선순위 구역 (lane)
+ *
+ * 구역마다 별도 커넥션 풀과 동시 실행 제한을 두어, 일괄/백그라운드 작업이 로그인과 요청 처리 중 관리자 호출의
+ * 커넥션과 Keycloak 처리 용량을 차지하지 않도록 합니다.
+ *
+ * - AUTH: 사용자 로그인 토큰 발급 (USER_TOKEN)
+ * - ADMIN: 요청 처리 중 관리자 API 호출 (기본값), 모든 구역이 공유하는 관리자 토큰 발급
+ * - BACKGROUND: 일괄 작업, 동기화/대사, 캐시 갱신 등 - 호출 측이 {@link #background()}를 Reactor Context 에 지정
+ */
+public enum KeycloakLane {
+
+    AUTH("auth"),
+    ADMIN("admin"),
+    BACKGROUND("background");
+
+    /** Reactor Context 키 */
+    public static final String CONTEXT_KEY = KeycloakLane.class.getName();
+
+    private final String tagValue;
+
+    KeycloakLane(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+    /**
+     * 이 구역의 설정 (keycloak.lanes.{auth,admin,background})
+     */
+    public KeycloakProperties.Lane config(KeycloakProperties.Lanes lanes) {
+        return switch (this) {
+            case AUTH -> lanes.getAuth();
+            case ADMIN -> lanes.getAdmin();
+            case BACKGROUND -> lanes.getBackground();
+        };
+    }
+
+    /**
+     * 구독하는 Keycloak 호출을 BACKGROUND 구역으로 보냄 ({@code .contextWrite(KeycloakLane.background())})
+     */
+    public static Function<Context, Context> background() {
+        return context -> context.put(CONTEXT_KEY, BACKGROUND);
+    }
+
+    /**
+     * 호출의 구역 결정
+     * 로그인과 관리자 토큰 발급은 작업으로 정해지고, 나머지는 Context 에 지정된 구역(없으면 ADMIN)을 따릅니다.
+     *
+     * @param operation Keycloak 작업
+     * @param context 호출을 구독한 Reactor Context
+     * @return 구역
+     */
+    public static KeycloakLane resolve(KeycloakOperation operation, ContextView context) {
+        if (operation == KeycloakOperation.USER_TOKEN) {
+            return AUTH;
+        }
+        if (operation == KeycloakOperation.ADMIN_TOKEN) {
+            // 관리자 토큰은 모든 구역이 함께 기다리므로 (SingleFlight) 백그라운드 양보 대상에서 제외
+            return ADMIN;
+        }
+        return from(context);
+    }
+
+    /**
+     * Context 에 지정된 구역 (없으면 ADMIN)
+     */
+    public static KeycloakLane from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, ADMIN);
+    }
+}
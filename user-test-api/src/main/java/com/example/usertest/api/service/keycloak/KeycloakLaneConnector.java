@@ -0,0 +1,61 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 구역별 커넥션 풀로 요청을 보내는 ClientHttpConnector
+ *
+ * KeycloakConcurrencyLimitFilter 가 Reactor Context 에 기록한 {@link KeycloakLane}에 따라
+ * 구역 전용 ConnectionProvider(keycloak-auth/admin/background)를 쓰는 커넥터로 위임하므로,
+ * 백그라운드 작업이 풀을 모두 쓰고 있어도 로그인 요청은 커넥션 획득을 기다리지 않습니다.
+ */
+public class KeycloakLaneConnector implements ClientHttpConnector {
+
+    private final Map<KeycloakLane, ConnectionProvider> providers = new EnumMap<>(KeycloakLane.class);
+    private final Map<KeycloakLane, ClientHttpConnector> connectors = new EnumMap<>(KeycloakLane.class);
+
+    /**
+     * @param lanes 구역별 설정
+     * @param customizer 모든 구역에 공통으로 적용할 HttpClient 설정
+     */
+    public KeycloakLaneConnector(KeycloakProperties.Lanes lanes, UnaryOperator<HttpClient> customizer) {
+        for (KeycloakLane lane : KeycloakLane.values()) {
+            KeycloakProperties.Lane config = lane.config(lanes);
+            ConnectionProvider provider = ConnectionProvider.builder("keycloak-" + lane.getTagValue())
+                    .maxConnections(config.getMaxConnections())
+                    .pendingAcquireMaxCount(config.getPendingAcquireMaxCount())
+                    .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+                    .build();
+            providers.put(lane, provider);
+            connectors.put(lane, new ReactorClientHttpConnector(customizer.apply(HttpClient.create(provider))));
+        }
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri,
+                                            Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return Mono.deferContextual(context ->
+                connectors.get(KeycloakLane.from(context)).connect(method, uri, requestCallback));
+    }
+
+    /**
+     * 구역별 커넥션 풀 종료 (애플리케이션 종료 시)
+     */
+    public void dispose() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.usertest.api.service.keycloak;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+/**
+ * Keycloak 호출의 논리적 작업 이름
+ *
+ * WebClient 요청 속성({@link #ATTRIBUTE})으로 전달되어 keycloak.client.requests 타이머의 operation 태그가 됩니다.
+ * URL에는 사용자 ID/사용자명이 들어가므로 태그로 쓰지 않고, 고정된 작업 이름만 사용해 태그 수를 제한합니다.
+ */
+public enum KeycloakOperation {
+
+    ADMIN_TOKEN("admin.token"),
+    USER_TOKEN("user.token"),
+
+    USERS_CREATE("users.create"),
+    USERS_SEARCH("users.search"),
+    USERS_COUNT("users.count"),
+    USERS_LIST("users.list"),
+    USERS_GET("users.get"),
+    ADMIN_EVENTS_LIST("admin-events.list"),
+
+    CLIENTS_LIST("clients.list"),
+    CLIENT_ROLES_LIST("clients.roles.list"),
+
+    ROLES_CREATE("roles.create"),
+    ROLES_REALM_GET("roles.realm.get"),
+    ROLES_REALM_LIST("roles.realm.list"),
+    USER_REALM_ROLES_GET("users.roles.realm.get"),
+    USER_REALM_ROLES_ADD("users.roles.realm.add"),
+    USER_REALM_ROLES_REMOVE("users.roles.realm.remove"),
+    USER_CLIENT_ROLES_GET("users.roles.client.get"),
+    USER_CLIENT_ROLES_ADD("users.roles.client.add"),
+
+    GROUPS_SEARCH("groups.search"),
+    GROUPS_CREATE("groups.create"),
+    USER_GROUPS_GET("users.groups.get"),
+    USER_GROUP_JOIN("users.groups.join"),
+
+    /** 작업 속성이 지정되지 않은 호출 */
+    UNKNOWN("unknown");
+
+    /** WebClient 요청 속성 키 */
+    public static final String ATTRIBUTE = KeycloakOperation.class.getName();
+
+    private final String tagValue;
+
+    KeycloakOperation(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+    /**
+     * 요청 속성에서 작업 이름 조회
+     *
+     * @param request WebClient 요청
+     * @return 지정된 작업 (없으면 UNKNOWN)
+     */
+    public static KeycloakOperation from(ClientRequest request) {
+        return request.attribute(ATTRIBUTE)
+                .filter(KeycloakOperation.class::isInstance)
+                .map(KeycloakOperation.class::cast)
+                .orElse(UNKNOWN);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.store.BlockingStoreExecutor;
+import com.example.usertest.domain.User;
+import com.example.usertest.store.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자명 → 로컬 users 테이블에 연결된 Keycloak 사용자 ID 묶음 조회
+ *
+ * 여러 사용자를 다루는 일괄 API에서 사용자마다 Keycloak 검색을 하지 않도록
+ * keycloak.bulk.lookup-batch-size 단위로 users 테이블을 한 번씩만 조회합니다.
+ * 연결되지 않은 사용자는 userId 없이 내보내며, Keycloak exact 조회로의 대체는 호출 측 몫입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkedUserIdLookup {
+
+    private final KeycloakProperties keycloakProperties;
+    private final UserRepository userRepository;
+    private final BlockingStoreExecutor blockingStoreExecutor;
+
+    /**
+     * @param usernames 사용자명 목록 (중복 제거된 상태)
+     * @return 요청 순서대로의 (사용자명, 연결된 Keycloak ID 또는 null)
+     */
+    public Flux<LinkedUser> find(List<String> usernames) {
+        return Flux.fromIterable(partition(usernames, keycloakProperties.getBulk().getLookupBatchSize()))
+                .concatMap(chunk -> blockingStoreExecutor.call(() -> userRepository.findByUsernames(chunk))
+                        .flatMapIterable(users -> {
+                            Map<String, String> linked = users.stream()
+                                    .filter(user -> user.getKeycloakUserId() != null)
+                                    .collect(Collectors.toMap(
+                                            user -> user.getUsername().toLowerCase(Locale.ROOT),
+                                            User::getKeycloakUserId,
+                                            (existing, duplicate) -> existing));
+                            return chunk.stream()
+                                    .map(username -> new LinkedUser(username, linked.get(username.toLowerCase(Locale.ROOT))))
+                                    .toList();
+                        }));
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return chunks;
+    }
+
+    /**
+     * @param username 요청된 사용자명
+     * @param userId 로컬에 연결된 Keycloak 사용자 ID (없으면 null)
+     */
+    public record LinkedUser(String username, String userId) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.keycloak.representation.RoleRepresentation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Realm 역할 표현 로컬 조회 (역할명 → RoleRepresentation)
+ *
+ * 역할 매핑 추가/제거 본문에 필요한 표현을 역할마다 GET 하지 않고 이 스냅샷에서 꺼냅니다.
+ * - 스냅샷은 keycloak.role-registry.ttl 이 지나면 다음 조회 때 전체를 다시 읽음 (페이지 단위)
+ * - 없는 역할명이 요청되면 다시 읽되, miss-refresh-interval 안에는 반복하지 않음 (존재하지 않는 역할 요청이 매번 전체 조회를 일으키지 않도록)
+ * - 이 애플리케이션에서 생성한 역할은 {@link #register}로 즉시 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RealmRoleRegistry {
+
+    private final KeycloakProperties keycloakProperties;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), 0L);
+
+    /**
+     * 역할명 목록을 표현으로 변환
+     *
+     * @param roleNames 역할명 목록
+     * @param loader 스냅샷을 새로 만들 때 사용할 Realm 역할 전체 스트림 (필요할 때만 구독)
+     * @return 존재하는 역할의 표현 (요청 순서, 중복/없는 역할은 제외)
+     */
+    public Mono<List<RoleRepresentation>> resolve(Collection<String> roleNames, Flux<RoleRepresentation> loader) {
+        Snapshot current = snapshot;
+        if (current.isFresh(keycloakProperties.getRoleRegistry().getTtl().toNanos())
+                && (current.containsAll(roleNames)
+                        || current.isFresh(keycloakProperties.getRoleRegistry().getMissRefreshInterval().toNanos()))) {
+            return Mono.just(current.lookup(roleNames));
+        }
+
+        return load(loader).map(loaded -> loaded.lookup(roleNames));
+    }
+
+    /**
+     * 만료 여부와 무관하게 스냅샷을 다시 읽음
+     *
+     * @param loader Realm 역할 전체 스트림
+     * @return 역할명 → 표현
+     */
+    public Mono<Map<String, RoleRepresentation>> reload(Flux<RoleRepresentation> loader) {
+        return load(loader).map(Snapshot::roles);
+    }
+
+    /**
+     * 다음 조회 때 스냅샷을 다시 읽도록 만료 (ID를 모르는 역할을 새로 생성한 뒤 호출)
+     */
+    public void expire() {
+        snapshot = new Snapshot(Map.of(), 0L);
+    }
+
+    private Mono<Snapshot> load(Flux<RoleRepresentation> loader) {
+        return loader
+                .collectMap(RoleRepresentation::name)
+                .map(roles -> {
+                    Snapshot loaded = new Snapshot(Map.copyOf(roles), System.nanoTime());
+                    snapshot = loaded;
+                    log.atDebug().addKeyValue("roles", roles.size()).log("Realm 역할 스냅샷 갱신");
+                    return loaded;
+                });
+    }
+
+    /**
+     * 새로 생성된 역할을 스냅샷에 추가
+     *
+     * @param role 역할 표현
+     */
+    public void register(RoleRepresentation role) {
+        Snapshot current = snapshot;
+        if (current.loadedAtNanos() == 0L) {
+            return;
+        }
+        Map<String, RoleRepresentation> roles = new HashMap<>(current.roles());
+        roles.put(role.name(), role);
+        snapshot = new Snapshot(Map.copyOf(roles), current.loadedAtNanos());
+    }
+
+    private record Snapshot(Map<String, RoleRepresentation> roles, long loadedAtNanos) {
+
+        boolean isFresh(long maxAgeNanos) {
+            return loadedAtNanos != 0L && System.nanoTime() - loadedAtNanos < maxAgeNanos;
+        }
+
+        boolean containsAll(Collection<String> roleNames) {
+            return roles.keySet().containsAll(roleNames);
+        }
+
+        List<RoleRepresentation> lookup(Collection<String> roleNames) {
+            List<RoleRepresentation> found = new ArrayList<>(roleNames.size());
+            for (String roleName : new LinkedHashSet<>(roleNames)) {
+                RoleRepresentation role = roles.get(roleName);
+                if (role != null) {
+                    found.add(role);
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.usertest.api.service.keycloak;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 진행 중 조회 합치기 (single-flight)
+ *
+ * 같은 (작업, 키) 조회가 이미 진행 중이면 새로 호출하지 않고 진행 중인 Mono 의 결과를 함께 받습니다.
+ * 조회가 끝나면(성공/빈 결과/오류) 바로 잊으므로 결과를 캐시하지 않으며, 멱등 조회에만 사용해야 합니다.
+ *
+ * 쓰기 직후의 확인 조회(생성 후 ID 조회 등)는 쓰기 전에 시작된 조회에 합류하면 이전 상태를 받을 수 있으므로
+ * 이 경로를 거치지 않습니다. 합쳐진 호출 수는 keycloak.singleflight.coalesced{operation} 으로 노출합니다.
+ *
+ * 구역(KeycloakLane)이 다른 호출은 합치지 않으므로, 요청 처리 중 조회가 일괄 작업이 시작한 BACKGROUND 조회를
+ * 기다리지 않습니다. 공유 호출은 첫 호출자의 Observation 아래에 걸리지 않도록 부모 span 없이 실행합니다.
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<Key, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalesced = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("keycloak.singleflight.inflight", inFlight, Map::size)
+                .description("Distinct Keycloak lookups currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 진행 중 조회가 있으면 합류, 없으면 call 을 시작
+     *
+     * @param operation 작업 이름 (메트릭 태그)
+     * @param key 조회 키 (equals/hashCode 구현 필요)
+     * @param call 실제 조회
+     * @return 조회 결과 (합류한 호출자 모두 같은 결과/오류를 받음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String operation, Object key, Supplier<Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            KeycloakLane lane = KeycloakLane.from(context);
+            Key flightKey = new Key(operation, lane, key);
+            AtomicReference<Mono<?>> started = new AtomicReference<>();
+
+            Mono<T> flight = (Mono<T>) inFlight.computeIfAbsent(flightKey, ignored -> {
+                Mono<T> shared = Mono.defer(call)
+                        .doFinally(signal -> inFlight.remove(flightKey, started.get()))
+                        // 첫 호출자의 Context 중 구역은 명시하고 Observation 부모는 제거
+                        .contextWrite(ctx -> ctx.delete(ObservationThreadLocalAccessor.KEY)
+                                .put(KeycloakLane.CONTEXT_KEY, lane))
+                        .share();
+                started.set(shared);
+                return shared;
+            });
+
+            if (started.get() == null) {
+                coalesced.computeIfAbsent(operation, this::counter).increment();
+            }
+            return flight;
+        });
+    }
+
+    private Counter counter(String operation) {
+        return Counter.builder("keycloak.singleflight.coalesced")
+                .description("Keycloak lookups that joined an identical in-flight call instead of issuing a new one")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private record Key(String operation, KeycloakLane lane, Object key) {
+    }
+}
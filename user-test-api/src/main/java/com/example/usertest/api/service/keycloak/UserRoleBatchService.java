@@ -0,0 +1,94 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.keycloak.LinkedUserIdLookup.LinkedUser;
+import com.example.usertest.domain.dto.keycloak.UserRoleResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 사용자의 역할 정보 일괄 조회
+ *
+ * GET /api/v1/roles/user/{username} 은 사용자마다 관리자 토큰 발급 + 사용자 검색 + 역할/그룹 조회 3회로 약 5회 호출합니다.
+ * 여기서는 관리자 토큰을 요청당 최대 1회만 발급해 공유하고, 사용자 ID는 로컬 users 테이블에서 묶음 조회하므로
+ * 연결된 사용자는 역할/그룹 조회 3회만 남습니다. 사용자별 조회는 keycloak.bulk.concurrency 만큼만 동시에 진행하며,
+ * 단건 조회와 같은 UserRoleCache 를 거치므로 캐시된 사용자는 Keycloak 호출이 없습니다.
+ * 페이지 렌더링마다 호출되는 대화형 조회이므로 BACKGROUND 구역으로 보내지 않고 단건 조회와 같은 기본(ADMIN) 구역에서 진행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserRoleBatchService {
+
+    private final KeycloakAdminService keycloakAdminService;
+    private final KeycloakProperties keycloakProperties;
+    private final LinkedUserIdLookup linkedUserIdLookup;
+    private final UserRoleCache userRoleCache;
+
+    /**
+     * 여러 사용자의 역할 정보 일괄 조회
+     *
+     * @param requested 사용자명 목록 (검증은 호출 측에서 완료)
+     * @return 사용자명 → 역할 정보 (요청 순서, 개별 실패는 success=false)
+     */
+    public Mono<Map<String, UserRoleResponse>> getUserRoles(List<String> requested) {
+        List<String> usernames = List.copyOf(new LinkedHashSet<>(requested));
+        log.atDebug().addKeyValue("users", usernames.size()).log("사용자 역할 일괄 조회 시작");
+
+        // 관리자 토큰은 캐시에 없는 사용자가 처음 나올 때 한 번만 발급 (모두 캐시되어 있으면 Keycloak 호출 없음)
+        Mono<String> adminToken = keycloakAdminService.getAdminToken().cache();
+
+        return linkedUserIdLookup.find(usernames)
+                .flatMap(user -> load(user, adminToken).map(response -> Map.entry(user.username(), response)),
+                        keycloakProperties.getBulk().getConcurrency())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(loaded -> {
+                    Map<String, UserRoleResponse> ordered = new LinkedHashMap<>();
+                    usernames.forEach(username -> ordered.put(username, loaded.get(username)));
+                    return ordered;
+                });
+    }
+
+    /**
+     * 사용자 한 명의 역할 정보 조회 (단건 조회와 같은 UserRoleCache 를 사용)
+     */
+    private Mono<UserRoleResponse> load(LinkedUser user, Mono<String> adminToken) {
+        return userRoleCache.get(user.username(), () -> fetch(user, adminToken))
+                .onErrorResume(ex -> {
+                    log.atWarn()
+                            .addKeyValue("username", user.username())
+                            .addKeyValue("error", ex.getMessage())
+                            .log("사용자 역할 일괄 조회 실패");
+                    return Mono.just(UserRoleResponse.failure(user.username(), "역할 조회 중 오류 발생: " + ex.getMessage()));
+                });
+    }
+
+    /**
+     * Keycloak 에서 역할 정보 조회
+     * 로컬 연결 ID가 Keycloak 에 없으면 Keycloak exact 조회로 한 번만 다시 시도합니다.
+     */
+    private Mono<UserRoleResponse> fetch(LinkedUser user, Mono<String> adminToken) {
+        return adminToken.flatMap(token -> {
+            if (user.userId() == null) {
+                return lookupAndLoad(user.username(), token);
+            }
+            return keycloakAdminService.getUserRolesById(user.username(), user.userId(), token)
+                    .onErrorResume(WebClientResponseException.NotFound.class,
+                            ex -> lookupAndLoad(user.username(), token));
+        });
+    }
+
+    private Mono<UserRoleResponse> lookupAndLoad(String username, String adminToken) {
+        return keycloakAdminService.getUserByUsername(username, adminToken)
+                .flatMap(userId -> keycloakAdminService.getUserRolesById(username, userId, adminToken))
+                .switchIfEmpty(Mono.fromSupplier(() -> UserRoleResponse.failure(username, "사용자를 찾을 수 없습니다")));
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.domain.dto.keycloak.UserRoleResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 역할 정보(UserRoleResponse) 캐시
+ *
+ * - ttl 안: 캐시 값을 그대로 반환
+ * - ttl ~ ttl + max-stale: 캐시 값을 바로 반환하고 백그라운드에서 한 번만 다시 조회 (Keycloak 이 느리거나 멈춰도 조회 지연이 늘지 않음)
+ * - 그 이후/없음: 호출 경로에서 조회
+ *
+ * 역할 매핑/그룹 변경은 KeycloakAdminService 의 쓰기 지점에서 {@link #invalidateUserId}로 즉시 무효화합니다.
+ * 무효화는 사용자(ID/사용자명)별 순번으로 기록하고, 조회 시작 이후 <b>그 사용자</b>가 무효화되었으면 결과를 저장하지 않으며
+ * 무효화 전에 시작된 조회에 합류한 호출자는 한 번 다시 조회합니다. 다른 사용자의 무효화는 저장/합치기에 영향이 없습니다.
+ * 무효화 기록은 진행 중 조회보다 오래 남도록 ttl 동안 보관합니다.
+ * 성공 응답만 저장하며, 찾을 수 없는 사용자 등 실패 응답은 기존 값을 지웁니다.
+ */
+@Component
+@Slf4j
+public class UserRoleCache {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String NAME_PREFIX = "name:";
+
+    private final KeycloakProperties.RoleCache config;
+    private final SingleFlight singleFlight;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> usernamesByUserId = new ConcurrentHashMap<>();
+    /**
+     * 무효화 순번 (조회 시작 시점과 사용자별 마지막 무효화 비교용)
+     */
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * 사용자별 마지막 무효화 ("id:" + Keycloak 사용자 ID 또는 "name:" + 사용자명 키)
+     */
+    private final Map<String, Invalidation> invalidations = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshFailures;
+
+    public UserRoleCache(KeycloakProperties keycloakProperties, SingleFlight singleFlight, MeterRegistry meterRegistry) {
+        this.config = keycloakProperties.getRoleCache();
+        this.singleFlight = singleFlight;
+
+        Gauge.builder("keycloak.role.cache.size", entries, Map::size)
+                .description("Cached per-user role responses")
+                .register(meterRegistry);
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshFailures = Counter.builder("keycloak.role.cache.refresh.failures")
+                .description("Background role cache refreshes that failed (stale value kept)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 역할 정보 조회 (없거나 만료되면 loader 로 조회)
+     *
+     * @param username 사용자명
+     * @param loader Keycloak 조회 (오류는 그대로 전달해야 함 - 오류를 실패 응답으로 바꾸면 그대로 캐시를 지움)
+     * @return 역할 정보
+     */
+    public Mono<UserRoleResponse> get(String username, Supplier<Mono<UserRoleResponse>> loader) {
+        if (!config.isEnabled()) {
+            return loader.get();
+        }
+
+        String key = key(username);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long age = System.nanoTime() - entry.loadedAtNanos();
+            if (age < config.getTtl().toNanos()) {
+                hits.increment();
+                return Mono.just(entry.response());
+            }
+            if (age < config.getTtl().plus(config.getMaxStale()).toNanos()) {
+                staleHits.increment();
+                refreshInBackground(key, entry, loader);
+                return Mono.just(entry.response());
+            }
+            remove(key, entry);
+        }
+
+        misses.increment();
+        return load(key, loader);
+    }
+
+    /**
+     * 사용자명 기준 무효화
+     *
+     * @param username 사용자명
+     */
+    public void invalidate(String username) {
+        markInvalidated(NAME_PREFIX + key(username));
+        Entry entry = entries.remove(key(username));
+        if (entry != null && entry.response().getKeycloakUserId() != null) {
+            usernamesByUserId.remove(entry.response().getKeycloakUserId());
+        }
+    }
+
+    /**
+     * Keycloak 사용자 ID 기준 무효화 (역할 매핑/그룹 쓰기 지점에서 호출)
+     *
+     * @param userId Keycloak 사용자 ID
+     */
+    public void invalidateUserId(String userId) {
+        markInvalidated(ID_PREFIX + userId);
+        String key = usernamesByUserId.remove(userId);
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Keycloak 조회 후 저장
+     * 같은 사용자의 조회가 진행 중이면 합류하되, 합류한 조회가 시작된 뒤 요청 전에 이 사용자가 무효화되었으면
+     * (쓰기 이전 값일 수 있으므로) 합치지 않고 한 번 다시 조회합니다.
+     */
+    private Mono<UserRoleResponse> load(String key, Supplier<Mono<UserRoleResponse>> loader) {
+        return Mono.defer(() -> {
+            long requestedAt = sequence.get();
+            return singleFlight.execute("roles.user", key, () -> fetch(key, loader))
+                    .flatMap(loaded -> invalidatedBetween(key, loaded.response(), loaded.startedAt(), requestedAt)
+                            ? fetch(key, loader)
+                            : Mono.just(loaded))
+                    .map(Loaded::response);
+        });
+    }
+
+    /**
+     * 조회 시작 순번을 기록해 조회하고, 그 사이 이 사용자가 무효화되지 않았으면 저장
+     */
+    private Mono<Loaded> fetch(String key, Supplier<Mono<UserRoleResponse>> loader) {
+        return Mono.defer(() -> {
+            long startedAt = sequence.get();
+            return loader.get()
+                    .doOnNext(response -> store(key, response, startedAt))
+                    .map(response -> new Loaded(response, startedAt));
+        });
+    }
+
+    private void refreshInBackground(String key, Entry entry, Supplier<Mono<UserRoleResponse>> loader) {
+        if (!entry.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+        load(key, loader)
+                .doFinally(signal -> entry.refreshing().set(false))
+                .contextWrite(KeycloakLane.background())
+                .subscribe(
+                        response -> log.atDebug().addKeyValue("username", key).log("역할 캐시 백그라운드 갱신"),
+                        error -> {
+                            refreshFailures.increment();
+                            log.atWarn()
+                                    .addKeyValue("username", key)
+                                    .addKeyValue("error", error.getMessage())
+                                    .log("역할 캐시 갱신 실패, 이전 값 유지");
+                        });
+    }
+
+    private void store(String key, UserRoleResponse response, long startedAt) {
+        if (!response.isSuccess()) {
+            Entry removed = entries.remove(key);
+            if (removed != null && removed.response().getKeycloakUserId() != null) {
+                usernamesByUserId.remove(removed.response().getKeycloakUserId());
+            }
+            return;
+        }
+        if (invalidatedAfter(key, response, startedAt)) {
+            return;
+        }
+        if (entries.size() >= config.getMaxEntries() && !entries.containsKey(key)) {
+            evictExpired();
+            if (entries.size() >= config.getMaxEntries()) {
+                return;
+            }
+        }
+
+        Entry stored = new Entry(response, System.nanoTime(), new AtomicBoolean());
+        entries.put(key, stored);
+        if (response.getKeycloakUserId() != null) {
+            usernamesByUserId.put(response.getKeycloakUserId(), key);
+        }
+        // 저장 직전에 무효화가 끼어들었으면 방금 저장한 값을 되돌림
+        if (invalidatedAfter(key, response, startedAt)) {
+            remove(key, stored);
+        }
+    }
+
+    private void markInvalidated(String invalidationKey) {
+        invalidations.put(invalidationKey, new Invalidation(sequence.incrementAndGet(), System.nanoTime()));
+        if (invalidations.size() > config.getMaxEntries()) {
+            // ttl 보다 오래 진행 중인 조회는 없으므로 그보다 오래된 기록은 더 이상 필요 없음
+            long maxAge = config.getTtl().toNanos();
+            long now = System.nanoTime();
+            invalidations.values().removeIf(invalidation -> now - invalidation.atNanos() >= maxAge);
+        }
+    }
+
+    /**
+     * startedAt 이후 이 사용자(사용자명 키 또는 응답의 Keycloak 사용자 ID)가 무효화되었는지 여부
+     */
+    private boolean invalidatedAfter(String key, UserRoleResponse response, long startedAt) {
+        return lastInvalidation(key, response) > startedAt;
+    }
+
+    /**
+     * from 이후 until 이전(포함)에 이 사용자가 무효화되었는지 여부
+     */
+    private boolean invalidatedBetween(String key, UserRoleResponse response, long from, long until) {
+        long last = lastInvalidation(key, response);
+        return last > from && last <= until;
+    }
+
+    private long lastInvalidation(String key, UserRoleResponse response) {
+        long last = sequenceOf(NAME_PREFIX + key);
+        if (response.getKeycloakUserId() != null) {
+            last = Math.max(last, sequenceOf(ID_PREFIX + response.getKeycloakUserId()));
+        }
+        return last;
+    }
+
+    private long sequenceOf(String invalidationKey) {
+        Invalidation invalidation = invalidations.get(invalidationKey);
+        return invalidation != null ? invalidation.sequence() : 0;
+    }
+
+    private void evictExpired() {
+        long maxAge = config.getTtl().toNanos();
+        long now = System.nanoTime();
+        entries.forEach((key, entry) -> {
+            if (now - entry.loadedAtNanos() >= maxAge) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry) && entry.response().getKeycloakUserId() != null) {
+            usernamesByUserId.remove(entry.response().getKeycloakUserId(), key);
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("keycloak.role.cache.requests")
+                .description("Role lookups served by the per-user role cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(UserRoleResponse response, long loadedAtNanos, AtomicBoolean refreshing) {
+    }
+
+    private record Loaded(UserRoleResponse response, long startedAt) {
+    }
+
+    private record Invalidation(long sequence, long atNanos) {
+    }
+}
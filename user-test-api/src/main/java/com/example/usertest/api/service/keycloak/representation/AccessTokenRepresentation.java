@@ -0,0 +1,11 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 토큰 엔드포인트 응답 중 access_token만 읽는 표현 (Admin 토큰용)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AccessTokenRepresentation(@JsonProperty("access_token") String accessToken) {
+}
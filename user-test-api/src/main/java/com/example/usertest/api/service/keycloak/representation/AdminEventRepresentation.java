@@ -0,0 +1,10 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Keycloak AdminEventRepresentation 최소 표현 (representation 본문, authDetails는 읽지 않음)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AdminEventRepresentation(Long time, String resourcePath) {
+}
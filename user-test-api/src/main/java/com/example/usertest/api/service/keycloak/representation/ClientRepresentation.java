@@ -0,0 +1,10 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Keycloak ClientRepresentation 최소 표현 (내부 UUID와 clientId)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ClientRepresentation(String id, String clientId) {
+}
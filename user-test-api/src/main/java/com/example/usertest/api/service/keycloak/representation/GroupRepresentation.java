@@ -0,0 +1,10 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Keycloak GroupRepresentation 최소 표현 (subGroups, attributes 등은 읽지 않음)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GroupRepresentation(String id, String name) {
+}
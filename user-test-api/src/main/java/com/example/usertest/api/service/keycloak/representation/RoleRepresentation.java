@@ -0,0 +1,12 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Keycloak RoleRepresentation 최소 표현
+ *
+ * 역할 매핑 추가/제거 요청 본문으로도 그대로 사용합니다 (Keycloak은 id/name으로 역할을 찾음).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RoleRepresentation(String id, String name) {
+}
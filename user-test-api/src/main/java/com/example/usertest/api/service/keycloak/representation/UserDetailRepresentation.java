@@ -0,0 +1,17 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /users/{id} 전체 표현 중 프로비저닝 채택 확인에 필요한 필드만 담은 표현
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record UserDetailRepresentation(String id, String username, Map<String, List<String>> attributes) {
+
+    public boolean hasAttribute(String name, String value) {
+        return attributes != null && attributes.getOrDefault(name, List.of()).contains(value);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Keycloak UserRepresentation 중 애플리케이션이 읽는 필드만 담은 최소 표현
+ *
+ * 나머지 필드(attributes, access, credentials 등)는 Jackson이 토큰 단위로 건너뜁니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record UserRepresentation(String id, String username, Boolean enabled) {
+}
@@ -0,0 +1,56 @@
+package com.example.usertest.api.service.observation;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 사용자 프로비저닝 단계별 Observation (keycloak.provisioning)
+ *
+ * 현재 Observation을 Reactor Context(ObservationThreadLocalAccessor.KEY)에 넣어 전달하므로
+ * flatMap/Mono.when 안에서 구독되는 하위 단계가 자동으로 자식 span이 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProvisioningObservation {
+
+    public static final String NAME = "keycloak.provisioning";
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * @param step 단계 이름 (타이머 step 태그, 고정 값만 사용)
+     * @param mono 측정할 단계
+     * @return 구독 시 Observation을 시작하고 종료 시 멈추는 Mono
+     */
+    public <T> Mono<T> observe(String step, Mono<T> mono) {
+        return observe(step, KeyValues.empty(), mono);
+    }
+
+    /**
+     * @param step 단계 이름 (타이머 step 태그, 고정 값만 사용)
+     * @param details span에만 남길 상세 정보 (사용자명 등, 메트릭 태그로 쓰이지 않음)
+     * @param mono 측정할 단계
+     * @return 구독 시 Observation을 시작하고 종료 시 멈추는 Mono
+     */
+    public <T> Mono<T> observe(String step, KeyValues details, Mono<T> mono) {
+        return Mono.deferContextual(context -> {
+            Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+            Observation observation = Observation.createNotStarted(NAME, observationRegistry)
+                    .contextualName(step)
+                    .lowCardinalityKeyValue("step", step)
+                    .highCardinalityKeyValues(details)
+                    .parentObservation(parent)
+                    .start();
+
+            return mono
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+}
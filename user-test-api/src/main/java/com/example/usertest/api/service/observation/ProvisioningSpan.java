@@ -0,0 +1,41 @@
+package com.example.usertest.api.service.observation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 프로비저닝 span 트리의 노드
+ * 병렬 단계(Mono.when)가 동시에 자식을 추가하므로 자식 목록은 동시성 안전 리스트를 사용합니다.
+ */
+@Getter
+public class ProvisioningSpan {
+
+    private final String name;
+    private final Instant startedAt;
+    private final Map<String, String> details;
+    private final List<ProvisioningSpan> children = new CopyOnWriteArrayList<>();
+    @JsonIgnore
+    private final long startNanos;
+    private volatile double durationMs;
+    private volatile String error;
+
+    ProvisioningSpan(String name, Map<String, String> details) {
+        this.name = name;
+        this.details = details;
+        this.startedAt = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        this.durationMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    void error(Throwable throwable) {
+        this.error = throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+    }
+}
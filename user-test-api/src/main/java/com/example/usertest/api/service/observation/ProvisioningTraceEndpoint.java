@@ -0,0 +1,25 @@
+package com.example.usertest.api.service.observation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 사용자 프로비저닝 span 트리 조회 (GET /actuator/provisioningtraces, ADMIN 역할 필요)
+ * 버퍼는 capacity 만큼만 보관하며 오래된 트리부터 밀려나므로 비우는 작업은 제공하지 않습니다.
+ */
+@Component
+@Endpoint(id = "provisioningtraces")
+@RequiredArgsConstructor
+public class ProvisioningTraceEndpoint {
+
+    private final ProvisioningTraceHandler provisioningTraceHandler;
+
+    @ReadOperation
+    public List<ProvisioningSpan> traces() {
+        return provisioningTraceHandler.recent();
+    }
+}
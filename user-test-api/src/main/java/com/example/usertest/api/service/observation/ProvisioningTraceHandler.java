@@ -0,0 +1,94 @@
+package com.example.usertest.api.service.observation;
+
+import com.example.usertest.api.config.properties.ProvisioningTraceProperties;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * keycloak.provisioning Observation을 span 트리로 모으는 로컬 수집기
+ *
+ * 루트 span이 끝나면 트리 전체를 링 버퍼에 넣고, actuator provisioningtraces 엔드포인트로 조회합니다.
+ * 외부 트레이싱 백엔드 없이 프로비저닝 단계별 지연을 확인하기 위한 용도입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProvisioningTraceHandler implements ObservationHandler<Observation.Context> {
+
+    private final ProvisioningTraceProperties properties;
+    private final Deque<ProvisioningSpan> recent = new ArrayDeque<>();
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return properties.isEnabled() && ProvisioningObservation.NAME.equals(context.getName());
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        Map<String, String> details = new LinkedHashMap<>();
+        for (KeyValue keyValue : context.getHighCardinalityKeyValues()) {
+            details.put(keyValue.getKey(), keyValue.getValue());
+        }
+        ProvisioningSpan span = new ProvisioningSpan(context.getContextualName(), details);
+        context.put(ProvisioningSpan.class, span);
+
+        ProvisioningSpan parent = parentSpan(context);
+        if (parent != null) {
+            parent.getChildren().add(span);
+        }
+    }
+
+    @Override
+    public void onError(Observation.Context context) {
+        ProvisioningSpan span = context.get(ProvisioningSpan.class);
+        if (span != null && context.getError() != null) {
+            span.error(context.getError());
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        ProvisioningSpan span = context.get(ProvisioningSpan.class);
+        if (span == null) {
+            return;
+        }
+        span.stop();
+        if (parentSpan(context) == null) {
+            synchronized (recent) {
+                recent.addFirst(span);
+                while (recent.size() > Math.max(1, properties.getCapacity())) {
+                    recent.removeLast();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 최근 루트 span 트리 (최신순)
+     */
+    public List<ProvisioningSpan> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    private static ProvisioningSpan parentSpan(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        if (parent == null) {
+            return null;
+        }
+        return parent.getContextView() instanceof Observation.Context parentContext
+                ? parentContext.get(ProvisioningSpan.class)
+                : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.usertest.api.service.store;
+
+import com.example.usertest.api.config.properties.StoreProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이벤트 루프 스레드에서의 블로킹 저장소 호출 감지
+ * 
+ * store.scheduler.fail-on-event-loop=true 이면 논블로킹 스레드(Reactor Netty 이벤트 루프,
+ * parallel 스케줄러)에서 JDBC 호출이 시작될 때 즉시 실패시킵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockingCallGuard {
+    
+    private final StoreProperties storeProperties;
+    
+    public void assertBlockingAllowed(String operation) {
+        if (storeProperties.getScheduler().isFailOnEventLoop() && Schedulers.isInNonBlockingThread()) {
+            throw new IllegalStateException("Blocking store call '" + operation
+                    + "' on non-blocking thread: " + Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.usertest.api.service.store;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리액티브 코드에서 블로킹 저장소 호출을 실행하는 진입점
+ * 
+ * 모든 호출을 jdbc-store 스케줄러로 옮겨 Reactor Netty 이벤트 루프가 막히지 않도록 하고,
+ * 대기 중인 작업 수(store.jdbc.scheduler.queued)와 대기 시간(store.jdbc.scheduler.wait)을 노출합니다.
+ */
+@Component
+public class BlockingStoreExecutor {
+    
+    private final Scheduler jdbcStoreScheduler;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer waitTimer;
+    
+    public BlockingStoreExecutor(Scheduler jdbcStoreScheduler, MeterRegistry meterRegistry) {
+        this.jdbcStoreScheduler = jdbcStoreScheduler;
+        
+        Gauge.builder("store.jdbc.scheduler.queued", queued, AtomicInteger::get)
+                .description("Blocking store calls waiting for a jdbc-store thread")
+                .register(meterRegistry);
+        Gauge.builder("store.jdbc.scheduler.active", active, AtomicInteger::get)
+                .description("Blocking store calls currently running")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("store.jdbc.scheduler.wait")
+                .description("Time blocking store calls spend queued before running")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 블로킹 작업을 jdbc-store 스케줄러에서 실행
+     * 
+     * @param task 블로킹 작업
+     * @return 작업 결과
+     */
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.defer(() -> {
+            long enqueuedAt = System.nanoTime();
+            AtomicBoolean dequeued = new AtomicBoolean();
+            queued.incrementAndGet();
+            
+            return Mono.fromCallable(() -> {
+                        if (dequeued.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                        waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                        active.incrementAndGet();
+                        try {
+                            return task.call();
+                        } finally {
+                            active.decrementAndGet();
+                        }
+                    })
+                    .subscribeOn(jdbcStoreScheduler)
+                    .doFinally(signal -> {
+                        // 실행 전에 취소/거부된 경우에도 대기 카운트 정리
+                        if (dequeued.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                    });
+        });
+    }
+    
+    /**
+     * 반환값이 없는 블로킹 작업을 jdbc-store 스케줄러에서 실행
+     * 
+     * @param task 블로킹 작업
+     * @return 완료 신호
+     */
+    public Mono<Void> run(Runnable task) {
+        return call(() -> {
+            task.run();
+            return null;
+        }).then();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.usertest.api.service.sync;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 비동기 처리 대기 중인 비밀번호 암호화 (AES-GCM)
+ * 
+ * 아웃박스/작업 본문에 비밀번호를 평문으로 남기지 않도록 저장 전에 암호화하고, Keycloak 호출 직전에만 복호화합니다.
+ * 키는 keycloak.sync.credential-key (Base64, 16/24/32바이트)이며, 비어 있으면 기동마다 임시 키를 만들어
+ * 재기동 전에 기록된 대기 본문은 복호화되지 않습니다 (해당 이벤트/항목은 실패로 끝남).
+ */
+@Component
+@Slf4j
+public class CredentialCipher {
+    
+    private static final String PREFIX = "enc:v1:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+    
+    public CredentialCipher(KeycloakProperties keycloakProperties) {
+        String configured = keycloakProperties.getSync().getCredentialKey();
+        if (configured == null || configured.isBlank()) {
+            log.warn("keycloak.sync.credential-key is not set; pending credentials will not survive a restart");
+            this.key = generateKey();
+        } else {
+            byte[] bytes = Base64.getDecoder().decode(configured.trim());
+            if (bytes.length != 16 && bytes.length != 24 && bytes.length != 32) {
+                throw new IllegalStateException("keycloak.sync.credential-key must be 16, 24 or 32 bytes (Base64)");
+            }
+            this.key = new SecretKeySpec(bytes, "AES");
+        }
+    }
+    
+    /**
+     * @param plaintext 비밀번호 (null 이면 그대로 반환)
+     * @return "enc:v1:" + Base64(IV + 암호문)
+     */
+    public String encrypt(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            
+            ByteBuffer buffer = ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted);
+            return PREFIX + Base64.getEncoder().encodeToString(buffer.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Credential encryption failed", e);
+        }
+    }
+    
+    /**
+     * @param value encrypt 결과 (접두사가 없으면 이전 평문 행으로 보고 그대로 반환)
+     * @return 비밀번호
+     * @throws IllegalArgumentException 키가 다르거나 값이 손상된 경우
+     */
+    public String decrypt(String value) {
+        if (value == null || !value.startsWith(PREFIX)) {
+            return value;
+        }
+        try {
+            byte[] bytes = Base64.getDecoder().decode(value.substring(PREFIX.length()));
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, bytes, 0, IV_LENGTH));
+            byte[] decrypted = cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Credential decryption failed (key changed or temporary key lost)", e);
+        }
+    }
+    
+    private static SecretKey generateKey() {
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("AES is not available", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.usertest.api.service.sync;
+
+import java.util.Arrays;
+
+/**
+ * 전체 대사 중 확인한 Keycloak 사용자 ID 집합
+ * 
+ * ID 문자열 대신 64비트 해시만 정렬 배열로 보관합니다. (100만 명 기준 약 8MB)
+ * 해시 충돌 시 고아 후보를 놓칠 수 있지만, 다음 전체 대사에서 다시 확인됩니다.
+ */
+final class KeycloakIdSet {
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private long[] hashes;
+    private int size;
+    private boolean sorted;
+    
+    KeycloakIdSet(int expectedSize) {
+        this.hashes = new long[Math.max(16, expectedSize)];
+    }
+    
+    void add(String id) {
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        hashes[size++] = hash(id);
+        sorted = false;
+    }
+    
+    boolean contains(String id) {
+        if (!sorted) {
+            Arrays.sort(hashes, 0, size);
+            sorted = true;
+        }
+        return Arrays.binarySearch(hashes, 0, size, hash(id)) >= 0;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private static long hash(String id) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
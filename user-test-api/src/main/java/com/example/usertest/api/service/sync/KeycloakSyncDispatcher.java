@@ -0,0 +1,158 @@
+package com.example.usertest.api.service.sync;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.exception.KeycloakUserConflictException;
+import com.example.usertest.api.service.keycloak.KeycloakAdminService;
+import com.example.usertest.api.service.keycloak.KeycloakLane;
+import com.example.usertest.domain.UserSyncOutbox;
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import com.example.usertest.store.repository.UserSyncOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keycloak 동기화 아웃박스 디스패처
+ * 
+ * 아웃박스 이벤트를 배치 단위로 선점하여 Keycloak에 전달합니다.
+ * - 배치 내 전달은 keycloak.sync.concurrency 만큼 병렬 처리
+ * - 실패 시 지수 백오프로 재시도, max-attempts 초과 시 FAILED
+ * - 같은 이벤트의 이전 시도가 생성한 사용자만 채택하고 역할/그룹을 다시 적용한 뒤 완료 처리 (멱등성)
+ * - 이 이벤트가 만들지 않은 기존 사용자와 충돌하면 재시도 없이 FAILED
+ * - 선점 기한(lease)이 지난 PROCESSING 이벤트는 다른 인스턴스가 다시 선점
+ * - Keycloak 호출은 BACKGROUND 구역(KeycloakLane)에서 진행
+ * - keycloak.sync.mode=outbox 일 때만 등록 (inline 모드에서는 아웃박스를 쓰지 않으므로 선점 쿼리도 보내지 않음)
+ */
+@Component
+@ConditionalOnProperty(prefix = "keycloak.sync", name = "mode", havingValue = "outbox")
+@RequiredArgsConstructor
+@Slf4j
+public class KeycloakSyncDispatcher {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final KeycloakSyncOutboxService keycloakSyncOutboxService;
+    private final UserSyncOutboxRepository userSyncOutboxRepository;
+    private final KeycloakAdminService keycloakAdminService;
+    private final KeycloakProperties keycloakProperties;
+    private final MeterRegistry meterRegistry;
+    
+    @Scheduled(fixedDelayString = "${keycloak.sync.poll-interval-ms:1000}")
+    public void dispatch() {
+        KeycloakProperties.Sync sync = keycloakProperties.getSync();
+        try {
+            // 배치가 가득 차 있으면 밀린 이벤트가 있는 것이므로 이어서 처리
+            int claimed;
+            do {
+                claimed = dispatchBatch(sync);
+            } while (claimed == sync.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Keycloak sync dispatch failed: {}", e.getMessage());
+        }
+    }
+    
+    private int dispatchBatch(KeycloakProperties.Sync sync) {
+        String claimToken = UUID.randomUUID().toString();
+        List<UserSyncOutbox> batch = userSyncOutboxRepository.claimBatch(
+                claimToken, sync.getBatchSize(), (int) sync.getLease().toSeconds());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        log.debug("Dispatching {} Keycloak sync events", batch.size());
+        List<Delivery> deliveries = Flux.fromIterable(batch)
+                .flatMap(this::deliver, sync.getConcurrency())
+                .collectList()
+                .contextWrite(KeycloakLane.background())
+                .block(sync.getLease());
+        
+        if (deliveries != null) {
+            deliveries.forEach(delivery -> complete(delivery, sync));
+        }
+        return batch.size();
+    }
+    
+    private Mono<Delivery> deliver(UserSyncOutbox event) {
+        KeycloakUserCreateRequest createRequest;
+        try {
+            createRequest = keycloakSyncOutboxService.readPayload(event);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Mono.just(Delivery.rejected(event, "Invalid payload: " + e.getMessage()));
+        }
+        
+        // 역할/그룹 할당 실패도 오류로 전달되므로 재시도됨
+        return keycloakAdminService.provisionUser(createRequest, "outbox:" + event.getId())
+                .map(keycloakUserId -> Delivery.delivered(event, keycloakUserId))
+                .onErrorResume(KeycloakUserConflictException.class, ex -> Mono.just(Delivery.rejected(event, ex.getMessage())))
+                .onErrorResume(ex -> Mono.just(Delivery.retry(event, ex.getMessage())));
+    }
+    
+    private void complete(Delivery delivery, KeycloakProperties.Sync sync) {
+        UserSyncOutbox event = delivery.event();
+        try {
+            if (delivery.keycloakUserId() != null) {
+                keycloakSyncOutboxService.completeDelivered(event, delivery.keycloakUserId());
+                record("done");
+                log.info("Keycloak sync delivered: {} → {}", event.getAggregateId(), delivery.keycloakUserId());
+                return;
+            }
+            
+            int attempts = event.getAttempts() + 1;
+            String error = truncate(delivery.error());
+            if (delivery.permanent() || attempts >= sync.getMaxAttempts()) {
+                userSyncOutboxRepository.markFailed(event.getId(), event.getClaimToken(), attempts, error);
+                record("failed");
+                log.warn("Keycloak sync failed permanently: {} (attempts={}): {}", event.getAggregateId(), attempts, error);
+            } else {
+                long delaySeconds = backoffSeconds(sync, attempts);
+                userSyncOutboxRepository.markRetry(event.getId(), event.getClaimToken(), attempts, delaySeconds, error);
+                record("retry");
+                log.debug("Keycloak sync retry scheduled: {} in {}s (attempts={})", event.getAggregateId(), delaySeconds, attempts);
+            }
+        } catch (Exception e) {
+            // 선점 기한이 지나면 다시 선점되므로 여기서는 기록만 남김
+            log.warn("Failed to record Keycloak sync result for outbox {}: {}", event.getId(), e.getMessage());
+        }
+    }
+    
+    private long backoffSeconds(KeycloakProperties.Sync sync, int attempts) {
+        long initial = Math.max(1, sync.getInitialBackoff().toSeconds());
+        long delay = initial << Math.min(attempts - 1, 20);
+        return Math.min(delay, sync.getMaxBackoff().toSeconds());
+    }
+    
+    private void record(String result) {
+        meterRegistry.counter("keycloak.sync.outbox.dispatched", "result", result).increment();
+    }
+    
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+    
+    private record Delivery(UserSyncOutbox event, String keycloakUserId, String error, boolean permanent) {
+        
+        static Delivery delivered(UserSyncOutbox event, String keycloakUserId) {
+            return new Delivery(event, keycloakUserId, null, false);
+        }
+        
+        static Delivery retry(UserSyncOutbox event, String error) {
+            return new Delivery(event, null, error, false);
+        }
+        
+        static Delivery rejected(UserSyncOutbox event, String error) {
+            return new Delivery(event, null, error, true);
+        }
+    }
+}
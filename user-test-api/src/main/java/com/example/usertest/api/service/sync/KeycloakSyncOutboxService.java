@@ -0,0 +1,91 @@
+package com.example.usertest.api.service.sync;
+
+import com.example.usertest.api.service.UserService;
+import com.example.usertest.domain.User;
+import com.example.usertest.domain.UserSyncOutbox;
+import com.example.usertest.domain.dto.UserDto;
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import com.example.usertest.store.repository.UserRepository;
+import com.example.usertest.store.repository.UserSyncOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keycloak 동기화 아웃박스 서비스
+ * 
+ * 로컬 사용자 행과 아웃박스 이벤트를 하나의 트랜잭션으로 기록합니다.
+ * 본문의 비밀번호는 {@link CredentialCipher}로 암호화해 저장하고, 완료/최종 실패 시 본문 자체를 지웁니다.
+ * Keycloak 호출은 {@link KeycloakSyncDispatcher}가 요청 경로 밖에서 수행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeycloakSyncOutboxService {
+    
+    public static final String EVENT_USER_CREATE = "USER_CREATE";
+    
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final UserSyncOutboxRepository userSyncOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final CredentialCipher credentialCipher;
+    
+    /**
+     * 로컬 사용자 생성과 Keycloak 생성 이벤트 기록 (블로킹, 단일 트랜잭션)
+     * 
+     * @param userDto 로컬 사용자 정보
+     * @param createRequest Keycloak 사용자 생성 요청
+     * @return 저장된 로컬 사용자
+     */
+    @Transactional
+    public User createUserWithOutbox(UserDto userDto, KeycloakUserCreateRequest createRequest) {
+        User user = userService.createUser(userDto);
+        
+        userSyncOutboxRepository.save(UserSyncOutbox.builder()
+                .aggregateId(createRequest.getUsername())
+                .eventType(EVENT_USER_CREATE)
+                .payload(writePayload(createRequest))
+                .build());
+        
+        log.info("Keycloak sync event queued: {}", createRequest.getUsername());
+        return user;
+    }
+    
+    /**
+     * 전달 완료 처리: 로컬 사용자에 Keycloak ID 연결 + 이벤트 완료
+     */
+    @Transactional
+    public void completeDelivered(UserSyncOutbox event, String keycloakUserId) {
+        userRepository.updateKeycloakUserId(event.getAggregateId(), keycloakUserId);
+        userSyncOutboxRepository.markDone(event.getId(), event.getClaimToken());
+    }
+    
+    /**
+     * 본문 복원 (비밀번호 복호화 포함)
+     * 
+     * @throws IllegalArgumentException 비밀번호를 복호화할 수 없는 경우 (키 변경 등)
+     */
+    public KeycloakUserCreateRequest readPayload(UserSyncOutbox event) throws JsonProcessingException {
+        KeycloakUserCreateRequest createRequest = objectMapper.readValue(event.getPayload(), KeycloakUserCreateRequest.class);
+        createRequest.setPassword(credentialCipher.decrypt(createRequest.getPassword()));
+        return createRequest;
+    }
+    
+    /**
+     * 본문 직렬화 (비밀번호는 암호화해 저장, 호출자의 요청 객체는 바꾸지 않음)
+     */
+    private String writePayload(KeycloakUserCreateRequest createRequest) {
+        try {
+            ObjectNode payload = objectMapper.valueToTree(createRequest);
+            payload.put("password", credentialCipher.encrypt(createRequest.getPassword()));
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid user create request: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package com.example.usertest.api.service.sync;
+
+import com.example.usertest.api.config.properties.KeycloakProperties;
+import com.example.usertest.api.service.keycloak.KeycloakAdminService;
+import com.example.usertest.api.service.keycloak.KeycloakLane;
+import com.example.usertest.api.service.keycloak.representation.AdminEventRepresentation;
+import com.example.usertest.api.service.keycloak.representation.UserRepresentation;
+import com.example.usertest.domain.ReconcileCheckpoint;
+import com.example.usertest.domain.User;
+import com.example.usertest.store.repository.ReconcileCheckpointRepository;
+import com.example.usertest.store.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keycloak ↔ users 테이블 대사(reconciliation) 작업
+ *
+ * 전체 대사:
+ * - Keycloak 사용자를 briefRepresentation 페이지로 병렬 조회 (keycloak.reconcile.concurrency)
+ * - 페이지 순서대로 users 테이블과 비교하여 keycloak_user_id / enabled를 일괄 UPDATE
+ * - 페이지마다 오프셋을 체크포인트에 기록하여 중단 시 이어서 진행
+ * - 처음부터 끝까지 완료된 경우에만 로컬 고아(Keycloak에서 삭제된 사용자) 탐지
+ *
+ * 증분 대사 (full-interval 사이):
+ * - 마지막 반영 구간 이후의 USER 관리자 이벤트로 변경된 사용자만 조회
+ * - 같은 구간에 변경된 미연결 로컬 사용자를 사용자명으로 연결
+ *
+ * Keycloak 호출은 모두 BACKGROUND 구역(KeycloakLane)에서 진행하여 로그인/요청 처리에 양보합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeycloakUserReconciler {
+
+    static final String CHECKPOINT_NAME = "keycloak-users";
+
+    private static final int LOCAL_SCAN_CHUNK = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final KeycloakAdminService keycloakAdminService;
+    private final UserRepository userRepository;
+    private final ReconcileCheckpointRepository reconcileCheckpointRepository;
+    private final KeycloakProperties keycloakProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Scheduled(fixedDelayString = "${keycloak.reconcile.interval-ms:300000}",
+               initialDelayString = "${keycloak.reconcile.initial-delay-ms:60000}")
+    public void scheduledReconcile() {
+        if (!keycloakProperties.getReconcile().isEnabled()) {
+            return;
+        }
+        try {
+            reconcile(false);
+        } catch (Exception e) {
+            log.warn("Keycloak reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대사 실행 (블로킹)
+     *
+     * @param forceFull true면 체크포인트와 관계없이 처음부터 전체 대사
+     * @return 실행 결과 (다른 인스턴스가 실행 중이면 null)
+     */
+    public ReconcileResult reconcile(boolean forceFull) {
+        KeycloakProperties.Reconcile config = keycloakProperties.getReconcile();
+
+        ReconcileCheckpoint checkpoint = reconcileCheckpointRepository.getOrCreate(CHECKPOINT_NAME);
+        if (checkpoint.getUpdatedAt() == null) {
+            reconcileCheckpointRepository.save(checkpoint);
+        }
+        if (!reconcileCheckpointRepository.tryLock(CHECKPOINT_NAME, instanceId, config.getLease().toSeconds())) {
+            log.debug("Keycloak reconciliation is running on another instance");
+            return null;
+        }
+
+        checkpoint = reconcileCheckpointRepository.getOrCreate(CHECKPOINT_NAME);
+        boolean full = forceFull || isFullDue(checkpoint, config);
+        String mode = full ? "full" : "incremental";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            ReconcileResult result = full
+                    ? reconcileFull(checkpoint, config, forceFull)
+                    : reconcileIncremental(checkpoint, config);
+            checkpoint.setLastError(null);
+            reconcileCheckpointRepository.save(checkpoint);
+            record(result);
+            log.info("Keycloak reconciliation completed: {}", result);
+            return result;
+        } catch (RuntimeException e) {
+            // 전체 대사의 오프셋은 유지되므로 다음 실행에서 이어서 진행
+            checkpoint.setLastError(truncate(e.getMessage()));
+            reconcileCheckpointRepository.save(checkpoint);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("keycloak.reconcile.run", "mode", mode));
+            reconcileCheckpointRepository.unlock(CHECKPOINT_NAME, instanceId);
+        }
+    }
+
+    private boolean isFullDue(ReconcileCheckpoint checkpoint, KeycloakProperties.Reconcile config) {
+        return checkpoint.getCursorOffset() != null
+                || checkpoint.getWindowEnd() == null
+                || checkpoint.getLastFullAt() == null
+                || checkpoint.getLastFullAt().plus(config.getFullInterval()).isBefore(LocalDateTime.now());
+    }
+
+    private ReconcileResult reconcileFull(ReconcileCheckpoint checkpoint, KeycloakProperties.Reconcile config, boolean restart) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int pageSize = config.getPageSize();
+        int startOffset = !restart && checkpoint.getCursorOffset() != null ? checkpoint.getCursorOffset() : 0;
+        int total = Objects.requireNonNull(keycloakAdminService.countUsers()
+                .contextWrite(KeycloakLane.background())
+                .block(REQUEST_TIMEOUT));
+        int pages = Math.max(0, (total - startOffset + pageSize - 1) / pageSize);
+
+        log.info("Keycloak full reconciliation: {} users, from offset {}", total, startOffset);
+        ReconcileResult result = new ReconcileResult("full");
+        // 중간부터 재개한 경우 앞쪽 페이지의 ID를 모르므로 고아 탐지는 생략
+        KeycloakIdSet seenIds = startOffset == 0 ? new KeycloakIdSet(total) : null;
+
+        Flux<KeycloakPage> pageFlux = Flux.range(0, pages)
+                .map(index -> startOffset + index * pageSize)
+                .flatMapSequential(first -> keycloakAdminService.getUsersPage(first, pageSize)
+                        .timeout(REQUEST_TIMEOUT)
+                        .map(users -> new KeycloakPage(first, users)), config.getConcurrency())
+                .contextWrite(KeycloakLane.background());
+
+        // 페이지는 병렬로 받아오고, DB 반영과 체크포인트 기록은 호출 스레드에서 오프셋 순서대로 처리
+        for (KeycloakPage page : pageFlux.toIterable(config.getConcurrency())) {
+            List<KeycloakUserSnapshot> snapshots = page.users().stream()
+                    .map(KeycloakUserSnapshot::from)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (seenIds != null) {
+                snapshots.forEach(snapshot -> seenIds.add(snapshot.id()));
+            }
+            applySnapshots(snapshots, config, result);
+            result.setScanned(result.getScanned() + snapshots.size());
+
+            checkpoint.setCursorOffset(page.first() + pageSize);
+            reconcileCheckpointRepository.save(checkpoint);
+            reconcileCheckpointRepository.tryLock(CHECKPOINT_NAME, instanceId, config.getLease().toSeconds());
+        }
+
+        if (seenIds != null) {
+            scanOrphans(seenIds, config, result);
+        }
+
+        checkpoint.setCursorOffset(null);
+        checkpoint.setLastFullAt(startedAt);
+        if (startOffset == 0 || checkpoint.getWindowEnd() == null) {
+            checkpoint.setWindowEnd(startedAt);
+        }
+        return result;
+    }
+
+    private ReconcileResult reconcileIncremental(ReconcileCheckpoint checkpoint, KeycloakProperties.Reconcile config) {
+        LocalDateTime windowEnd = LocalDateTime.now();
+        LocalDateTime windowStart = checkpoint.getWindowEnd().minus(config.getWindowOverlap());
+        ReconcileResult result = new ReconcileResult("incremental");
+
+        Set<String> changedIds = collectChangedUserIds(windowStart, config);
+        List<UserLookup> lookups = Flux.fromIterable(changedIds)
+                .flatMap(id -> keycloakAdminService.findUserById(id)
+                        .timeout(REQUEST_TIMEOUT)
+                        .map(representation -> new UserLookup(id, true, KeycloakUserSnapshot.from(representation)))
+                        .defaultIfEmpty(new UserLookup(id, false, null)), config.getConcurrency())
+                .collectList()
+                .contextWrite(KeycloakLane.background())
+                .block();
+
+        List<KeycloakUserSnapshot> present = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        for (UserLookup lookup : Objects.requireNonNull(lookups)) {
+            if (!lookup.exists()) {
+                deletedIds.add(lookup.id());
+            } else if (lookup.snapshot() != null) {
+                present.add(lookup.snapshot());
+            }
+        }
+        result.setScanned(present.size());
+        applySnapshots(present, config, result);
+        for (List<String> chunk : partition(deletedIds, config.getWriteBatchSize())) {
+            recordOrphans(userRepository.findByKeycloakUserIds(chunk), config, result);
+        }
+
+        linkUnlinkedSince(windowStart, config, result);
+
+        checkpoint.setWindowEnd(windowEnd);
+        return result;
+    }
+
+    /**
+     * 구간 내 USER 관리자 이벤트에서 변경된 Keycloak 사용자 ID 수집
+     * 이벤트는 최신순으로 반환되므로 구간 시작 이전 이벤트를 만나면 중단
+     */
+    private Set<String> collectChangedUserIds(LocalDateTime windowStart, KeycloakProperties.Reconcile config) {
+        long fromMillis = windowStart.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Set<String> userIds = new LinkedHashSet<>();
+        int max = config.getPageSize();
+
+        for (int first = 0; ; first += max) {
+            List<AdminEventRepresentation> events = keycloakAdminService
+                    .getUserAdminEvents(windowStart.toLocalDate(), first, max)
+                    .contextWrite(KeycloakLane.background())
+                    .block(REQUEST_TIMEOUT);
+            if (events == null || events.isEmpty()) {
+                break;
+            }
+
+            boolean reachedWindowStart = false;
+            for (AdminEventRepresentation event : events) {
+                if (event.time() != null && event.time() < fromMillis) {
+                    reachedWindowStart = true;
+                    break;
+                }
+                userIdFromResourcePath(event.resourcePath()).ifPresent(userIds::add);
+            }
+            if (reachedWindowStart || events.size() < max) {
+                break;
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 구간 내 변경되었지만 아직 Keycloak과 연결되지 않은 로컬 사용자를 사용자명으로 연결
+     * Keycloak에 없는 사용자는 미연결로 남으므로 (updated_at, id) 키셋으로 마지막 페이지까지 순회
+     */
+    private void linkUnlinkedSince(LocalDateTime since, KeycloakProperties.Reconcile config, ReconcileResult result) {
+        LocalDateTime afterUpdatedAt = since;
+        long afterId = 0;
+        List<User> chunk;
+        do {
+            chunk = userRepository.findUnlinkedUpdatedSince(afterUpdatedAt, afterId, config.getPageSize());
+            if (chunk.isEmpty()) {
+                break;
+            }
+            linkByUsername(chunk, config, result);
+
+            User last = chunk.get(chunk.size() - 1);
+            afterUpdatedAt = last.getUpdatedAt();
+            afterId = last.getId();
+            reconcileCheckpointRepository.tryLock(CHECKPOINT_NAME, instanceId, config.getLease().toSeconds());
+        } while (chunk.size() == config.getPageSize());
+    }
+
+    private void linkByUsername(List<User> unlinked, KeycloakProperties.Reconcile config, ReconcileResult result) {
+        List<User> linked = Flux.fromIterable(unlinked)
+                .flatMap(user -> keycloakAdminService.findUserIdByUsername(user.getUsername())
+                        .timeout(REQUEST_TIMEOUT)
+                        .map(keycloakUserId -> {
+                            user.setKeycloakUserId(keycloakUserId);
+                            return user;
+                        }), config.getConcurrency())
+                .collectList()
+                .contextWrite(KeycloakLane.background())
+                .block();
+
+        userRepository.updateKeycloakLinks(Objects.requireNonNull(linked));
+        result.setLinked(result.getLinked() + linked.size());
+    }
+
+    /**
+     * Keycloak 스냅샷과 로컬 사용자를 사용자명 기준으로 비교하여 차이를 일괄 반영
+     */
+    private void applySnapshots(List<KeycloakUserSnapshot> snapshots, KeycloakProperties.Reconcile config, ReconcileResult result) {
+        for (List<KeycloakUserSnapshot> chunk : partition(snapshots, config.getWriteBatchSize())) {
+            Map<String, User> localUsers = userRepository.findByUsernames(
+                            chunk.stream().map(KeycloakUserSnapshot::username).toList())
+                    .stream()
+                    .collect(Collectors.toMap(
+                            user -> user.getUsername().toLowerCase(Locale.ROOT),
+                            Function.identity(),
+                            (existing, duplicate) -> existing));
+
+            List<User> changes = new ArrayList<>();
+            for (KeycloakUserSnapshot snapshot : chunk) {
+                User localUser = localUsers.get(snapshot.username());
+                if (localUser == null) {
+                    result.setMissingLocal(result.getMissingLocal() + 1);
+                    continue;
+                }
+
+                boolean relink = !snapshot.id().equals(localUser.getKeycloakUserId());
+                boolean enabledChanged = localUser.isEnabled() != snapshot.enabled();
+                if (!relink && !enabledChanged) {
+                    continue;
+                }
+                if (relink) {
+                    result.setLinked(result.getLinked() + 1);
+                }
+                if (enabledChanged) {
+                    result.setEnabledUpdated(result.getEnabledUpdated() + 1);
+                }
+                localUser.setKeycloakUserId(snapshot.id());
+                localUser.setEnabled(snapshot.enabled());
+                changes.add(localUser);
+            }
+            userRepository.updateKeycloakLinks(changes);
+        }
+    }
+
+    /**
+     * 전체 대사에서 확인되지 않은 연결 사용자를 키셋 순회로 찾아 고아 여부 확인
+     */
+    private void scanOrphans(KeycloakIdSet seenIds, KeycloakProperties.Reconcile config, ReconcileResult result) {
+        long afterId = 0;
+        List<User> chunk;
+        do {
+            chunk = userRepository.findLinkedAfterId(afterId, LOCAL_SCAN_CHUNK);
+            List<User> candidates = chunk.stream()
+                    .filter(user -> !seenIds.contains(user.getKeycloakUserId()))
+                    .toList();
+            if (!candidates.isEmpty()) {
+                recordOrphans(confirmOrphans(candidates, config), config, result);
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOCAL_SCAN_CHUNK);
+    }
+
+    /**
+     * 고아 후보 개별 확인
+     * 오프셋 페이지는 실행 중 삭제/추가로 밀릴 수 있고 실행 중에 새로 연결된 사용자도 있으므로 404만 고아로 확정
+     */
+    private List<User> confirmOrphans(List<User> candidates, KeycloakProperties.Reconcile config) {
+        return Flux.fromIterable(candidates)
+                .flatMap(user -> keycloakAdminService.findUserById(user.getKeycloakUserId())
+                        .timeout(REQUEST_TIMEOUT)
+                        .map(representation -> Optional.<User>empty())
+                        .defaultIfEmpty(Optional.of(user)), config.getConcurrency())
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collectList()
+                .contextWrite(KeycloakLane.background())
+                .block();
+    }
+
+    private void recordOrphans(List<User> orphans, KeycloakProperties.Reconcile config, ReconcileResult result) {
+        if (orphans.isEmpty()) {
+            return;
+        }
+        result.setOrphans(result.getOrphans() + orphans.size());
+        log.warn("Local users linked to deleted Keycloak users: {}",
+                orphans.stream().map(User::getUsername).limit(20).toList());
+
+        if (config.isUnlinkOrphans()) {
+            int unlinked = userRepository.unlinkKeycloakUsers(orphans.stream().map(User::getId).toList());
+            result.setUnlinked(result.getUnlinked() + unlinked);
+        }
+    }
+
+    private void record(ReconcileResult result) {
+        meterRegistry.counter("keycloak.reconcile.users", "result", "scanned").increment(result.getScanned());
+        meterRegistry.counter("keycloak.reconcile.users", "result", "linked").increment(result.getLinked());
+        meterRegistry.counter("keycloak.reconcile.users", "result", "enabled_updated").increment(result.getEnabledUpdated());
+        meterRegistry.counter("keycloak.reconcile.users", "result", "missing_local").increment(result.getMissingLocal());
+        meterRegistry.counter("keycloak.reconcile.users", "result", "orphan").increment(result.getOrphans());
+        meterRegistry.counter("keycloak.reconcile.users", "result", "unlinked").increment(result.getUnlinked());
+    }
+
+    private static Optional<String> userIdFromResourcePath(String resourcePath) {
+        // users/{id} 또는 users/{id}/role-mappings/... 형식
+        if (resourcePath == null || !resourcePath.startsWith("users/")) {
+            return Optional.empty();
+        }
+        String[] segments = resourcePath.split("/");
+        return segments.length > 1 && !segments[1].isEmpty() ? Optional.of(segments[1]) : Optional.empty();
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return chunks;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private record KeycloakPage(int first, List<UserRepresentation> users) {
+    }
+
+    private record UserLookup(String id, boolean exists, KeycloakUserSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.usertest.api.service.sync;
+
+import com.example.usertest.api.service.keycloak.representation.UserRepresentation;
+
+import java.util.Locale;
+
+/**
+ * 대사에 필요한 Keycloak 사용자 필드 (briefRepresentation 기준)
+ */
+record KeycloakUserSnapshot(String id, String username, boolean enabled) {
+    
+    /**
+     * Keycloak 사용자 표현에서 스냅샷 생성
+     * 
+     * @param representation Keycloak 사용자 표현
+     * @return 스냅샷 (id 또는 username이 없으면 null)
+     */
+    static KeycloakUserSnapshot from(UserRepresentation representation) {
+        if (representation.id() == null || representation.username() == null) {
+            return null;
+        }
+        return new KeycloakUserSnapshot(
+                representation.id(),
+                representation.username().toLowerCase(Locale.ROOT),
+                !Boolean.FALSE.equals(representation.enabled()));
+    }
+}
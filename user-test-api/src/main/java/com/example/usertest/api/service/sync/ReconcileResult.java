@@ -0,0 +1,17 @@
+package com.example.usertest.api.service.sync;
+
+import lombok.Data;
+
+/**
+ * Keycloak ↔ users 대사 실행 결과
+ */
+@Data
+public class ReconcileResult {
+    private final String mode; // full | incremental
+    private long scanned; // 확인한 Keycloak 사용자 수
+    private long linked; // keycloak_user_id를 새로 연결/수정한 로컬 사용자 수
+    private long enabledUpdated; // 활성화 여부를 Keycloak에 맞춘 로컬 사용자 수
+    private long missingLocal; // Keycloak에만 있는 사용자 수 (로컬 생성은 하지 않음)
+    private long orphans; // Keycloak에서 삭제된 로컬 연결 사용자 수
+    private long unlinked; // 연결 해제한 고아 사용자 수 (unlink-orphans=true)
+}
@@ -0,0 +1,58 @@
+package com.example.usertest.api.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * JWT realm_access.roles → GrantedAuthority 변환 벤치마크
+ * 인증이 필요한 모든 요청에서 실행되는 경로입니다.
+ */
+@State(Scope.Benchmark)
+public class SecurityConfigBenchmark {
+
+    private Jwt typicalJwt;
+    private Jwt manyRolesJwt;
+    private Jwt noRealmAccessJwt;
+
+    @Setup
+    public void setUp() {
+        typicalJwt = jwt(List.of("default-roles-pulsar", "offline_access", "uma_authorization", "user"));
+        manyRolesJwt = jwt(IntStream.range(0, 32).mapToObj(i -> "role_" + i).toList());
+        noRealmAccessJwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("sub", "user")
+                .build();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> typicalRoles() {
+        return SecurityConfig.extractAuthorities(typicalJwt);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> manyRoles() {
+        return SecurityConfig.extractAuthorities(manyRolesJwt);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> noRealmAccess() {
+        return SecurityConfig.extractAuthorities(noRealmAccessJwt);
+    }
+
+    private static Jwt jwt(List<String> roles) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("sub", "user")
+                .claim("realm_access", Map.of("roles", roles))
+                .build();
+    }
+}
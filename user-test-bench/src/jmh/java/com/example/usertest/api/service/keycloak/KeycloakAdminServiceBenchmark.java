@@ -0,0 +1,46 @@
+package com.example.usertest.api.service.keycloak;
+
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keycloak 요청 본문 생성 벤치마크
+ * 사용자 생성(UserRepresentation)과 토큰 요청(Form 데이터)마다 실행되는 경로입니다.
+ */
+@State(Scope.Benchmark)
+public class KeycloakAdminServiceBenchmark {
+
+    private KeycloakUserCreateRequest createRequest;
+    private Map<String, String> passwordGrant;
+
+    @Setup
+    public void setUp() {
+        createRequest = KeycloakUserCreateRequest.forRegularUser("bench_user", "bench_user@example.com", "password123");
+        createRequest.setFirstName("Bench");
+        createRequest.setLastName("User");
+
+        passwordGrant = new LinkedHashMap<>();
+        passwordGrant.put("grant_type", "password");
+        passwordGrant.put("client_id", "user-test-client");
+        passwordGrant.put("client_secret", "0123456789abcdef0123456789abcdef");
+        passwordGrant.put("username", "bench_user");
+        passwordGrant.put("password", "password123");
+        passwordGrant.put("scope", "openid profile email");
+    }
+
+    @Benchmark
+    public Map<String, Object> buildUserRepresentation() {
+        return KeycloakAdminService.buildUserRepresentation(createRequest);
+    }
+
+    @Benchmark
+    public String buildFormData() {
+        return KeycloakAdminService.buildFormData(passwordGrant);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.usertest.api.service.keycloak.representation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keycloak 목록 응답 디코딩 벤치마크 (Map 트리 vs 최소 표현)
+ *
+ * 페이로드는 Keycloak 전체 GroupRepresentation/RoleRepresentation 형식의 10k 요소 배열입니다.
+ * - objectMapper*: Jackson 단독 비용
+ * - decoder*: WebClient 경로 (bodyToMono(List.class) vs bodyToFlux(Representation.class))
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+public class RepresentationDecodingBenchmark {
+
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST = new TypeReference<>() {};
+
+    @Param({"groups", "roles"})
+    public String payload;
+
+    @Param({"10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private Jackson2JsonDecoder decoder;
+    private byte[] json;
+    private Class<?> representationType;
+    private JavaType representationListType;
+
+    @Setup
+    public void setUp() throws Exception {
+        // WebClient.builder() 기본 코덱과 같은 설정 (FAIL_ON_UNKNOWN_PROPERTIES 비활성)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        decoder = new Jackson2JsonDecoder(objectMapper);
+        // Map 경로는 배열 전체를 버퍼링하므로 애플리케이션의 1MB 제한을 넘는 페이로드도 측정할 수 있게 해제
+        decoder.setMaxInMemorySize(-1);
+
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add("groups".equals(payload) ? group(i) : role(i));
+        }
+        json = objectMapper.writeValueAsBytes(items);
+        representationType = "groups".equals(payload) ? GroupRepresentation.class : RoleRepresentation.class;
+        representationListType = objectMapper.getTypeFactory().constructCollectionType(List.class, representationType);
+    }
+
+    @Benchmark
+    public int objectMapperMaps() throws Exception {
+        List<Map<String, Object>> items = objectMapper.readValue(json, MAP_LIST);
+        int found = 0;
+        for (Map<String, Object> item : items) {
+            if (item.get("id") != null && item.get("name") != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public List<?> objectMapperTyped() throws Exception {
+        return objectMapper.readValue(json, representationListType);
+    }
+
+    @Benchmark
+    public Object decoderMaps() {
+        return decoder.decodeToMono(body(), ResolvableType.forClass(List.class), null, null).block();
+    }
+
+    @Benchmark
+    public List<Object> decoderTyped() {
+        return decoder.decode(body(), ResolvableType.forClass(representationType), null, null)
+                .collectList()
+                .block();
+    }
+
+    private Flux<DataBuffer> body() {
+        return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(json));
+    }
+
+    private static Map<String, Object> group(int index) {
+        Map<String, Object> group = new LinkedHashMap<>();
+        group.put("id", UUID.randomUUID().toString());
+        group.put("name", "group-" + index);
+        group.put("path", "/group-" + index);
+        group.put("subGroupCount", 0);
+        group.put("subGroups", List.of());
+        group.put("attributes", Map.of("department", List.of("dept-" + (index % 50))));
+        group.put("realmRoles", List.of());
+        group.put("clientRoles", Map.of());
+        group.put("access", Map.of("view", true, "viewMembers", true, "manageMembers", true,
+                "manage", true, "manageMembership", true));
+        return group;
+    }
+
+    private static Map<String, Object> role(int index) {
+        Map<String, Object> role = new LinkedHashMap<>();
+        role.put("id", UUID.randomUUID().toString());
+        role.put("name", "role-" + index);
+        role.put("description", "${role_" + index + "} generated for decoding benchmark");
+        role.put("composite", false);
+        role.put("clientRole", false);
+        role.put("containerId", "b1c2d3e4-f5a6-7890-abcd-ef1234567890");
+        role.put("attributes", Map.of());
+        return role;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.usertest.bench;
+
+import com.example.usertest.domain.dto.auth.TokenResponse;
+import com.example.usertest.domain.dto.keycloak.UserRoleResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 응답 DTO JSON 직렬화/역직렬화 벤치마크
+ * ObjectMapper는 Spring Boot 기본 설정(JavaTimeModule, 날짜 ISO 문자열)과 동일하게 구성합니다.
+ */
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private TokenResponse tokenResponse;
+    private String tokenResponseJson;
+    private UserRoleResponse userRoleResponse;
+    private String userRoleResponseJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        tokenResponse = TokenResponse.builder()
+                .accessToken("eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCJ9." + "a".repeat(900) + ".signature")
+                .expiresIn(300)
+                .refreshExpiresIn(1800)
+                .refreshToken("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9." + "b".repeat(500) + ".signature")
+                .tokenType("Bearer")
+                .notBeforePolicy(0)
+                .sessionState("12345678-1234-1234-1234-123456789012")
+                .scope("openid profile email")
+                .build();
+        tokenResponseJson = objectMapper.writeValueAsString(tokenResponse);
+
+        userRoleResponse = UserRoleResponse.success("bench_user", "a1b2c3d4-e5f6-7890-abcd-ef1234567890");
+        userRoleResponse.setRealmRoles(List.of("default-roles-pulsar", "offline_access", "uma_authorization", "user"));
+        userRoleResponse.setClientRoles(List.of("manage-account", "view-profile"));
+        userRoleResponse.setAllRoles(List.of("default-roles-pulsar", "offline_access", "uma_authorization", "user",
+                "manage-account", "view-profile"));
+        userRoleResponse.setGroups(List.of("pulsar_system"));
+        userRoleResponseJson = objectMapper.writeValueAsString(userRoleResponse);
+    }
+
+    @Benchmark
+    public String writeTokenResponse() throws Exception {
+        return objectMapper.writeValueAsString(tokenResponse);
+    }
+
+    @Benchmark
+    public TokenResponse readTokenResponse() throws Exception {
+        return objectMapper.readValue(tokenResponseJson, TokenResponse.class);
+    }
+
+    @Benchmark
+    public String writeUserRoleResponse() throws Exception {
+        return objectMapper.writeValueAsString(userRoleResponse);
+    }
+
+    @Benchmark
+    public UserRoleResponse readUserRoleResponse() throws Exception {
+        return objectMapper.readValue(userRoleResponseJson, UserRoleResponse.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.usertest.bench;
+
+import com.example.usertest.api.service.UserService;
+import com.example.usertest.domain.User;
+import com.example.usertest.domain.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * User → UserDto 변환 벤치마크
+ * convertToDto는 의존 빈을 사용하지 않으므로 협력 객체 없이 생성합니다.
+ */
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    private UserService userService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        userService = new UserService(null, null, null);
+        user = User.builder()
+                .id(42L)
+                .username("bench_user")
+                .email("bench_user@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUV")
+                .role("USER")
+                .enabled(true)
+                .keycloakUserId("a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public UserDto convertToDto() {
+        return userService.convertToDto(user);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.usertest.aot;
+
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import com.example.usertest.domain.ReconcileCheckpoint;
+import com.example.usertest.domain.User;
+import com.example.usertest.domain.UserSyncOutbox;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * MyBatis 네이티브 이미지/AOT 지원 설정
+ * 
+ * - MapperFactoryBean의 제네릭 타입을 매퍼 인터페이스로 고정하여 AOT가 빈 타입을 해석할 수 있게 함
+ * - 매퍼 인터페이스의 JDK 프록시와 메서드 시그니처 타입 힌트 등록
+ * - 네이티브 이미지에서는 type-aliases-package 클래스 스캔이 동작하지 않으므로 별칭을 명시 등록
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(UserTestRuntimeHints.class)
+public class MyBatisNativeConfiguration {
+
+    @Bean
+    public ConfigurationCustomizer typeAliasConfigurationCustomizer() {
+        return configuration -> {
+            configuration.getTypeAliasRegistry().registerAlias("User", User.class);
+            configuration.getTypeAliasRegistry().registerAlias("UserSyncOutbox", UserSyncOutbox.class);
+            configuration.getTypeAliasRegistry().registerAlias("ReconcileCheckpoint", ReconcileCheckpoint.class);
+            configuration.getTypeAliasRegistry().registerAlias("AdminJob", AdminJob.class);
+            configuration.getTypeAliasRegistry().registerAlias("AdminJobItem", AdminJobItem.class);
+        };
+    }
+
+    @Bean
+    public static MergedBeanDefinitionPostProcessor mapperFactoryBeanTypePostProcessor() {
+        return new MergedBeanDefinitionPostProcessor() {
+            @Override
+            public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+                if (!beanDefinition.hasBeanClass()
+                        || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())
+                        || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                    return;
+                }
+                Class<?> mapperInterface = mapperInterface(beanDefinition);
+                if (mapperInterface != null) {
+                    beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperInterface));
+                }
+            }
+        };
+    }
+
+    @Bean
+    public static BeanFactoryInitializationAotProcessor mapperProxyAotProcessor() {
+        return beanFactory -> {
+            Set<Class<?>> mapperInterfaces = findMapperInterfaces(beanFactory);
+            if (mapperInterfaces.isEmpty()) {
+                return null;
+            }
+            return new MapperHintsContribution(mapperInterfaces);
+        };
+    }
+
+    private static Set<Class<?>> findMapperInterfaces(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> mapperInterfaces = new LinkedHashSet<>();
+        for (String beanName : beanFactory.getBeanNamesForType(MapperFactoryBean.class, false, false)) {
+            String definitionName = beanName.startsWith("&") ? beanName.substring(1) : beanName;
+            Class<?> mapperInterface = mapperInterface(beanFactory.getBeanDefinition(definitionName));
+            if (mapperInterface != null) {
+                mapperInterfaces.add(mapperInterface);
+            }
+        }
+        return mapperInterfaces;
+    }
+
+    private static Class<?> mapperInterface(BeanDefinition beanDefinition) {
+        Object value = beanDefinition.getPropertyValues().get("mapperInterface");
+        return value instanceof Class<?> type ? type : null;
+    }
+
+    private record MapperHintsContribution(Set<Class<?>> mapperInterfaces) implements BeanFactoryInitializationAotContribution {
+
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+            RuntimeHints hints = generationContext.getRuntimeHints();
+            for (Class<?> mapperInterface : mapperInterfaces) {
+                hints.proxies().registerJdkProxy(mapperInterface);
+                hints.reflection().registerType(mapperInterface, MemberCategory.INVOKE_PUBLIC_METHODS);
+                for (Method method : mapperInterface.getMethods()) {
+                    registerSignatureType(hints, ResolvableType.forMethodReturnType(method));
+                    for (int i = 0; i < method.getParameterCount(); i++) {
+                        registerSignatureType(hints, ResolvableType.forMethodParameter(method, i));
+                    }
+                }
+            }
+        }
+
+        private static void registerSignatureType(RuntimeHints hints, ResolvableType type) {
+            Class<?> resolved = type.resolve();
+            if (resolved != null && !resolved.isPrimitive() && !resolved.getName().startsWith("java.lang.")) {
+                hints.reflection().registerType(resolved, MemberCategory.values());
+            }
+            for (ResolvableType generic : type.getGenerics()) {
+                registerSignatureType(hints, generic);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.usertest.aot;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.stream.Stream;
+
+/**
+ * 네이티브 이미지 런타임 힌트
+ * 
+ * - MyBatis 매퍼 XML / DTD 리소스
+ * - MyBatis 내부에서 리플렉션으로 생성하는 타입 (언어 드라이버, 로거, 캐시, 프록시 팩토리)
+ * - user-test-domain의 도메인/DTO 클래스 (MyBatis 결과 매핑, Jackson 바인딩, Lombok 빌더)
+ * - logback-spring.xml에서 리플렉션으로 생성/설정하는 커스텀 appender/filter
+ */
+public class UserTestRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String DOMAIN_PACKAGE = "com.example.usertest.domain";
+
+    private static final String[] MYBATIS_TYPES = {
+            "org.apache.ibatis.scripting.defaults.RawLanguageDriver",
+            "org.apache.ibatis.scripting.xmltags.XMLLanguageDriver",
+            "org.apache.ibatis.javassist.util.proxy.ProxyFactory",
+            "org.apache.ibatis.javassist.util.proxy.RuntimeSupport",
+            "org.apache.ibatis.logging.Log",
+            "org.apache.ibatis.logging.slf4j.Slf4jImpl",
+            "org.apache.ibatis.logging.nologging.NoLoggingImpl",
+            "org.apache.ibatis.logging.stdout.StdOutImpl",
+            "org.apache.ibatis.cache.impl.PerpetualCache",
+            "org.apache.ibatis.cache.decorators.FifoCache",
+            "org.apache.ibatis.cache.decorators.LruCache",
+            "org.apache.ibatis.cache.decorators.SoftCache",
+            "org.apache.ibatis.cache.decorators.WeakCache",
+            "org.apache.ibatis.session.SqlSessionFactory",
+            "org.mybatis.spring.SqlSessionFactoryBean",
+            "java.util.ArrayList",
+            "java.util.HashMap",
+            "java.util.HashSet",
+            "java.util.TreeSet",
+            "java.util.Optional"
+    };
+
+    private static final String[] LOGBACK_TYPES = {
+            "com.example.usertest.api.logging.MeteredAsyncAppender",
+            "com.example.usertest.api.logging.SamplingFilter"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("mapper/*.xml");
+        hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.dtd");
+        hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.xsd");
+
+        Stream.of(MYBATIS_TYPES).forEach(type ->
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.values()));
+
+        Stream.of(LOGBACK_TYPES).forEach(type ->
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        for (BeanDefinition candidate : domainClassScanner().findCandidateComponents(DOMAIN_PACKAGE)) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+            // MyBatis는 기본 생성자 + setter/필드, Jackson은 getter/setter, Lombok 빌더는 내부 클래스를 사용
+            hints.reflection().registerType(type, MemberCategory.values());
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        }
+    }
+
+    /**
+     * 도메인 패키지의 모든 클래스(중첩 enum/빌더 포함)를 찾는 스캐너
+     */
+    private static ClassPathScanningCandidateComponentProvider domainClassScanner() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        return scanner;
+    }
+}
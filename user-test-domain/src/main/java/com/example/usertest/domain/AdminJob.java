@@ -0,0 +1,51 @@
+package com.example.usertest.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 관리 작업 (역할 일괄 변경, 사용자 일괄 생성 등)
+ * 대상 항목은 {@link AdminJobItem}으로 저장되고, 워커가 작업을 선점해 남은 항목을 묶음 단위로 처리합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminJob {
+    private String id; // 작업 ID (UUID)
+    private JobType jobType;
+    private String submittedBy; // 접수한 사용자 (인증 주체 이름), 조회는 접수자로 제한
+    private String payload; // 작업 공통 파라미터 (JSON)
+    private JobStatus status;
+    private int totalItems;
+    private int processedItems; // 처리 완료 항목 수 (성공 + 실패)
+    private int failedItems;
+    private int attempts; // 선점 횟수 (재기동 등으로 다시 선점될 때마다 증가)
+    private LocalDateTime lockedUntil;
+    private String claimToken; // 워커 선점 식별자
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+    
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+    
+    public enum JobType {
+        ROLE_ASSIGN,
+        USER_PROVISION
+    }
+    
+    public enum JobStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED, // 모든 항목 처리 (개별 실패 포함)
+        FAILED // 작업 자체 실패 (잘못된 파라미터, 최대 선점 횟수 초과)
+    }
+}
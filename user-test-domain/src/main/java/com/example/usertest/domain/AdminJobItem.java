@@ -0,0 +1,33 @@
+package com.example.usertest.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 관리 작업의 대상 항목과 처리 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminJobItem {
+    private Long id;
+    private String jobId;
+    private int seq; // 작업 내 순번 (요청 순서)
+    private String itemKey; // 대상 사용자명
+    private String payload; // 항목별 요청 (JSON), 처리 후 제거
+    private ItemStatus status;
+    private String result; // 처리 결과 (Keycloak 사용자 ID 등)
+    private String error;
+    private LocalDateTime updatedAt;
+    
+    public enum ItemStatus {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+}
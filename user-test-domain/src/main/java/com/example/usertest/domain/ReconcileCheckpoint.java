@@ -0,0 +1,28 @@
+package com.example.usertest.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keycloak ↔ users 대사(reconciliation) 진행 상태
+ * 전체 대사는 페이지 오프셋 커서로 중단 지점부터 재개하고,
+ * 증분 대사는 마지막으로 반영한 구간의 끝(windowEnd) 이후만 확인합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconcileCheckpoint {
+    private String name;
+    private LocalDateTime lastFullAt; // 마지막 전체 대사 완료 시각
+    private LocalDateTime windowEnd; // 반영이 끝난 구간의 끝 (다음 증분 대사의 시작점)
+    private Integer cursorOffset; // 진행 중인 전체 대사의 다음 Keycloak 페이지 오프셋 (없으면 null)
+    private String lastError;
+    private String lockedBy; // 대사를 실행 중인 인스턴스 식별자
+    private LocalDateTime lockedUntil;
+    private LocalDateTime updatedAt;
+}
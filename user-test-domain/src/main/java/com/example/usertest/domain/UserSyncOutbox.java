@@ -0,0 +1,38 @@
+package com.example.usertest.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keycloak 동기화 아웃박스 이벤트
+ * 로컬 사용자 저장과 같은 트랜잭션에서 기록되고, 디스패처가 Keycloak으로 전달합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSyncOutbox {
+    private Long id;
+    private String aggregateId; // 대상 사용자명
+    private String eventType;
+    private String payload; // 이벤트 본문 (JSON), 전달 완료 후 제거
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime lockedUntil;
+    private String claimToken; // 디스패처 배치 식별자
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public enum OutboxStatus {
+        PENDING,
+        PROCESSING,
+        DONE,
+        FAILED
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.usertest.domain.dto.job;
+
+import com.example.usertest.domain.AdminJobItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 비동기 관리 작업의 항목별 결과 DTO
+ */
+@Data
+@Schema(description = "작업 항목별 처리 결과")
+public class AdminJobItemResponse {
+
+    @Schema(description = "작업 내 순번 (다음 페이지 조회 시 afterSeq 로 사용)", example = "1")
+    private int seq;
+
+    @Schema(description = "대상 사용자명", example = "user1")
+    private String username;
+
+    @Schema(description = "처리 상태 (PENDING, SUCCEEDED, FAILED)", example = "SUCCEEDED")
+    private AdminJobItem.ItemStatus status;
+
+    @Schema(description = "처리 결과 (Keycloak 사용자 ID 등)", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+    private String result;
+
+    @Schema(description = "오류 메시지 (실패 시)", example = "사용자를 찾을 수 없습니다")
+    private String error;
+
+    /**
+     * 항목 엔티티로부터 응답 생성
+     *
+     * @param item 작업 항목
+     * @return 항목 결과
+     */
+    public static AdminJobItemResponse from(AdminJobItem item) {
+        AdminJobItemResponse response = new AdminJobItemResponse();
+        response.setSeq(item.getSeq());
+        response.setUsername(item.getItemKey());
+        response.setStatus(item.getStatus());
+        response.setResult(item.getResult());
+        response.setError(item.getError());
+        return response;
+    }
+}
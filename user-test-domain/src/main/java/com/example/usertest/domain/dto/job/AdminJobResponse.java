@@ -0,0 +1,66 @@
+package com.example.usertest.domain.dto.job;
+
+import com.example.usertest.domain.AdminJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 관리 작업 상태/진행률 DTO
+ */
+@Data
+@Schema(description = "비동기 관리 작업 상태")
+public class AdminJobResponse {
+
+    @Schema(description = "작업 ID", example = "3f0e5c1a-7d2b-4c1e-9a0b-2f6d8e4c1b7a")
+    private String jobId;
+
+    @Schema(description = "작업 종류", example = "ROLE_ASSIGN")
+    private AdminJob.JobType jobType;
+
+    @Schema(description = "작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+    private AdminJob.JobStatus status;
+
+    @Schema(description = "전체 항목 수", example = "5000")
+    private int totalItems;
+
+    @Schema(description = "처리된 항목 수 (성공 + 실패)", example = "1200")
+    private int processedItems;
+
+    @Schema(description = "실패한 항목 수", example = "3")
+    private int failedItems;
+
+    @Schema(description = "작업 오류 메시지 (작업 자체가 실패했거나 재시도 중인 경우)")
+    private String lastError;
+
+    @Schema(description = "접수 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "처음 실행된 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 작업 엔티티로부터 응답 생성
+     *
+     * @param job 작업
+     * @return 작업 상태
+     */
+    public static AdminJobResponse from(AdminJob job) {
+        AdminJobResponse response = new AdminJobResponse();
+        response.setJobId(job.getId());
+        response.setJobType(job.getJobType());
+        response.setStatus(job.getStatus());
+        response.setTotalItems(job.getTotalItems());
+        response.setProcessedItems(job.getProcessedItems());
+        response.setFailedItems(job.getFailedItems());
+        response.setLastError(job.getLastError());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        return response;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.usertest.domain.dto.job;
+
+import com.example.usertest.domain.dto.keycloak.KeycloakUserCreateRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 생성 작업 요청 DTO
+ */
+@Data
+@Schema(description = "사용자 일괄 생성 작업 요청 정보")
+public class UserProvisionJobRequest {
+
+    @Schema(description = "생성할 사용자 목록 (역할을 지정하지 않으면 일반 사용자 기본 권한)", required = true)
+    private List<KeycloakUserCreateRequest> users;
+}
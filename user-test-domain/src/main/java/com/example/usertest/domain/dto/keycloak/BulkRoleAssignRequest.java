@@ -0,0 +1,24 @@
+package com.example.usertest.domain.dto.keycloak;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 사용자 Realm 역할 일괄 변경 요청 DTO
+ */
+@Data
+@Schema(description = "여러 사용자 역할 일괄 변경 요청 정보")
+public class BulkRoleAssignRequest {
+
+    @Schema(description = "대상 사용자명 목록", example = "[\"user1\", \"user2\"]", required = true)
+    private List<String> usernames;
+
+    @Schema(description = "추가할 역할 목록", example = "[\"manager\"]")
+    private List<String> addRoles = new ArrayList<>();
+
+    @Schema(description = "제거할 역할 목록", example = "[\"user\"]")
+    private List<String> removeRoles = new ArrayList<>();
+}
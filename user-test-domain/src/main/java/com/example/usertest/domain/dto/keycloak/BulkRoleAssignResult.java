@@ -0,0 +1,69 @@
+package com.example.usertest.domain.dto.keycloak;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 역할 일괄 변경의 사용자별 결과 DTO (NDJSON 한 줄)
+ */
+@Data
+@Schema(description = "사용자별 역할 일괄 변경 결과")
+public class BulkRoleAssignResult {
+
+    @Schema(description = "사용자명", example = "user1")
+    private String username;
+
+    @Schema(description = "Keycloak 사용자 ID", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+    private String keycloakUserId;
+
+    @Schema(description = "작업 성공 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "추가된 역할 목록", example = "[\"manager\"]")
+    private List<String> addedRoles;
+
+    @Schema(description = "제거된 역할 목록", example = "[\"user\"]")
+    private List<String> removedRoles;
+
+    @Schema(description = "오류 메시지 (실패 시)", example = "사용자를 찾을 수 없습니다")
+    private String errorMessage;
+
+    /**
+     * 성공 결과를 위한 팩토리 메서드
+     *
+     * @param username 사용자명
+     * @param keycloakUserId Keycloak 사용자 ID
+     * @param addedRoles 추가된 역할 목록
+     * @param removedRoles 제거된 역할 목록
+     * @return 성공 결과
+     */
+    public static BulkRoleAssignResult success(String username, String keycloakUserId,
+                                               List<String> addedRoles, List<String> removedRoles) {
+        BulkRoleAssignResult result = new BulkRoleAssignResult();
+        result.setUsername(username);
+        result.setKeycloakUserId(keycloakUserId);
+        result.setSuccess(true);
+        result.setAddedRoles(addedRoles);
+        result.setRemovedRoles(removedRoles);
+        return result;
+    }
+
+    /**
+     * 실패 결과를 위한 팩토리 메서드
+     *
+     * @param username 사용자명
+     * @param keycloakUserId Keycloak 사용자 ID (확인되지 않았으면 null)
+     * @param errorMessage 오류 메시지
+     * @return 실패 결과
+     */
+    public static BulkRoleAssignResult failure(String username, String keycloakUserId, String errorMessage) {
+        BulkRoleAssignResult result = new BulkRoleAssignResult();
+        result.setUsername(username);
+        result.setKeycloakUserId(keycloakUserId);
+        result.setSuccess(false);
+        result.setErrorMessage(errorMessage);
+        return result;
+    }
+}
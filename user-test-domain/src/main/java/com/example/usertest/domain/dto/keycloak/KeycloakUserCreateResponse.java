@@ -91,6 +91,23 @@ public class KeycloakUserCreateResponse {
         return response;
     }
 
+    /**
+     * 비동기 동기화(아웃박스) 접수 응답
+     * 로컬 사용자는 저장되었고 Keycloak 생성은 백그라운드에서 진행됩니다.
+     * 
+     * @param username 사용자명
+     * @param email 이메일
+     * @return 접수 응답 객체 (keycloakUserId 없음)
+     */
+    public static KeycloakUserCreateResponse accepted(String username, String email) {
+        KeycloakUserCreateResponse response = new KeycloakUserCreateResponse();
+        response.success = true;
+        response.username = username;
+        response.email = email;
+        response.message = "사용자 생성 요청이 접수되었습니다. Keycloak 동기화는 백그라운드에서 진행됩니다.";
+        return response;
+    }
+
     /**
      * pulsar_system 사용자 생성 성공 응답
      * 
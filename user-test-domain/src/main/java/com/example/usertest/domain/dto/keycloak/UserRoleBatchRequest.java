@@ -0,0 +1,17 @@
+package com.example.usertest.domain.dto.keycloak;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 여러 사용자 역할 일괄 조회 요청 DTO
+ */
+@Data
+@Schema(description = "여러 사용자 역할 일괄 조회 요청 정보")
+public class UserRoleBatchRequest {
+
+    @Schema(description = "조회할 사용자명 목록", example = "[\"user1\", \"user2\"]", required = true)
+    private List<String> usernames;
+}
@@ -0,0 +1,355 @@
+package com.example.usertest.keycloakstub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keycloak 스텁 서버
+ *
+ * 애플리케이션이 호출하는 Keycloak 토큰/Admin REST 엔드포인트만 인메모리로 구현합니다.
+ * 네이티브 이미지 스모크 테스트(scripts/native-smoke.sh)와 부하 테스트(user-test-load)에서 실제 Keycloak 대신 사용합니다.
+ * 응답 지연/오류 주입은 {@link StubFaults}로 설정합니다.
+ *
+ * 실행: ./gradlew :user-test-keycloak-stub:run --args="18201 --latency-ms=20 --error-rate=0.01"
+ *       또는 installDist 후 user-test-keycloak-stub/build/install/user-test-keycloak-stub/bin/user-test-keycloak-stub 18201
+ */
+public final class KeycloakStubServer {
+
+    private static final int DEFAULT_PORT = 18201;
+    private static final String REALM = "(?<realm>[^/]+)";
+    private static final String ID = "([^/]+)";
+
+    private static final Pattern TOKEN = Pattern.compile("/realms/" + REALM + "/protocol/openid-connect/token");
+    private static final Pattern CERTS = Pattern.compile("/realms/" + REALM + "/protocol/openid-connect/certs");
+    private static final Pattern WELL_KNOWN = Pattern.compile("/realms/" + REALM + "/\\.well-known/openid-configuration");
+    private static final Pattern USERS = Pattern.compile("/admin/realms/" + REALM + "/users");
+    private static final Pattern USERS_COUNT = Pattern.compile("/admin/realms/" + REALM + "/users/count");
+    private static final Pattern USER = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID);
+    private static final Pattern USER_ROLE_MAPPINGS = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID + "/role-mappings");
+    private static final Pattern USER_REALM_ROLES = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID + "/role-mappings/realm");
+    private static final Pattern USER_ALL_CLIENT_ROLES = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID + "/role-mappings/clients");
+    private static final Pattern USER_CLIENT_ROLES = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID + "/role-mappings/clients/" + ID);
+    private static final Pattern USER_GROUPS = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID + "/groups");
+    private static final Pattern USER_GROUP = Pattern.compile("/admin/realms/" + REALM + "/users/" + ID + "/groups/" + ID);
+    private static final Pattern ROLES = Pattern.compile("/admin/realms/" + REALM + "/roles");
+    private static final Pattern ROLE = Pattern.compile("/admin/realms/" + REALM + "/roles/" + ID);
+    private static final Pattern CLIENTS = Pattern.compile("/admin/realms/" + REALM + "/clients");
+    private static final Pattern CLIENT_ROLES = Pattern.compile("/admin/realms/" + REALM + "/clients/" + ID + "/roles");
+    private static final Pattern GROUPS = Pattern.compile("/admin/realms/" + REALM + "/groups");
+    private static final Pattern ADMIN_EVENTS = Pattern.compile("/admin/realms/" + REALM + "/admin-events");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StubRealm realm = new StubRealm();
+    private final StubFaults faults;
+    private final String baseUrl;
+    private final HttpServer server;
+
+    public KeycloakStubServer(int port) throws IOException {
+        this(port, StubFaults.none());
+    }
+
+    public KeycloakStubServer(int port, StubFaults faults) throws IOException {
+        this.faults = faults;
+        this.baseUrl = "http://localhost:" + port;
+        this.server = HttpServer.create(new InetSocketAddress(port), 512);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 && !args[0].startsWith("--") ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        KeycloakStubServer stub = new KeycloakStubServer(port, StubFaults.fromArgs(args));
+        stub.start();
+        System.out.println("Keycloak stub listening on " + stub.baseUrl + " (" + stub.faults + ")");
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public StubFaults getFaults() {
+        return faults;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            faults.delay();
+            if (faults.shouldFail()) {
+                send(exchange, faults.getErrorStatus(), Map.of("error", "injected_fault"));
+                return;
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            send(exchange, 500, Map.of("error", "stub_error", "error_description", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getRawPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        Matcher m;
+
+        if ((m = TOKEN.matcher(path)).matches() && method.equals("POST")) {
+            token(exchange, m.group("realm"));
+        } else if ((m = WELL_KNOWN.matcher(path)).matches()) {
+            String issuer = baseUrl + "/realms/" + m.group("realm");
+            send(exchange, 200, Map.of(
+                    "issuer", issuer,
+                    "token_endpoint", issuer + "/protocol/openid-connect/token",
+                    "jwks_uri", issuer + "/protocol/openid-connect/certs"));
+        } else if (CERTS.matcher(path).matches()) {
+            send(exchange, 200, Map.of("keys", List.of()));
+        } else if (USERS_COUNT.matcher(path).matches()) {
+            send(exchange, 200, realm.countUsers());
+        } else if (USERS.matcher(path).matches()) {
+            users(exchange, method, query);
+        } else if ((m = USER_GROUP.matcher(path)).matches() && method.equals("PUT")) {
+            send(exchange, realm.joinGroup(m.group(2), m.group(3)) ? 204 : 404, null);
+        } else if ((m = USER_GROUPS.matcher(path)).matches()) {
+            send(exchange, 200, realm.userGroups(m.group(2)));
+        } else if ((m = USER_ALL_CLIENT_ROLES.matcher(path)).matches()) {
+            send(exchange, 200, realm.userClientRolesByClient(m.group(2)));
+        } else if ((m = USER_CLIENT_ROLES.matcher(path)).matches()) {
+            userClientRoles(exchange, method, m.group(2), m.group(3));
+        } else if ((m = USER_REALM_ROLES.matcher(path)).matches()) {
+            userRealmRoles(exchange, method, m.group(2));
+        } else if ((m = USER_ROLE_MAPPINGS.matcher(path)).matches()) {
+            send(exchange, 200, realm.userRoleMappings(m.group(2)));
+        } else if ((m = USER.matcher(path)).matches()) {
+            Optional<Map<String, Object>> user = realm.findUser(m.group(2));
+            sendOrNotFound(exchange, user.orElse(null), "User not found");
+        } else if (ROLES.matcher(path).matches()) {
+            roles(exchange, method, query);
+        } else if ((m = ROLE.matcher(path)).matches()) {
+            sendOrNotFound(exchange, realm.findRealmRole(decode(m.group(2))).orElse(null), "Could not find role");
+        } else if (CLIENTS.matcher(path).matches()) {
+            send(exchange, 200, page(realm.clients(query.get("clientId")), query));
+        } else if ((m = CLIENT_ROLES.matcher(path)).matches()) {
+            sendOrNotFound(exchange, realm.clientRoles(m.group(2)).map(roles -> page(roles, query)).orElse(null),
+                    "Could not find client");
+        } else if (GROUPS.matcher(path).matches()) {
+            groups(exchange, method, query);
+        } else if (ADMIN_EVENTS.matcher(path).matches()) {
+            send(exchange, 200, List.of());
+        } else {
+            send(exchange, 404, Map.of("error", "Unable to find matching target resource method"));
+        }
+    }
+
+    // ===== 핸들러 =====
+
+    private void token(HttpExchange exchange, String realmName) throws IOException {
+        Map<String, String> form = parseQuery(new String(readBody(exchange), StandardCharsets.UTF_8));
+        boolean adminLogin = "master".equals(realmName) && "admin-cli".equals(form.get("client_id"));
+        boolean valid = adminLogin || "client_credentials".equals(form.get("grant_type"))
+                || realm.checkPassword(form.get("username"), form.get("password"));
+        if (!valid) {
+            send(exchange, 401, Map.of("error", "invalid_grant", "error_description", "Invalid user credentials"));
+            return;
+        }
+
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("access_token", fakeJwt(realmName, form.getOrDefault("username", "service-account")));
+        token.put("expires_in", 300);
+        token.put("refresh_expires_in", 1800);
+        token.put("refresh_token", UUID.randomUUID().toString());
+        token.put("token_type", "Bearer");
+        token.put("not-before-policy", 0);
+        token.put("session_state", UUID.randomUUID().toString());
+        token.put("scope", form.getOrDefault("scope", "openid profile email"));
+        send(exchange, 200, token);
+    }
+
+    private void users(HttpExchange exchange, String method, Map<String, String> query) throws IOException {
+        if (method.equals("POST")) {
+            Map<String, Object> representation = readJson(exchange, new TypeReference<>() {});
+            Optional<String> id = realm.createUser(representation);
+            if (id.isEmpty()) {
+                send(exchange, 409, Map.of("errorMessage", "User exists with same username"));
+                return;
+            }
+            exchange.getResponseHeaders().add("Location", baseUrl + exchange.getRequestURI().getRawPath() + "/" + id.get());
+            send(exchange, 201, null);
+            return;
+        }
+
+        List<Map<String, Object>> found = realm.searchUsers(
+                query.get("username"),
+                Boolean.parseBoolean(query.get("exact")),
+                query.get("search"),
+                Integer.parseInt(query.getOrDefault("first", "0")),
+                Integer.parseInt(query.getOrDefault("max", "100")));
+        send(exchange, 200, Boolean.parseBoolean(query.get("briefRepresentation")) ? StubRealm.brief(found) : found);
+    }
+
+    private void userRealmRoles(HttpExchange exchange, String method, String userId) throws IOException {
+        if (realm.findUser(userId).isEmpty()) {
+            send(exchange, 404, Map.of("error", "User not found"));
+            return;
+        }
+        switch (method) {
+            case "POST" -> {
+                realm.addUserRealmRoles(userId, readJson(exchange, new TypeReference<>() {}));
+                send(exchange, 204, null);
+            }
+            case "DELETE" -> {
+                realm.removeUserRealmRoles(userId, readJson(exchange, new TypeReference<>() {}));
+                send(exchange, 204, null);
+            }
+            default -> send(exchange, 200, realm.userRealmRoles(userId));
+        }
+    }
+
+    private void userClientRoles(HttpExchange exchange, String method, String userId, String clientUuid) throws IOException {
+        if (realm.findUser(userId).isEmpty()) {
+            send(exchange, 404, Map.of("error", "User not found"));
+            return;
+        }
+        if (method.equals("POST")) {
+            realm.addUserClientRoles(userId, clientUuid, readJson(exchange, new TypeReference<>() {}));
+            send(exchange, 204, null);
+        } else {
+            send(exchange, 200, realm.userClientRoles(userId, clientUuid));
+        }
+    }
+
+    private void roles(HttpExchange exchange, String method, Map<String, String> query) throws IOException {
+        if (method.equals("POST")) {
+            Map<String, Object> representation = readJson(exchange, new TypeReference<>() {});
+            String name = String.valueOf(representation.get("name"));
+            Object description = representation.get("description");
+            if (!realm.createRealmRole(name, description != null ? description.toString() : null)) {
+                send(exchange, 409, Map.of("errorMessage", "Role with name " + name + " already exists"));
+                return;
+            }
+            exchange.getResponseHeaders().add("Location", baseUrl + exchange.getRequestURI().getRawPath() + "/" + name);
+            send(exchange, 201, null);
+            return;
+        }
+        send(exchange, 200, page(realm.realmRoles(), query));
+    }
+
+    private void groups(HttpExchange exchange, String method, Map<String, String> query) throws IOException {
+        if (method.equals("POST")) {
+            Map<String, Object> representation = readJson(exchange, new TypeReference<>() {});
+            Optional<String> id = realm.createGroup(String.valueOf(representation.get("name")));
+            if (id.isEmpty()) {
+                send(exchange, 409, Map.of("errorMessage", "Top level group named '" + representation.get("name") + "' already exists."));
+                return;
+            }
+            exchange.getResponseHeaders().add("Location", baseUrl + exchange.getRequestURI().getRawPath() + "/" + id.get());
+            send(exchange, 201, null);
+            return;
+        }
+        send(exchange, 200, realm.groups(
+                query.get("search"),
+                Boolean.parseBoolean(query.get("exact")),
+                Integer.parseInt(query.getOrDefault("first", "0")),
+                // 실제 Keycloak처럼 max가 없으면 전체 그룹 반환
+                Integer.parseInt(query.getOrDefault("max", String.valueOf(Integer.MAX_VALUE)))));
+    }
+
+    // ===== 공통 =====
+
+    /**
+     * first/max 페이지 적용 (max가 없으면 실제 Keycloak처럼 전체 반환)
+     */
+    private static <T> List<T> page(List<T> items, Map<String, String> query) {
+        int first = Integer.parseInt(query.getOrDefault("first", "0"));
+        int max = Integer.parseInt(query.getOrDefault("max", String.valueOf(Integer.MAX_VALUE)));
+        return items.stream().skip(first).limit(max).toList();
+    }
+
+    private void sendOrNotFound(HttpExchange exchange, Object body, String notFoundMessage) throws IOException {
+        if (body == null) {
+            send(exchange, 404, Map.of("error", notFoundMessage));
+        } else {
+            send(exchange, 200, body);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private <T> T readJson(HttpExchange exchange, TypeReference<T> type) throws IOException {
+        return objectMapper.readValue(readBody(exchange), type);
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String raw) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+            } else if (!pair.isEmpty()) {
+                params.put(decode(pair), "");
+            }
+        }
+        return params;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 서명 없는 JWT 형식 토큰 (애플리케이션은 로그인 응답으로 전달만 함)
+     */
+    private String fakeJwt(String realmName, String subject) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long now = System.currentTimeMillis() / 1000;
+        String header = encoder.encodeToString("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"iss\":\"" + baseUrl + "/realms/" + realmName + "\",\"sub\":\"" + subject
+                + "\",\"preferred_username\":\"" + subject + "\",\"iat\":" + now + ",\"exp\":" + (now + 300) + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".";
+    }
+}
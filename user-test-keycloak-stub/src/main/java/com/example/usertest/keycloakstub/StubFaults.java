@@ -0,0 +1,101 @@
+package com.example.usertest.keycloakstub;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스텁 응답 지연/오류 주입 설정
+ *
+ * 모든 요청에 대해 (latencyMs ± jitterMs) 만큼 지연한 뒤, errorRate 확률로 errorStatus를 반환합니다.
+ * 부하 테스트 중에도 바꿀 수 있도록 필드는 volatile로 둡니다.
+ */
+public final class StubFaults {
+
+    private volatile long latencyMs;
+    private volatile long jitterMs;
+    private volatile double errorRate;
+    private volatile int errorStatus = 503;
+
+    public static StubFaults none() {
+        return new StubFaults();
+    }
+
+    /**
+     * --latency-ms=, --jitter-ms=, --error-rate=, --error-status= 인자를 읽습니다.
+     */
+    public static StubFaults fromArgs(String[] args) {
+        StubFaults faults = new StubFaults();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                continue;
+            }
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(2, eq)) {
+                case "latency-ms" -> faults.setLatencyMs(Long.parseLong(value));
+                case "jitter-ms" -> faults.setJitterMs(Long.parseLong(value));
+                case "error-rate" -> faults.setErrorRate(Double.parseDouble(value));
+                case "error-status" -> faults.setErrorStatus(Integer.parseInt(value));
+                default -> { }
+            }
+        }
+        return faults;
+    }
+
+    /**
+     * 설정된 지연만큼 현재 스레드를 대기시킵니다. (가상 스레드에서 실행되므로 블로킹 대기)
+     */
+    void delay() throws InterruptedException {
+        long base = latencyMs;
+        long jitter = jitterMs;
+        long millis = jitter > 0 ? base + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : base;
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+
+    /**
+     * @return 이번 요청을 오류로 응답해야 하면 true
+     */
+    boolean shouldFail() {
+        double rate = errorRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = Math.max(0, latencyMs);
+    }
+
+    public long getJitterMs() {
+        return jitterMs;
+    }
+
+    public void setJitterMs(long jitterMs) {
+        this.jitterMs = Math.max(0, jitterMs);
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = Math.min(1.0, Math.max(0.0, errorRate));
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latencyMs + "ms+/-" + jitterMs + "ms, errorRate=" + errorRate + " (" + errorStatus + ")";
+    }
+}
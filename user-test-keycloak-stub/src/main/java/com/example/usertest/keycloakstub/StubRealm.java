@@ -0,0 +1,306 @@
+package com.example.usertest.keycloakstub;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 Realm 상태 (사용자, Realm/클라이언트 역할, 그룹)
+ *
+ * 실제 Keycloak의 표현(representation) 필드 이름을 그대로 사용합니다.
+ */
+final class StubRealm {
+
+    static final String ACCOUNT_CLIENT = "account";
+
+    private final Map<String, Map<String, Object>> users = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdsByUsername = new ConcurrentHashMap<>();
+    private final Map<String, String> passwords = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> realmRoles = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> clients = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Map<String, Object>>> clientRoles = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> groups = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> userRealmRoles = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Set<String>>> userClientRoles = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> userGroups = new ConcurrentHashMap<>();
+
+    StubRealm() {
+        for (String role : List.of("offline_access", "uma_authorization", "user")) {
+            createRealmRole(role, null);
+        }
+        String accountId = UUID.randomUUID().toString();
+        Map<String, Object> account = new LinkedHashMap<>();
+        account.put("id", accountId);
+        account.put("clientId", ACCOUNT_CLIENT);
+        clients.put(accountId, account);
+        Map<String, Map<String, Object>> accountRoles = new ConcurrentHashMap<>();
+        for (String role : List.of("manage-account", "delete-account", "view-profile")) {
+            accountRoles.put(role, role(role, null, true, accountId));
+        }
+        clientRoles.put(accountId, accountRoles);
+    }
+
+    // ===== 사용자 =====
+
+    /**
+     * @return 생성된 사용자 ID (동일 사용자명이 있으면 empty)
+     */
+    Optional<String> createUser(Map<String, Object> representation) {
+        String username = String.valueOf(representation.get("username")).toLowerCase(Locale.ROOT);
+        String id = UUID.randomUUID().toString();
+        if (userIdsByUsername.putIfAbsent(username, id) != null) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", id);
+        user.put("createdTimestamp", System.currentTimeMillis());
+        user.put("username", username);
+        user.put("enabled", !Boolean.FALSE.equals(representation.get("enabled")));
+        user.put("emailVerified", Boolean.TRUE.equals(representation.get("emailVerified")));
+        copyIfPresent(representation, user, "firstName");
+        copyIfPresent(representation, user, "lastName");
+        copyIfPresent(representation, user, "email");
+        copyIfPresent(representation, user, "attributes");
+        users.put(id, user);
+
+        if (representation.get("credentials") instanceof List<?> credentials && !credentials.isEmpty()
+                && credentials.get(0) instanceof Map<?, ?> credential && credential.get("value") != null) {
+            passwords.put(username, credential.get("value").toString());
+        }
+        return Optional.of(id);
+    }
+
+    Optional<Map<String, Object>> findUser(String id) {
+        return Optional.ofNullable(users.get(id));
+    }
+
+    List<Map<String, Object>> searchUsers(String username, boolean exact, String search, int first, int max) {
+        return users.values().stream()
+                .filter(user -> username == null || matches(user.get("username"), username, exact))
+                .filter(user -> search == null
+                        || matches(user.get("username"), search, false)
+                        || matches(user.get("email"), search, false))
+                .sorted((a, b) -> a.get("username").toString().compareTo(b.get("username").toString()))
+                .skip(first)
+                .limit(max)
+                .toList();
+    }
+
+    int countUsers() {
+        return users.size();
+    }
+
+    boolean checkPassword(String username, String password) {
+        if (username == null || password == null) {
+            return false;
+        }
+        return password.equals(passwords.get(username.toLowerCase(Locale.ROOT)));
+    }
+
+    // ===== Realm 역할 =====
+
+    boolean createRealmRole(String name, String description) {
+        return realmRoles.putIfAbsent(name, role(name, description, false, null)) == null;
+    }
+
+    Optional<Map<String, Object>> findRealmRole(String name) {
+        return Optional.ofNullable(realmRoles.get(name));
+    }
+
+    /**
+     * 이름순 (first/max 페이지가 요청 사이에 흔들리지 않도록 정렬)
+     */
+    List<Map<String, Object>> realmRoles() {
+        return sortedBy(realmRoles.values(), "name");
+    }
+
+    List<Map<String, Object>> userRealmRoles(String userId) {
+        return userRealmRoles.getOrDefault(userId, Set.of()).stream()
+                .map(realmRoles::get)
+                .filter(role -> role != null)
+                .toList();
+    }
+
+    void addUserRealmRoles(String userId, List<Map<String, Object>> roles) {
+        Set<String> assigned = userRealmRoles.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet());
+        roles.stream()
+                .map(role -> String.valueOf(role.get("name")))
+                .filter(realmRoles::containsKey)
+                .forEach(assigned::add);
+    }
+
+    void removeUserRealmRoles(String userId, List<Map<String, Object>> roles) {
+        Set<String> assigned = userRealmRoles.get(userId);
+        if (assigned != null) {
+            roles.forEach(role -> assigned.remove(String.valueOf(role.get("name"))));
+        }
+    }
+
+    // ===== 클라이언트 역할 =====
+
+    List<Map<String, Object>> clients(String clientId) {
+        return sortedBy(clients.values(), "clientId").stream()
+                .filter(client -> clientId == null || clientId.equals(client.get("clientId")))
+                .toList();
+    }
+
+    Optional<List<Map<String, Object>>> clientRoles(String clientUuid) {
+        return Optional.ofNullable(clientRoles.get(clientUuid)).map(roles -> sortedBy(roles.values(), "name"));
+    }
+
+    List<Map<String, Object>> userClientRoles(String userId, String clientUuid) {
+        Map<String, Map<String, Object>> available = clientRoles.getOrDefault(clientUuid, Map.of());
+        return userClientRoles.getOrDefault(userId, Map.of()).getOrDefault(clientUuid, Set.of()).stream()
+                .map(available::get)
+                .filter(role -> role != null)
+                .toList();
+    }
+
+    void addUserClientRoles(String userId, String clientUuid, List<Map<String, Object>> roles) {
+        Map<String, Map<String, Object>> available = clientRoles.getOrDefault(clientUuid, Map.of());
+        Set<String> assigned = userClientRoles.computeIfAbsent(userId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(clientUuid, key -> ConcurrentHashMap.newKeySet());
+        roles.stream()
+                .map(role -> String.valueOf(role.get("name")))
+                .filter(available::containsKey)
+                .forEach(assigned::add);
+    }
+
+    /**
+     * 클라이언트별 사용자 클라이언트 역할 (clientId → 역할 목록)
+     * UserRoleResponse 조회 시 애플리케이션이 기대하는 형식입니다.
+     */
+    Map<String, List<Map<String, Object>>> userClientRolesByClient(String userId) {
+        Map<String, List<Map<String, Object>>> mappings = new LinkedHashMap<>();
+        for (Map<String, Object> client : clients.values()) {
+            List<Map<String, Object>> roles = userClientRoles(userId, client.get("id").toString());
+            if (!roles.isEmpty()) {
+                mappings.put(client.get("clientId").toString(), roles);
+            }
+        }
+        return mappings;
+    }
+
+    /**
+     * GET /users/{id}/role-mappings 형식의 전체 매핑
+     */
+    Map<String, Object> userRoleMappings(String userId) {
+        Map<String, Object> mappings = new LinkedHashMap<>();
+        mappings.put("realmMappings", userRealmRoles(userId));
+        Map<String, Object> clientMappings = new LinkedHashMap<>();
+        for (Map<String, Object> client : clients.values()) {
+            String clientUuid = client.get("id").toString();
+            List<Map<String, Object>> roles = userClientRoles(userId, clientUuid);
+            if (!roles.isEmpty()) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("id", clientUuid);
+                entry.put("client", client.get("clientId"));
+                entry.put("mappings", roles);
+                clientMappings.put(client.get("clientId").toString(), entry);
+            }
+        }
+        mappings.put("clientMappings", clientMappings);
+        return mappings;
+    }
+
+    // ===== 그룹 =====
+
+    /**
+     * @return 생성된 그룹 ID (같은 이름이 있으면 empty)
+     */
+    synchronized Optional<String> createGroup(String name) {
+        boolean exists = groups.values().stream().anyMatch(group -> name.equals(group.get("name")));
+        if (exists) {
+            return Optional.empty();
+        }
+        String id = UUID.randomUUID().toString();
+        Map<String, Object> group = new LinkedHashMap<>();
+        group.put("id", id);
+        group.put("name", name);
+        group.put("path", "/" + name);
+        groups.put(id, group);
+        return Optional.of(id);
+    }
+
+    List<Map<String, Object>> groups(String search, boolean exact, int first, int max) {
+        return groups.values().stream()
+                .filter(group -> search == null || matches(group.get("name"), search, exact))
+                .sorted((a, b) -> a.get("name").toString().compareTo(b.get("name").toString()))
+                .skip(first)
+                .limit(max)
+                .toList();
+    }
+
+    boolean joinGroup(String userId, String groupId) {
+        if (!users.containsKey(userId) || !groups.containsKey(groupId)) {
+            return false;
+        }
+        userGroups.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(groupId);
+        return true;
+    }
+
+    List<Map<String, Object>> userGroups(String userId) {
+        return userGroups.getOrDefault(userId, Set.of()).stream()
+                .map(groups::get)
+                .filter(group -> group != null)
+                .toList();
+    }
+
+    // ===== 내부 =====
+
+    private static Map<String, Object> role(String name, String description, boolean clientRole, String containerId) {
+        Map<String, Object> role = new LinkedHashMap<>();
+        role.put("id", UUID.randomUUID().toString());
+        role.put("name", name);
+        if (description != null) {
+            role.put("description", description);
+        }
+        role.put("composite", false);
+        role.put("clientRole", clientRole);
+        role.put("containerId", containerId != null ? containerId : "realm");
+        return role;
+    }
+
+    private static List<Map<String, Object>> sortedBy(Collection<Map<String, Object>> items, String key) {
+        return items.stream()
+                .sorted((a, b) -> a.get(key).toString().compareTo(b.get(key).toString()))
+                .toList();
+    }
+
+    private static boolean matches(Object value, String query, boolean exact) {
+        if (value == null) {
+            return false;
+        }
+        String text = value.toString().toLowerCase(Locale.ROOT);
+        String normalized = query.toLowerCase(Locale.ROOT);
+        return exact ? text.equals(normalized) : text.contains(normalized);
+    }
+
+    private static void copyIfPresent(Map<String, Object> source, Map<String, Object> target, String key) {
+        if (source.get(key) != null) {
+            target.put(key, source.get(key));
+        }
+    }
+
+    static List<Map<String, Object>> brief(List<Map<String, Object>> users) {
+        List<Map<String, Object>> result = new ArrayList<>(users.size());
+        for (Map<String, Object> user : users) {
+            Map<String, Object> brief = new LinkedHashMap<>();
+            for (String key : List.of("id", "createdTimestamp", "username", "enabled", "emailVerified", "firstName", "lastName", "email")) {
+                if (user.containsKey(key)) {
+                    brief.put(key, user.get(key));
+                }
+            }
+            result.add(brief);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.usertest.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 부하 테스트 시나리오 (애플리케이션 엔드포인트 단위)
+ */
+enum LoadScenario {
+
+    /** POST /api/v1/users/create (outbox 모드에서는 202) */
+    CREATE(Set.of(201, 202)),
+
+    /** POST /api/v1/auth/real/login (DB 확인 후 Keycloak 토큰 발급) */
+    LOGIN(Set.of(200)),
+
+    /** GET /api/v1/roles/user/{username} */
+    ROLES(Set.of(200));
+
+    private final Set<Integer> expectedStatuses;
+
+    LoadScenario(Set<Integer> expectedStatuses) {
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    static LoadScenario from(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    boolean isSuccess(int status) {
+        return expectedStatuses.contains(status);
+    }
+
+    /**
+     * @param target 대상 애플리케이션 기본 URL
+     * @param username CREATE는 새 사용자명, 나머지는 이미 생성된 사용자명
+     */
+    HttpRequest request(String target, String username, String password, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(timeout);
+        return switch (this) {
+            case CREATE -> builder.uri(URI.create(target + "/api/v1/users/create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username
+                            + "\",\"email\":\"" + username + "@load.test\",\"password\":\"" + password + "\"}"))
+                    .build();
+            case LOGIN -> builder.uri(URI.create(target + "/api/v1/auth/real/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username
+                            + "\",\"password\":\"" + password + "\"}"))
+                    .build();
+            case ROLES -> builder.uri(URI.create(target + "/api/v1/roles/user/"
+                            + URLEncoder.encode(username, StandardCharsets.UTF_8)))
+                    .GET()
+                    .build();
+        };
+    }
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.usertest.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value 형식)
+ *
+ * <pre>
+ * --target=http://localhost:8080   부하 대상 애플리케이션
+ * --stub-port=18201                프로세스 내 Keycloak 스텁 포트 (0이면 외부 Keycloak 사용)
+ * --rate=50                        초당 요청 수 (고정 도착률)
+ * --duration=60s --warmup=10s      측정 시간 / 측정 전 워밍업 시간
+ * --mix=create:1,login:3,roles:6   시나리오 비율
+ * --seed-users=20                  측정 전에 생성할 사용자 수 (login/roles 대상)
+ * --timeout=10s                    요청 타임아웃
+ * --hdr-out=build/load             시나리오별 .hgrm 지연 분포 파일 출력 디렉토리
+ * --latency-ms, --jitter-ms, --error-rate, --error-status   스텁 지연/오류 주입
+ * </pre>
+ */
+record LoadTestOptions(
+        String target,
+        int stubPort,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        Map<LoadScenario, Integer> mix,
+        int seedUsers,
+        String password,
+        Duration timeout,
+        Path hdrOut) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+
+        String target = values.getOrDefault("target", "http://localhost:8080");
+        return new LoadTestOptions(
+                target.endsWith("/") ? target.substring(0, target.length() - 1) : target,
+                Integer.parseInt(values.getOrDefault("stub-port", "18201")),
+                Double.parseDouble(values.getOrDefault("rate", "50")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                mix(values.getOrDefault("mix", "create:1,login:3,roles:6")),
+                Integer.parseInt(values.getOrDefault("seed-users", "20")),
+                values.getOrDefault("password", "load-test-pass"),
+                duration(values.getOrDefault("timeout", "10s")),
+                values.containsKey("hdr-out") ? Path.of(values.get("hdr-out")) : null);
+    }
+
+    /**
+     * 10s, 500ms, 2m 형식의 시간 문자열을 Duration으로 변환
+     */
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+
+    private static Map<LoadScenario, Integer> mix(String value) {
+        Map<LoadScenario, Integer> weights = new EnumMap<>(LoadScenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            if (weight > 0) {
+                weights.put(LoadScenario.from(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Empty scenario mix: " + value);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.usertest.load;
+
+import com.example.usertest.keycloakstub.KeycloakStubServer;
+import com.example.usertest.keycloakstub.StubFaults;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 엔드투엔드 부하 테스트 하네스
+ *
+ * 1. 프로세스 내 Keycloak 스텁을 띄웁니다. (지연/오류 주입 가능)
+ * 2. 대상 애플리케이션은 별도로 실행하며 keycloak.server-url을 스텁으로 지정해야 합니다.
+ * 3. login/roles 대상 사용자를 미리 생성한 뒤, 워밍업 → 측정 구간 동안 고정 도착률(open model)로 요청을 보냅니다.
+ * 4. 시나리오별 처리량과 지연 백분위수를 출력합니다.
+ *
+ * 실행: ./gradlew :user-test-load:run --args="--rate=100 --duration=60s --latency-ms=20"
+ */
+public final class LoadTestRunner {
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final List<String> usernames = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong userSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis() % 1_000_000, 36);
+    private final LoadScenario[] wheel;
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<LoadScenario> slots = new ArrayList<>();
+        options.mix().forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(scenario);
+            }
+        });
+        this.wheel = slots.toArray(LoadScenario[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        KeycloakStubServer stub = null;
+        if (options.stubPort() > 0) {
+            stub = new KeycloakStubServer(options.stubPort(), StubFaults.fromArgs(args));
+            stub.start();
+            System.out.printf("Keycloak stub: %s (%s)%n", stub.getBaseUrl(), stub.getFaults());
+            System.out.printf("Start the application with --keycloak.server-url=%s%n", stub.getBaseUrl());
+        }
+
+        try {
+            new LoadTestRunner(options).run();
+        } finally {
+            if (stub != null) {
+                stub.stop();
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Target: %s, rate=%.1f/s, warmup=%s, duration=%s, mix=%s%n",
+                options.target(), options.rate(), options.warmup(), options.duration(), options.mix());
+
+        seedUsers();
+
+        Map<LoadScenario, ScenarioStats> stats = new EnumMap<>(LoadScenario.class);
+        options.mix().keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats()));
+        ScenarioStats discarded = new ScenarioStats();
+
+        long intervalNanos = (long) (1_000_000_000L / options.rate());
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                parkUntil(intended);
+
+                LoadScenario scenario = pick();
+                ScenarioStats target = intended >= measureStart ? stats.get(scenario) : discarded;
+                executor.submit(() -> execute(scenario, intended, target));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(options.timeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                System.out.println("Some requests did not complete before the deadline");
+                executor.shutdownNow();
+            }
+        }
+
+        report(stats, (end - measureStart) / 1_000_000_000.0);
+    }
+
+    /**
+     * login/roles 시나리오가 사용할 사용자를 측정 전에 생성 (집계하지 않음)
+     */
+    private void seedUsers() throws InterruptedException {
+        if (options.seedUsers() <= 0) {
+            return;
+        }
+        ScenarioStats seed = new ScenarioStats();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(8, options.seedUsers()))) {
+            for (int i = 0; i < options.seedUsers(); i++) {
+                executor.submit(() -> execute(LoadScenario.CREATE, System.nanoTime(), seed));
+            }
+        }
+        System.out.printf("Seeded %d users (%d failed)%n", usernames.size(), seed.errors());
+    }
+
+    private void execute(LoadScenario scenario, long intendedNanos, ScenarioStats stats) {
+        String username = scenario == LoadScenario.CREATE ? nextUsername() : existingUsername();
+        if (username == null) {
+            stats.record(System.nanoTime() - intendedNanos, ScenarioStats.NO_USER, false);
+            return;
+        }
+
+        int status;
+        try {
+            HttpResponse<Void> response = client.send(
+                    scenario.request(options.target(), username, options.password(), options.timeout()),
+                    HttpResponse.BodyHandlers.discarding());
+            status = response.statusCode();
+        } catch (IOException e) {
+            status = ScenarioStats.IO_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        boolean success = scenario.isSuccess(status);
+        stats.record(System.nanoTime() - intendedNanos, status, success);
+        if (success && scenario == LoadScenario.CREATE) {
+            usernames.add(username);
+        }
+    }
+
+    private String nextUsername() {
+        return "load_" + runId + "_" + userSequence.incrementAndGet();
+    }
+
+    private String existingUsername() {
+        synchronized (usernames) {
+            return usernames.isEmpty() ? null : usernames.get(ThreadLocalRandom.current().nextInt(usernames.size()));
+        }
+    }
+
+    private LoadScenario pick() {
+        return wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void report(Map<LoadScenario, ScenarioStats> stats, double seconds) throws IOException {
+        System.out.println();
+        System.out.printf("%-8s %9s %8s %10s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "statuses");
+
+        ScenarioStats total = new ScenarioStats();
+        for (Map.Entry<LoadScenario, ScenarioStats> entry : stats.entrySet()) {
+            ScenarioStats s = entry.getValue();
+            printRow(entry.getKey().label(), s, seconds);
+            total.histogram().add(s.histogram());
+            writeHistogram(entry.getKey().label(), s.histogram());
+        }
+        long totalErrors = stats.values().stream().mapToLong(ScenarioStats::errors).sum();
+        System.out.printf("%-8s %9d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                "total", total.count(), totalErrors, total.count() / seconds,
+                total.percentileMillis(50), total.percentileMillis(90), total.percentileMillis(99),
+                total.percentileMillis(99.9), total.maxMillis());
+    }
+
+    private static void printRow(String label, ScenarioStats s, double seconds) {
+        System.out.printf("%-8s %9d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                label, s.count(), s.errors(), s.count() / seconds,
+                s.percentileMillis(50), s.percentileMillis(90), s.percentileMillis(99),
+                s.percentileMillis(99.9), s.maxMillis(), s.statusCounts());
+    }
+
+    /**
+     * HdrHistogram 백분위 분포 파일(.hgrm, ms 단위) 저장
+     */
+    private void writeHistogram(String label, Histogram histogram) throws IOException {
+        if (options.hdrOut() == null) {
+            return;
+        }
+        Files.createDirectories(options.hdrOut());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(options.hdrOut().resolve(label + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+}
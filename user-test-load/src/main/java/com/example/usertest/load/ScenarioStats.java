@@ -0,0 +1,73 @@
+package com.example.usertest.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 지연 분포와 응답 상태 집계
+ *
+ * 지연은 요청이 "보내졌어야 할" 시각부터 측정하므로(coordinated omission 보정)
+ * 대상이 느려져 요청이 밀리는 시간도 분포에 포함됩니다.
+ */
+final class ScenarioStats {
+
+    /** 요청 예외(타임아웃, 연결 실패 등)를 나타내는 상태 코드 */
+    static final int IO_ERROR = -1;
+
+    /** 대상 사용자가 아직 없어 요청을 보내지 못했음을 나타내는 상태 코드 */
+    static final int NO_USER = 0;
+
+    private final Histogram latencyNanos = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(long latency, int status, boolean success) {
+        latencyNanos.recordValue(Math.max(0, latency));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return latencyNanos.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Histogram histogram() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return 상태 코드별 응답 수 (IO_ERROR는 "io", NO_USER는 "no-user"로 표시)
+     */
+    Map<String, Long> statusCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(label(status), count.sum()));
+        return counts;
+    }
+
+    private static String label(int status) {
+        return switch (status) {
+            case IO_ERROR -> "io";
+            case NO_USER -> "no-user";
+            default -> String.valueOf(status);
+        };
+    }
+
+    double percentileMillis(double percentile) {
+        return latencyNanos.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        return latencyNanos.getMaxValue() / 1_000_000.0;
+    }
+}
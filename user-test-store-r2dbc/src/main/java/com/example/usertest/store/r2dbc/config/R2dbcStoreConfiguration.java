@@ -0,0 +1,56 @@
+package com.example.usertest.store.r2dbc.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC 저장소 설정
+ * 
+ * store.type=r2dbc 인 경우에만 활성화됩니다.
+ * JDBC(MyBatis) 트랜잭션 매니저와 충돌하지 않도록 R2DBC 트랜잭션 매니저는
+ * 빈으로 등록하지 않고 TransactionalOperator 내부에서만 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "r2dbc")
+@RequiredArgsConstructor
+public class R2dbcStoreConfiguration {
+    
+    private final R2dbcStoreProperties properties;
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool storeConnectionFactory() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                        .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                        .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                        .build());
+        
+        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(properties.getPool().getInitialSize())
+                .maxSize(properties.getPool().getMaxSize())
+                .maxIdleTime(properties.getPool().getMaxIdleTime())
+                .build();
+        
+        return new ConnectionPool(poolConfiguration);
+    }
+    
+    @Bean
+    public DatabaseClient storeDatabaseClient(ConnectionPool storeConnectionFactory) {
+        return DatabaseClient.create(storeConnectionFactory);
+    }
+    
+    @Bean
+    public TransactionalOperator storeTransactionalOperator(ConnectionPool storeConnectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(storeConnectionFactory));
+    }
+}
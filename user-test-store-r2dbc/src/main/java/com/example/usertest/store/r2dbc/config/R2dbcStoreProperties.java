@@ -0,0 +1,29 @@
+package com.example.usertest.store.r2dbc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * R2DBC 저장소 연결 설정
+ * store.type=r2dbc 일 때 사용되는 MariaDB R2DBC 연결 정보
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "store.r2dbc")
+public class R2dbcStoreProperties {
+    
+    private String url;
+    private String username;
+    private String password;
+    private Pool pool = new Pool();
+    
+    @Data
+    public static class Pool {
+        private int initialSize = 5;
+        private int maxSize = 10;
+        private Duration maxIdleTime = Duration.ofMinutes(30);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.usertest.store.r2dbc.repository;
+
+import com.example.usertest.domain.User;
+import com.example.usertest.domain.exception.UserNotFoundException;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC 기반 사용자 저장소
+ * 
+ * {@code UserRepository}(MyBatis)와 동일한 연산을 논블로킹으로 제공합니다.
+ * SQL은 resources/mapper/UserMapper.xml 과 동일한 컬럼/정렬 규칙을 따릅니다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "r2dbc")
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+    
+    private static final String USER_COLUMNS =
+            "id, username, email, password, role, enabled, keycloak_user_id, created_at, updated_at";
+    
+    private final DatabaseClient storeDatabaseClient;
+    private final TransactionalOperator storeTransactionalOperator;
+    
+    public Mono<User> findById(Long id) {
+        return storeDatabaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::mapRow)
+                .one();
+    }
+    
+    public Mono<User> getById(Long id) {
+        return findById(id).switchIfEmpty(Mono.error(() -> UserNotFoundException.byId(id)));
+    }
+    
+    public Mono<User> findByUsername(String username) {
+        return storeDatabaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE username = :username")
+                .bind("username", username)
+                .map(ReactiveUserRepository::mapRow)
+                .one();
+    }
+    
+    public Mono<User> getByUsername(String username) {
+        return findByUsername(username).switchIfEmpty(Mono.error(() -> UserNotFoundException.byUsername(username)));
+    }
+    
+    public Mono<User> findByEmail(String email) {
+        return storeDatabaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(ReactiveUserRepository::mapRow)
+                .one();
+    }
+    
+    public Flux<User> findAll() {
+        return storeDatabaseClient.sql("SELECT " + USER_COLUMNS + " FROM users ORDER BY created_at DESC")
+                .map(ReactiveUserRepository::mapRow)
+                .all();
+    }
+    
+    public Mono<User> save(User user) {
+        return user.getId() == null ? insert(user) : update(user);
+    }
+    
+    public Mono<Void> deleteById(Long id) {
+        return storeDatabaseClient.sql("DELETE FROM users WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+    
+    public Mono<Boolean> existsByUsername(String username) {
+        return storeDatabaseClient.sql("SELECT COUNT(*) FROM users WHERE username = :username")
+                .bind("username", username)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+    
+    public Mono<Boolean> existsByEmail(String email) {
+        return storeDatabaseClient.sql("SELECT COUNT(*) FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+    
+    /**
+     * 주어진 작업을 하나의 R2DBC 트랜잭션으로 실행
+     * 
+     * @param work 트랜잭션 안에서 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> Mono<T> transactional(Mono<T> work) {
+        return storeTransactionalOperator.transactional(work);
+    }
+    
+    private Mono<User> insert(User user) {
+        DatabaseClient.GenericExecuteSpec spec = storeDatabaseClient.sql(
+                "INSERT INTO users (username, email, password, role, enabled, keycloak_user_id, created_at, updated_at) " +
+                "VALUES (:username, :email, :password, :role, :enabled, :keycloakUserId, NOW(), NOW())");
+        
+        return bindUser(spec, user)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    user.setId(id);
+                    return user;
+                });
+    }
+    
+    private Mono<User> update(User user) {
+        DatabaseClient.GenericExecuteSpec spec = storeDatabaseClient.sql(
+                "UPDATE users SET username = :username, email = :email, password = :password, role = :role, " +
+                "enabled = :enabled, keycloak_user_id = :keycloakUserId, updated_at = NOW() WHERE id = :id");
+        
+        return bindUser(spec, user)
+                .bind("id", user.getId())
+                .then()
+                .thenReturn(user);
+    }
+    
+    private DatabaseClient.GenericExecuteSpec bindUser(DatabaseClient.GenericExecuteSpec spec, User user) {
+        spec = spec.bind("username", user.getUsername())
+                .bind("email", user.getEmail())
+                .bind("password", user.getPassword())
+                .bind("enabled", user.isEnabled());
+        spec = user.getRole() != null ? spec.bind("role", user.getRole()) : spec.bindNull("role", String.class);
+        return user.getKeycloakUserId() != null
+                ? spec.bind("keycloakUserId", user.getKeycloakUserId())
+                : spec.bindNull("keycloakUserId", String.class);
+    }
+    
+    private static User mapRow(Readable row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .username(row.get("username", String.class))
+                .email(row.get("email", String.class))
+                .password(row.get("password", String.class))
+                .role(row.get("role", String.class))
+                .enabled(Boolean.TRUE.equals(row.get("enabled", Boolean.class)))
+                .keycloakUserId(row.get("keycloak_user_id", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.usertest.store.mapper;
+
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 비동기 관리 작업 MyBatis 매퍼 인터페이스
+ * 
+ * 매퍼 XML 파일: resources/mapper/AdminJobMapper.xml
+ */
+@Mapper
+public interface AdminJobMapper {
+    
+    /**
+     * 작업 등록 (PENDING)
+     * @param job 등록할 작업
+     */
+    void insert(AdminJob job);
+    
+    /**
+     * 작업 항목 일괄 등록 (PENDING)
+     * @param items 등록할 항목 목록
+     */
+    void insertItems(@Param("items") List<AdminJobItem> items);
+    
+    /**
+     * ID로 작업 조회
+     * @param id 작업 ID
+     * @return 작업 (Optional)
+     */
+    Optional<AdminJob> findById(@Param("id") String id);
+    
+    /**
+     * 실행할 작업을 배치 단위로 선점
+     * (PENDING 작업 + 선점 기한이 만료된 RUNNING 작업)
+     * @param claimToken 선점 식별자
+     * @param limit 최대 선점 건수
+     * @param leaseSeconds 선점 유지 시간(초)
+     * @return 선점된 건수
+     */
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("limit") int limit,
+                   @Param("leaseSeconds") long leaseSeconds);
+    
+    /**
+     * 선점 식별자로 선점된 작업 조회
+     * @param claimToken 선점 식별자
+     * @return 작업 목록 (생성 순)
+     */
+    List<AdminJob> findByClaimToken(@Param("claimToken") String claimToken);
+    
+    /**
+     * 선점 기한 연장
+     * @param id 작업 ID
+     * @param claimToken 선점 식별자
+     * @param leaseSeconds 선점 유지 시간(초)
+     * @return 연장 시 1, 선점을 잃었으면 0
+     */
+    int renewLease(@Param("id") String id,
+                   @Param("claimToken") String claimToken,
+                   @Param("leaseSeconds") long leaseSeconds);
+    
+    /**
+     * 처리되지 않은 항목 조회
+     * @param jobId 작업 ID
+     * @param limit 최대 건수
+     * @return 항목 목록 (순번 오름차순)
+     */
+    List<AdminJobItem> findPendingItems(@Param("jobId") String jobId, @Param("limit") int limit);
+    
+    /**
+     * 항목 처리 결과 일괄 반영 (항목별 요청 본문 제거)
+     * @param items 결과가 채워진 항목 목록
+     * @return 반영된 건수
+     */
+    int updateItems(@Param("items") List<AdminJobItem> items);
+    
+    /**
+     * 진행 건수 누적 + 선점 기한 연장
+     * @param id 작업 ID
+     * @param claimToken 선점 식별자
+     * @param processed 처리한 항목 수
+     * @param failed 그중 실패한 항목 수
+     * @param leaseSeconds 선점 유지 시간(초)
+     * @return 반영 시 1, 선점을 잃었으면 0
+     */
+    int addProgress(@Param("id") String id,
+                    @Param("claimToken") String claimToken,
+                    @Param("processed") int processed,
+                    @Param("failed") int failed,
+                    @Param("leaseSeconds") long leaseSeconds);
+    
+    /**
+     * 작업 완료 처리
+     * @param id 작업 ID
+     * @param claimToken 선점 식별자
+     */
+    void markCompleted(@Param("id") String id, @Param("claimToken") String claimToken);
+    
+    /**
+     * 작업 실패 처리 (남은 PENDING 항목을 처리/실패 건수에 포함)
+     * @param id 작업 ID
+     * @param claimToken 선점 식별자
+     * @param lastError 오류 메시지
+     * @return 갱신 건수 (0이면 선점을 잃음)
+     */
+    int markFailed(@Param("id") String id,
+                   @Param("claimToken") String claimToken,
+                   @Param("lastError") String lastError);
+    
+    /**
+     * 실패한 작업의 남은 PENDING 항목 실패 처리 (항목별 요청 본문 제거)
+     * @param jobId 작업 ID
+     * @param error 항목 오류 메시지
+     * @return 갱신 건수
+     */
+    int failPendingItems(@Param("jobId") String jobId, @Param("error") String error);
+    
+    /**
+     * 선점 해제 (delaySeconds 뒤 다른 워커가 다시 선점, 처리된 항목은 유지)
+     * @param id 작업 ID
+     * @param claimToken 선점 식별자
+     * @param lastError 오류 메시지 (종료로 인한 해제면 null)
+     * @param delaySeconds 다시 선점할 수 있을 때까지의 시간(초)
+     */
+    void release(@Param("id") String id,
+                 @Param("claimToken") String claimToken,
+                 @Param("lastError") String lastError,
+                 @Param("delaySeconds") long delaySeconds);
+    
+    /**
+     * 항목 결과 키셋 조회 (요청 본문 제외)
+     * @param jobId 작업 ID
+     * @param afterSeq 이 순번 이후부터
+     * @param limit 최대 건수
+     * @return 항목 목록 (순번 오름차순)
+     */
+    List<AdminJobItem> findItems(@Param("jobId") String jobId,
+                                 @Param("afterSeq") int afterSeq,
+                                 @Param("limit") int limit);
+}
@@ -0,0 +1,45 @@
+package com.example.usertest.store.mapper;
+
+import com.example.usertest.domain.ReconcileCheckpoint;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Optional;
+
+/**
+ * 대사 체크포인트 MyBatis 매퍼 인터페이스
+ * 
+ * 매퍼 XML 파일: resources/mapper/ReconcileCheckpointMapper.xml
+ */
+@Mapper
+public interface ReconcileCheckpointMapper {
+    
+    /**
+     * 이름으로 체크포인트 조회
+     * @param name 체크포인트 이름
+     * @return 체크포인트 (Optional)
+     */
+    Optional<ReconcileCheckpoint> findByName(@Param("name") String name);
+    
+    /**
+     * 체크포인트 등록 또는 갱신
+     * @param checkpoint 저장할 체크포인트
+     */
+    void upsert(ReconcileCheckpoint checkpoint);
+    
+    /**
+     * 실행 잠금 획득 (비어 있거나 만료된 경우, 또는 이미 보유한 경우)
+     * @param name 체크포인트 이름
+     * @param owner 인스턴스 식별자
+     * @param leaseSeconds 잠금 유지 시간(초)
+     * @return 획득 시 1, 실패 시 0
+     */
+    int tryLock(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+    
+    /**
+     * 실행 잠금 해제
+     * @param name 체크포인트 이름
+     * @param owner 인스턴스 식별자
+     */
+    void unlock(@Param("name") String name, @Param("owner") String owner);
+}
@@ -4,6 +4,7 @@ import com.example.usertest.domain.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +60,62 @@ public interface UserMapper {
      */
     void update(User user);
     
+    /**
+     * 사용자명으로 Keycloak 사용자 ID 갱신
+     * @param username 사용자명
+     * @param keycloakUserId Keycloak 사용자 ID
+     * @return 갱신된 행 수
+     */
+    int updateKeycloakUserId(@Param("username") String username, @Param("keycloakUserId") String keycloakUserId);
+    
+    /**
+     * 사용자명 목록으로 사용자 일괄 조회 (동기화 대사용)
+     * @param usernames 사용자명 목록
+     * @return 사용자 목록
+     */
+    List<User> findByUsernames(@Param("usernames") List<String> usernames);
+    
+    /**
+     * Keycloak 사용자 ID 목록으로 사용자 일괄 조회
+     * @param keycloakUserIds Keycloak 사용자 ID 목록
+     * @return 사용자 목록
+     */
+    List<User> findByKeycloakUserIds(@Param("keycloakUserIds") List<String> keycloakUserIds);
+    
+    /**
+     * Keycloak과 연결된 사용자를 ID 순으로 조회 (키셋 페이지네이션)
+     * @param afterId 이전 청크의 마지막 ID
+     * @param limit 최대 조회 건수
+     * @return id, username, keycloak_user_id만 채워진 사용자 목록
+     */
+    List<User> findLinkedAfterId(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    /**
+     * 변경되었지만 Keycloak과 연결되지 않은 사용자를 (updated_at, id) 순으로 조회 (키셋 페이지네이션)
+     * 첫 페이지는 afterUpdatedAt에 기준 시각, afterId에 0을 전달
+     * @param afterUpdatedAt 이전 청크 마지막 사용자의 updated_at
+     * @param afterId 이전 청크 마지막 사용자의 ID
+     * @param limit 최대 조회 건수
+     * @return 사용자 목록
+     */
+    List<User> findUnlinkedUpdatedSince(@Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                        @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+    
+    /**
+     * Keycloak 사용자 ID와 활성화 여부 일괄 갱신 (단일 UPDATE 문)
+     * @param users id, keycloakUserId, enabled가 채워진 사용자 목록
+     * @return 갱신된 행 수
+     */
+    int updateKeycloakLinks(@Param("users") List<User> users);
+    
+    /**
+     * Keycloak 연결 해제 (Keycloak에서 삭제된 사용자)
+     * @param ids 사용자 ID 목록
+     * @return 갱신된 행 수
+     */
+    int unlinkKeycloakUsers(@Param("ids") List<Long> ids);
+    
     /**
      * ID로 사용자 삭제
      * @param id 삭제할 사용자 ID
@@ -0,0 +1,74 @@
+package com.example.usertest.store.mapper;
+
+import com.example.usertest.domain.UserSyncOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * Keycloak 동기화 아웃박스 MyBatis 매퍼 인터페이스
+ * 
+ * 매퍼 XML 파일: resources/mapper/UserSyncOutboxMapper.xml
+ */
+@Mapper
+public interface UserSyncOutboxMapper {
+    
+    /**
+     * 아웃박스 이벤트 등록
+     * @param event 등록할 이벤트
+     */
+    void insert(UserSyncOutbox event);
+    
+    /**
+     * 전달 가능한 이벤트를 배치 단위로 선점
+     * (PENDING 중 재시도 시각이 지난 이벤트 + 선점 기한이 만료된 PROCESSING 이벤트)
+     * @param claimToken 배치 식별자
+     * @param limit 최대 선점 건수
+     * @param leaseSeconds 선점 유지 시간(초)
+     * @return 선점된 건수
+     */
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("limit") int limit,
+                   @Param("leaseSeconds") int leaseSeconds);
+    
+    /**
+     * 배치 식별자로 선점된 이벤트 조회
+     * @param claimToken 배치 식별자
+     * @return 이벤트 목록 (ID 오름차순)
+     */
+    List<UserSyncOutbox> findByClaimToken(@Param("claimToken") String claimToken);
+    
+    /**
+     * 전달 완료 처리 (본문 제거)
+     * @param id 이벤트 ID
+     * @param claimToken 배치 식별자
+     */
+    void markDone(@Param("id") Long id, @Param("claimToken") String claimToken);
+    
+    /**
+     * 재시도 예약
+     * @param id 이벤트 ID
+     * @param claimToken 배치 식별자
+     * @param attempts 누적 시도 횟수
+     * @param delaySeconds 다음 시도까지 대기 시간(초)
+     * @param lastError 마지막 오류 메시지
+     */
+    void markRetry(@Param("id") Long id,
+                   @Param("claimToken") String claimToken,
+                   @Param("attempts") int attempts,
+                   @Param("delaySeconds") long delaySeconds,
+                   @Param("lastError") String lastError);
+    
+    /**
+     * 최종 실패 처리
+     * @param id 이벤트 ID
+     * @param claimToken 배치 식별자
+     * @param attempts 누적 시도 횟수
+     * @param lastError 마지막 오류 메시지
+     */
+    void markFailed(@Param("id") Long id,
+                    @Param("claimToken") String claimToken,
+                    @Param("attempts") int attempts,
+                    @Param("lastError") String lastError);
+}
@@ -0,0 +1,79 @@
+package com.example.usertest.store.repository;
+
+import com.example.usertest.domain.AdminJob;
+import com.example.usertest.domain.AdminJobItem;
+import com.example.usertest.store.mapper.AdminJobMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class AdminJobRepository {
+    
+    private static final int INSERT_CHUNK = 1000;
+    
+    private final AdminJobMapper adminJobMapper;
+    
+    public void save(AdminJob job) {
+        adminJobMapper.insert(job);
+    }
+    
+    public void saveItems(List<AdminJobItem> items) {
+        for (int from = 0; from < items.size(); from += INSERT_CHUNK) {
+            adminJobMapper.insertItems(items.subList(from, Math.min(from + INSERT_CHUNK, items.size())));
+        }
+    }
+    
+    public Optional<AdminJob> findById(String id) {
+        return adminJobMapper.findById(id);
+    }
+    
+    public List<AdminJob> claimBatch(String claimToken, int limit, long leaseSeconds) {
+        if (adminJobMapper.claimBatch(claimToken, limit, leaseSeconds) == 0) {
+            return List.of();
+        }
+        return adminJobMapper.findByClaimToken(claimToken);
+    }
+    
+    public boolean renewLease(String id, String claimToken, long leaseSeconds) {
+        return adminJobMapper.renewLease(id, claimToken, leaseSeconds) > 0;
+    }
+    
+    public List<AdminJobItem> findPendingItems(String jobId, int limit) {
+        return adminJobMapper.findPendingItems(jobId, limit);
+    }
+    
+    public int updateItems(List<AdminJobItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        return adminJobMapper.updateItems(items);
+    }
+    
+    public boolean addProgress(String id, String claimToken, int processed, int failed, long leaseSeconds) {
+        return adminJobMapper.addProgress(id, claimToken, processed, failed, leaseSeconds) > 0;
+    }
+    
+    public void markCompleted(String id, String claimToken) {
+        adminJobMapper.markCompleted(id, claimToken);
+    }
+    
+    public boolean markFailed(String id, String claimToken, String lastError) {
+        return adminJobMapper.markFailed(id, claimToken, lastError) > 0;
+    }
+    
+    public int failPendingItems(String jobId, String error) {
+        return adminJobMapper.failPendingItems(jobId, error);
+    }
+    
+    public void release(String id, String claimToken, String lastError, long delaySeconds) {
+        adminJobMapper.release(id, claimToken, lastError, delaySeconds);
+    }
+    
+    public List<AdminJobItem> findItems(String jobId, int afterSeq, int limit) {
+        return adminJobMapper.findItems(jobId, afterSeq, limit);
+    }
+}
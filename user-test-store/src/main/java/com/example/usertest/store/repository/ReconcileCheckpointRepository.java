@@ -0,0 +1,30 @@
+package com.example.usertest.store.repository;
+
+import com.example.usertest.domain.ReconcileCheckpoint;
+import com.example.usertest.store.mapper.ReconcileCheckpointMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ReconcileCheckpointRepository {
+    
+    private final ReconcileCheckpointMapper reconcileCheckpointMapper;
+    
+    public ReconcileCheckpoint getOrCreate(String name) {
+        return reconcileCheckpointMapper.findByName(name)
+                .orElseGet(() -> ReconcileCheckpoint.builder().name(name).build());
+    }
+    
+    public void save(ReconcileCheckpoint checkpoint) {
+        reconcileCheckpointMapper.upsert(checkpoint);
+    }
+    
+    public boolean tryLock(String name, String owner, long leaseSeconds) {
+        return reconcileCheckpointMapper.tryLock(name, owner, leaseSeconds) > 0;
+    }
+    
+    public void unlock(String name, String owner) {
+        reconcileCheckpointMapper.unlock(name, owner);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.usertest.store.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +48,46 @@ public class UserRepository {
         }
     }
     
+    public int updateKeycloakUserId(String username, String keycloakUserId) {
+        return userMapper.updateKeycloakUserId(username, keycloakUserId);
+    }
+    
+    public List<User> findByUsernames(List<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.findByUsernames(usernames);
+    }
+    
+    public List<User> findByKeycloakUserIds(List<String> keycloakUserIds) {
+        if (keycloakUserIds.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.findByKeycloakUserIds(keycloakUserIds);
+    }
+    
+    public List<User> findLinkedAfterId(long afterId, int limit) {
+        return userMapper.findLinkedAfterId(afterId, limit);
+    }
+    
+    public List<User> findUnlinkedUpdatedSince(LocalDateTime afterUpdatedAt, long afterId, int limit) {
+        return userMapper.findUnlinkedUpdatedSince(afterUpdatedAt, afterId, limit);
+    }
+    
+    public int updateKeycloakLinks(List<User> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        return userMapper.updateKeycloakLinks(users);
+    }
+    
+    public int unlinkKeycloakUsers(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return userMapper.unlinkKeycloakUsers(ids);
+    }
+    
     public void deleteById(Long id) {
         userMapper.deleteById(id);
     }
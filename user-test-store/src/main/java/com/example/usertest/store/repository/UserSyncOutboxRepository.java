@@ -0,0 +1,38 @@
+package com.example.usertest.store.repository;
+
+import com.example.usertest.domain.UserSyncOutbox;
+import com.example.usertest.store.mapper.UserSyncOutboxMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserSyncOutboxRepository {
+    
+    private final UserSyncOutboxMapper userSyncOutboxMapper;
+    
+    public void save(UserSyncOutbox event) {
+        userSyncOutboxMapper.insert(event);
+    }
+    
+    public List<UserSyncOutbox> claimBatch(String claimToken, int limit, int leaseSeconds) {
+        if (userSyncOutboxMapper.claimBatch(claimToken, limit, leaseSeconds) == 0) {
+            return List.of();
+        }
+        return userSyncOutboxMapper.findByClaimToken(claimToken);
+    }
+    
+    public void markDone(Long id, String claimToken) {
+        userSyncOutboxMapper.markDone(id, claimToken);
+    }
+    
+    public void markRetry(Long id, String claimToken, int attempts, long delaySeconds, String lastError) {
+        userSyncOutboxMapper.markRetry(id, claimToken, attempts, delaySeconds, lastError);
+    }
+    
+    public void markFailed(Long id, String claimToken, int attempts, String lastError) {
+        userSyncOutboxMapper.markFailed(id, claimToken, attempts, lastError);
+    }
+}